@@ -0,0 +1,40 @@
+package seedu.address.logic.commands;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.util.RosterState;
+
+/**
+ * Measures {@link ReportCommand#execute(Model)} over the whole roster.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReportCommandBenchmark {
+
+    private final ReportCommand reportCommand = new ReportCommand();
+    private Model model;
+
+    @Setup(Level.Trial)
+    public void setUp(RosterState roster) {
+        model = new ModelManager(roster.getAddressBook(), new UserPrefs());
+    }
+
+    @Benchmark
+    public CommandResult execute() throws CommandException {
+        return reportCommand.execute(model);
+    }
+}
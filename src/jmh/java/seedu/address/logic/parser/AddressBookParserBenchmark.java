@@ -0,0 +1,82 @@
+package seedu.address.logic.parser;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.DeleteTaskCommand;
+import seedu.address.logic.commands.EditCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.ListMemberTasksCommand;
+import seedu.address.logic.commands.ReportCommand;
+import seedu.address.logic.commands.SetDueDateCommand;
+import seedu.address.logic.commands.TaskCommand;
+import seedu.address.logic.commands.UpdateTaskCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Measures {@link AddressBookParser#parseCommand(String)} on a typical input for every command word.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AddressBookParserBenchmark {
+
+    /** Typical user input for each command word. Due dates are far enough ahead to stay valid. */
+    private static final Map<String, String> USER_INPUTS = Map.ofEntries(
+            Map.entry(AddCommand.COMMAND_WORD, "add n/John Doe p/98765432 e/johnd@example.com tele/@john123 "
+                    + "pos/Team Leader a/311, Clementi Ave 2, #02-25 t/friends t/owesMoney s/C Programming "
+                    + "s/Java Programming o/New to the team task/barbeque, 2099-05-28 14:00, yet to start"),
+            Map.entry(EditCommand.COMMAND_WORD, "edit 1 p/91234567 e/johndoe@example.com"),
+            Map.entry(DeleteCommand.COMMAND_WORD, "delete 1"),
+            Map.entry(ClearCommand.COMMAND_WORD, "clear"),
+            Map.entry(FindCommand.COMMAND_WORD, "find n/ alice bob charlie"),
+            Map.entry(TaskCommand.COMMAND_WORD, "task 1 task/Submit report, 2099-12-31 23:59, yet to start"),
+            Map.entry(UpdateTaskCommand.COMMAND_WORD, "updatetask 2 1 Finalize project, 2099-12-31 23:59, completed"),
+            Map.entry(DeleteTaskCommand.COMMAND_WORD, "deltask 1 2"),
+            Map.entry(ListCommand.COMMAND_WORD, "list"),
+            Map.entry(ListMemberTasksCommand.COMMAND_WORD, "listtasks 1"),
+            Map.entry(SetDueDateCommand.COMMAND_WORD, "setduedate 1 taskint/1 due/2099-01-01 23:59"),
+            Map.entry(ExitCommand.COMMAND_WORD, "exit"),
+            Map.entry(HelpCommand.COMMAND_WORD, "help"),
+            Map.entry(ReportCommand.COMMAND_WORD, "report"));
+
+    @Param({AddCommand.COMMAND_WORD, EditCommand.COMMAND_WORD, DeleteCommand.COMMAND_WORD,
+        ClearCommand.COMMAND_WORD, FindCommand.COMMAND_WORD, TaskCommand.COMMAND_WORD,
+        UpdateTaskCommand.COMMAND_WORD, DeleteTaskCommand.COMMAND_WORD, ListCommand.COMMAND_WORD,
+        ListMemberTasksCommand.COMMAND_WORD, SetDueDateCommand.COMMAND_WORD, ExitCommand.COMMAND_WORD,
+        HelpCommand.COMMAND_WORD, ReportCommand.COMMAND_WORD})
+    public String commandWord;
+
+    private final AddressBookParser parser = new AddressBookParser();
+    private String userInput;
+
+    /**
+     * Picks the input for {@code commandWord} and checks that it parses.
+     */
+    @Setup
+    public void setUp() throws ParseException {
+        userInput = USER_INPUTS.get(commandWord);
+        parser.parseCommand(userInput);
+    }
+
+    @Benchmark
+    public Command parseCommand() throws ParseException {
+        return parser.parseCommand(userInput);
+    }
+}
@@ -0,0 +1,49 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_OTHER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_POSITION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SKILL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TASK;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TELEGRAM;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures {@link ArgumentTokenizer#tokenize(String, Prefix...)} on the arguments of an {@code add} command,
+ * which uses every person prefix, and of a short {@code find} command.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ArgumentTokenizerBenchmark {
+
+    private static final Prefix[] PERSON_PREFIXES = {PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_TELEGRAM,
+        PREFIX_POSITION, PREFIX_ADDRESS, PREFIX_TAG, PREFIX_SKILL, PREFIX_OTHER, PREFIX_TASK};
+
+    private String addArguments = " n/John Doe p/98765432 e/johnd@example.com tele/@john123 pos/Team Leader "
+            + "a/311, Clementi Ave 2, #02-25 t/friends t/owesMoney s/C Programming s/Java Programming "
+            + "o/New to the team task/barbeque, 2099-05-28 14:00, yet to start";
+    private String findArguments = " n/ alice bob charlie";
+
+    @Benchmark
+    public ArgumentMultimap tokenizeAddArguments() {
+        return ArgumentTokenizer.tokenize(addArguments, PERSON_PREFIXES);
+    }
+
+    @Benchmark
+    public ArgumentMultimap tokenizeFindArguments() {
+        return ArgumentTokenizer.tokenize(findArguments, PERSON_PREFIXES);
+    }
+}
@@ -0,0 +1,94 @@
+package seedu.address.model.person;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.task.Task;
+import seedu.address.model.util.RosterState;
+
+/**
+ * Measures a full scan of the roster with each {@code find} predicate, and the keyword index lookup
+ * that {@code FindCommand} does before applying the predicate.
+ * {@link #tasksInKeywordsConcatenated} is the task search as it was before task descriptions were split once
+ * per task, for comparison with {@link #tasksInKeywords}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FindPredicateBenchmark {
+
+    private static final List<String> NAME_KEYWORDS = List.of("alex", "roy");
+    private static final List<String> TAG_KEYWORDS = List.of("friends", "remote");
+    private static final List<String> SKILL_KEYWORDS = List.of("java", "sql");
+    private static final List<String> TASK_KEYWORDS = List.of("report", "budget");
+
+    private final NameContainsKeywordsPredicate namePredicate = new NameContainsKeywordsPredicate(NAME_KEYWORDS);
+    private final TagsInKeywordsPredicate tagsPredicate = new TagsInKeywordsPredicate(TAG_KEYWORDS);
+    private final SkillsInKeywordsPredicate skillsPredicate = new SkillsInKeywordsPredicate(SKILL_KEYWORDS);
+    private final TasksInKeywordsPredicate tasksPredicate = new TasksInKeywordsPredicate(TASK_KEYWORDS);
+
+    @Benchmark
+    public int nameContainsKeywords(RosterState roster) {
+        return countMatches(roster.getPersons(), namePredicate);
+    }
+
+    @Benchmark
+    public int tagsInKeywords(RosterState roster) {
+        return countMatches(roster.getPersons(), tagsPredicate);
+    }
+
+    @Benchmark
+    public int skillsInKeywords(RosterState roster) {
+        return countMatches(roster.getPersons(), skillsPredicate);
+    }
+
+    @Benchmark
+    public int tasksInKeywords(RosterState roster) {
+        return countMatches(roster.getPersons(), tasksPredicate);
+    }
+
+    /**
+     * Joins the task descriptions of each person and searches the joined string for each keyword in turn.
+     */
+    @Benchmark
+    public int tasksInKeywordsConcatenated(RosterState roster) {
+        return countMatches(roster.getPersons(), person -> TASK_KEYWORDS.stream()
+                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(concatenateDescriptions(person), keyword)));
+    }
+
+    @Benchmark
+    public Set<Person> nameIndexLookup(RosterState roster) {
+        return roster.getAddressBook().findPersons(PersonKeywordIndex.Field.NAME, NAME_KEYWORDS);
+    }
+
+    @Benchmark
+    public Set<Person> taskIndexLookup(RosterState roster) {
+        return roster.getAddressBook().findPersons(PersonKeywordIndex.Field.TASK, TASK_KEYWORDS);
+    }
+
+    private static String concatenateDescriptions(Person person) {
+        return person.getTasks().stream()
+                .map(Task::getDescription)
+                .reduce("", (acc, description) -> acc + description + " ");
+    }
+
+    private static int countMatches(List<Person> persons, Predicate<Person> predicate) {
+        int matches = 0;
+        for (Person person : persons) {
+            if (predicate.test(person)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+}
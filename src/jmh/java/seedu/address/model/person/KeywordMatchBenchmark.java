@@ -0,0 +1,104 @@
+package seedu.address.model.person;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.task.Task;
+import seedu.address.model.util.RosterState;
+
+/**
+ * Compares matching keywords against the names, tags and task descriptions of the roster with
+ * {@link StringUtil#containsWordIgnoreCase}, once per keyword per field, and with the lower-case words that
+ * {@code Name}, {@code Tag} and {@code Task} split once when they are created.
+ * The allocation rate of each is reported by the gc profiler that the jmh task enables.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class KeywordMatchBenchmark {
+
+    private static final List<String> KEYWORDS = List.of("Alex", "Roy", "friends", "Report", "budget");
+    private static final Set<String> LOWER_CASE_KEYWORDS = StringUtil.toLowerCaseWordSet(KEYWORDS);
+
+    /**
+     * Counts the persons with a name, tag or task description that contains a keyword, splitting each field
+     * and validating each keyword on every comparison.
+     */
+    @Benchmark
+    public int containsWordIgnoreCase(RosterState roster) {
+        int matches = 0;
+        for (Person person : roster.getPersons()) {
+            if (matchesBySplitting(person)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Counts the same persons as {@link #containsWordIgnoreCase}, looking up the precomputed words of each field.
+     */
+    @Benchmark
+    public int precomputedWords(RosterState roster) {
+        int matches = 0;
+        for (Person person : roster.getPersons()) {
+            if (matchesByPrecomputedWords(person)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    private static boolean matchesBySplitting(Person person) {
+        if (anyKeywordIn(person.getName().fullName)) {
+            return true;
+        }
+        for (Tag tag : person.getTags()) {
+            if (anyKeywordIn(tag.tagName)) {
+                return true;
+            }
+        }
+        for (Task task : person.getTasks()) {
+            if (anyKeywordIn(task.getDescription())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean anyKeywordIn(String sentence) {
+        for (String keyword : KEYWORDS) {
+            if (StringUtil.containsWordIgnoreCase(sentence, keyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean matchesByPrecomputedWords(Person person) {
+        if (person.getName().hasWordIn(LOWER_CASE_KEYWORDS)) {
+            return true;
+        }
+        for (Tag tag : person.getTags()) {
+            if (tag.hasWordIn(LOWER_CASE_KEYWORDS)) {
+                return true;
+            }
+        }
+        for (Task task : person.getTasks()) {
+            if (task.hasDescriptionWordIn(LOWER_CASE_KEYWORDS)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,53 @@
+package seedu.address.model.person;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.model.task.TaskStatus;
+import seedu.address.model.util.RosterState;
+
+/**
+ * Measures a {@code find} with a name, tag, task status and due date condition, evaluated by
+ * {@link PersonQuery#findMatches} from the most selective index lookup, against testing every person
+ * of the roster with the conditions chained as predicates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PersonQueryBenchmark {
+
+    private final PersonQuery query = new PersonQuery(List.of(
+            new KeywordClause(new NameContainsKeywordsPredicate(List.of("alex"))),
+            new KeywordClause(new TagsInKeywordsPredicate(List.of("backend"))),
+            new TaskStatusClause(TaskStatus.IN_PROGRESS),
+            new DueBeforeClause(LocalDateTime.of(2099, 2, 1, 0, 0))));
+
+    @Benchmark
+    public Set<Person> plannedQuery(RosterState roster) {
+        return query.findMatches(roster.getAddressBook());
+    }
+
+    /**
+     * Tests every person against each condition in turn, as the {@code find} conditions would be applied
+     * to the filtered list one after another.
+     */
+    @Benchmark
+    public int chainedPredicates(RosterState roster) {
+        int matches = 0;
+        for (Person person : roster.getPersons()) {
+            if (query.test(person)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+}
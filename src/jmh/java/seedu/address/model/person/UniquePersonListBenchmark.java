@@ -0,0 +1,81 @@
+package seedu.address.model.person;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.model.util.RosterState;
+
+/**
+ * Measures building a {@link UniquePersonList} of the whole roster one person at a time, and replacing
+ * a single person in a full list.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UniquePersonListBenchmark {
+
+    private UniquePersonList fullList;
+    /** The persons currently in {@code fullList}, and the person each one is swapped with next. */
+    private Person[] current;
+    private Person[] replacements;
+    private int cursor;
+
+    /**
+     * Fills {@code fullList} with the roster and prepares an edited copy of every person.
+     */
+    @Setup(Level.Trial)
+    public void setUp(RosterState roster) {
+        List<Person> persons = roster.getPersons();
+        fullList = new UniquePersonList();
+        fullList.setPersons(persons);
+        current = persons.toArray(new Person[0]);
+        replacements = new Person[current.length];
+        for (int i = 0; i < current.length; i++) {
+            replacements[i] = withPhone(current[i], new Phone("9" + current[i].getPhone().value));
+        }
+    }
+
+    /**
+     * Adds every person of the roster to an empty list.
+     */
+    @Benchmark
+    public UniquePersonList add(RosterState roster) {
+        UniquePersonList list = new UniquePersonList();
+        for (Person person : roster.getPersons()) {
+            list.add(person);
+        }
+        return list;
+    }
+
+    /**
+     * Replaces the next person in {@code fullList} with its edited copy, or restores the original
+     * if the edited copy is the one in the list.
+     */
+    @Benchmark
+    public UniquePersonList setPerson() {
+        int i = cursor;
+        cursor = (cursor + 1) % current.length;
+
+        Person target = current[i];
+        Person editedPerson = replacements[i];
+        fullList.setPerson(target, editedPerson);
+        current[i] = editedPerson;
+        replacements[i] = target;
+        return fullList;
+    }
+
+    private static Person withPhone(Person person, Phone phone) {
+        return new Person(person.getName(), phone, person.getEmail(), person.getTelegram(), person.getPosition(),
+                person.getAddress(), person.getTags(), person.getSkills(), person.getOthers(),
+                person.getTaskStatus(), person.getTasks());
+    }
+}
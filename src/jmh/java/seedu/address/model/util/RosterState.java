@@ -0,0 +1,49 @@
+package seedu.address.model.util;
+
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * A synthetic roster shared by the benchmarks that depend on the size of the address book.
+ */
+@State(Scope.Benchmark)
+public class RosterState {
+
+    @Param({"1000", "10000", "100000"})
+    public int persons;
+
+    @Param({"1", "10"})
+    public int tasksPerPerson;
+
+    private List<Person> personList;
+    private AddressBook addressBook;
+
+    /**
+     * Generates the roster once per trial, outside of the measured code.
+     */
+    @Setup(Level.Trial)
+    public void generate() {
+        personList = SyntheticDataUtil.getSyntheticPersons(persons, tasksPerPerson);
+        addressBook = new AddressBook();
+        addressBook.setPersons(personList);
+    }
+
+    public List<Person> getPersons() {
+        return personList;
+    }
+
+    /**
+     * Returns the roster as an address book. Benchmarks that modify it must work on a copy.
+     */
+    public AddressBook getAddressBook() {
+        return addressBook;
+    }
+}
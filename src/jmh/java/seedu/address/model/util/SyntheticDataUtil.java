@@ -0,0 +1,104 @@
+package seedu.address.model.util;
+
+import static seedu.address.model.util.SampleDataUtil.getOtherSet;
+import static seedu.address.model.util.SampleDataUtil.getSkillSet;
+import static seedu.address.model.util.SampleDataUtil.getTagSet;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Position;
+import seedu.address.model.person.Telegram;
+import seedu.address.model.task.Task;
+import seedu.address.model.task.TaskStatus;
+
+/**
+ * Generates rosters of any size for benchmarks, drawing names, tags, skills and positions from pools
+ * in the style of {@code SampleDataUtil}.
+ * The same arguments always generate the same persons, so results of different runs can be compared.
+ */
+public class SyntheticDataUtil {
+
+    public static final String[] FIRST_NAMES = {
+        "Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy", "Fiona", "George", "Hannah", "Kurz"
+    };
+    public static final String[] LAST_NAMES = {
+        "Yeoh", "Yu", "Oliveiro", "Li", "Ibrahim", "Balakrishnan", "Kunz", "Best", "Meier", "Tan"
+    };
+    public static final String[] TAGS = {
+        "friends", "colleagues", "neighbours", "family", "classmates", "backend", "frontend", "remote"
+    };
+    public static final String[] SKILLS = {
+        "C Programming", "java", "python", "json", "css", "html", "marketing", "sql"
+    };
+    public static final String[] POSITIONS = {
+        "Team Leader", "Backend Developer", "UI Developer", "Sales Person", "team member"
+    };
+    public static final String[] TASK_WORDS = {
+        "barbeque", "house visit", "neighbour", "outing", "report", "presentation", "review", "budget"
+    };
+
+    private static final String[] MEMBER_STATUSES = {"completed", "in progress", "yet to start"};
+    private static final LocalDateTime FIRST_DUE_DATE = LocalDateTime.of(2099, 1, 1, 9, 0);
+    private static final long SEED = 42;
+
+    /**
+     * Returns {@code count} persons with distinct names, each with {@code tasksPerPerson} tasks.
+     */
+    public static List<Person> getSyntheticPersons(int count, int tasksPerPerson) {
+        Random random = new Random(SEED);
+        List<Person> persons = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            persons.add(getSyntheticPerson(i, tasksPerPerson, random));
+        }
+        return persons;
+    }
+
+    /**
+     * Returns an address book holding {@link #getSyntheticPersons(int, int)}.
+     */
+    public static AddressBook getSyntheticAddressBook(int count, int tasksPerPerson) {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(getSyntheticPersons(count, tasksPerPerson));
+        return addressBook;
+    }
+
+    /**
+     * Returns the {@code i}-th synthetic person. Persons with different {@code i} have different names.
+     */
+    public static Person getSyntheticPerson(int i, int tasksPerPerson, Random random) {
+        String firstName = pick(FIRST_NAMES, random);
+        String lastName = pick(LAST_NAMES, random);
+        String handle = firstName.toLowerCase() + i;
+
+        List<Task> tasks = new ArrayList<>(tasksPerPerson);
+        for (int t = 0; t < tasksPerPerson; t++) {
+            LocalDateTime dueDate = random.nextBoolean() ? FIRST_DUE_DATE.plusHours(random.nextInt(24 * 365)) : null;
+            tasks.add(new Task(pick(TASK_WORDS, random) + " " + t, pick(TaskStatus.values(), random), dueDate));
+        }
+
+        return new Person(new Name(firstName + " " + lastName + " " + i),
+                new Phone(String.valueOf(80000000 + i)),
+                new Email(handle + "@example.com"),
+                new Telegram("@" + handle),
+                Position.of(pick(POSITIONS, random)),
+                new Address("Blk " + (i % 1000) + " Serangoon Gardens Street " + (i % 90) + ", #11-04"),
+                getTagSet(pick(TAGS, random), pick(TAGS, random)),
+                getSkillSet(pick(SKILLS, random), pick(SKILLS, random)),
+                getOtherSet("generated"),
+                pick(MEMBER_STATUSES, random),
+                tasks);
+    }
+
+    private static <T> T pick(T[] pool, Random random) {
+        return pool[random.nextInt(pool.length)];
+    }
+}
@@ -0,0 +1,91 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.AtomicFileWriter;
+import seedu.address.commons.util.FsyncPolicy;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.util.RosterState;
+
+/**
+ * Measures reading and writing the roster with {@link JsonAddressBookStorage}, in its indented and compact
+ * forms, and with {@link BinaryAddressBookStorage}.
+ * Files are not synced to disk, so that the results reflect serialization rather than the disk.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AddressBookStorageBenchmark {
+
+    @Param({"json", "compactJson", "binary"})
+    public String format;
+
+    private Path folder;
+    private AddressBookStorage storage;
+
+    /**
+     * Creates the storage for {@code format} in a fresh folder and saves the roster to it.
+     */
+    @Setup(Level.Trial)
+    public void setUp(RosterState roster) throws IOException {
+        folder = Files.createTempDirectory("storage-benchmark");
+        Path jsonFilePath = folder.resolve("addressbook.json");
+        AtomicFileWriter fileWriter = new AtomicFileWriter(FsyncPolicy.NEVER, 0);
+
+        switch (format) {
+        case "json":
+            storage = new JsonAddressBookStorage(jsonFilePath, false, fileWriter);
+            break;
+        case "compactJson":
+            storage = new JsonAddressBookStorage(jsonFilePath, true, fileWriter);
+            break;
+        case "binary":
+            storage = new BinaryAddressBookStorage(BinaryAddressBookStorage.getBinaryFilePath(jsonFilePath),
+                    fileWriter, null);
+            break;
+        default:
+            throw new IllegalArgumentException("Unknown storage format: " + format);
+        }
+        storage.saveAddressBook(roster.getAddressBook());
+    }
+
+    /**
+     * Deletes the folder created by {@link #setUp(RosterState)}.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(folder)) {
+            for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public Optional<ReadOnlyAddressBook> read() throws DataLoadingException {
+        return storage.readAddressBook();
+    }
+
+    @Benchmark
+    public void write(RosterState roster) throws IOException {
+        storage.saveAddressBook(roster.getAddressBook());
+    }
+}
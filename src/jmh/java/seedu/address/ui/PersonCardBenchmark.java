@@ -0,0 +1,93 @@
+package seedu.address.ui;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import javafx.application.Platform;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.SyntheticDataUtil;
+
+/**
+ * Measures showing the next screenful of persons while scrolling the person list: either by creating
+ * a new {@link PersonCard} for each person, as cells used to, or by rebinding the cards the cells already have.
+ * Run with the {@code gc} profiler to see the allocation per scroll step.
+ * The cards are not attached to a scene, so this needs the JavaFX toolkit but no window.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PersonCardBenchmark {
+
+    /** Number of cells visible at once, i.e. the number of cards updated by one scroll step. */
+    private static final int VISIBLE_CELLS = 12;
+    private static final int PERSONS = 50_000;
+
+    @Param({"1", "10"})
+    public int tasksPerPerson;
+
+    private List<Person> persons;
+    private PersonCard[] cards;
+    private int firstVisible;
+
+    /**
+     * Starts the JavaFX toolkit and creates one card per visible cell.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        try {
+            Platform.startup(() -> { });
+        } catch (IllegalStateException e) {
+            // toolkit already started by an earlier trial in this fork
+        }
+        persons = SyntheticDataUtil.getSyntheticPersons(PERSONS, tasksPerPerson);
+        cards = new PersonCard[VISIBLE_CELLS];
+        for (int i = 0; i < VISIBLE_CELLS; i++) {
+            cards[i] = new PersonCard(persons.get(i), i + 1);
+        }
+    }
+
+    /**
+     * Scrolls down by one screenful, creating a new card for every visible person.
+     */
+    @Benchmark
+    @OperationsPerInvocation(VISIBLE_CELLS)
+    public PersonCard[] scrollWithNewCards() {
+        int first = nextScreenful();
+        for (int i = 0; i < VISIBLE_CELLS; i++) {
+            cards[i] = new PersonCard(persons.get(first + i), first + i + 1);
+        }
+        return cards;
+    }
+
+    /**
+     * Scrolls down by one screenful, showing the next persons on the existing cards.
+     */
+    @Benchmark
+    @OperationsPerInvocation(VISIBLE_CELLS)
+    public PersonCard[] scrollWithReusedCards() {
+        int first = nextScreenful();
+        for (int i = 0; i < VISIBLE_CELLS; i++) {
+            cards[i].setPerson(persons.get(first + i), first + i + 1);
+        }
+        return cards;
+    }
+
+    private int nextScreenful() {
+        firstVisible += VISIBLE_CELLS;
+        if (firstVisible + VISIBLE_CELLS > persons.size()) {
+            firstVisible = 0;
+        }
+        return firstVisible;
+    }
+}
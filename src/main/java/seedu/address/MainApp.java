@@ -2,20 +2,27 @@ package seedu.address;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.scene.image.Image;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
+import seedu.address.commons.events.FlightRecorderEvents;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.AtomicFileWriter;
 import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.CommandMetrics;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
+import seedu.address.logic.ReminderScheduler;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -24,6 +31,8 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
@@ -44,8 +53,11 @@ public class MainApp extends Application {
     protected Ui ui;
     protected Logic logic;
     protected Storage storage;
+    protected AtomicFileWriter fileWriter;
     protected Model model;
     protected Config config;
+    protected ReminderScheduler reminderScheduler;
+    protected CommandMetrics commandMetrics;
 
     @Override
     public void init() throws Exception {
@@ -55,23 +67,47 @@ public class MainApp extends Application {
         AppParameters appParameters = AppParameters.parse(getParameters());
         config = initConfig(appParameters.getConfigPath());
         initLogging(config);
+        // Enabled before the data is read, so that recordings include the initial load
+        FlightRecorderEvents.setEnabled(config.isFlightRecorderEventsEnabled());
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        fileWriter = new AtomicFileWriter(config.getFsyncPolicy(), config.getFsyncIntervalMillis());
+        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath(),
+                config.isCompactJsonEnabled(), fileWriter);
+        if (config.isBinaryStorageEnabled()) {
+            // Until the binary file is first saved, data is read from the JSON file it replaces
+            addressBookStorage = new BinaryAddressBookStorage(
+                    BinaryAddressBookStorage.getBinaryFilePath(userPrefs.getAddressBookFilePath()), fileWriter,
+                    addressBookStorage);
+        }
+        if (config.isJournalEnabled()) {
+            addressBookStorage = new JournaledAddressBookStorage(addressBookStorage,
+                    config.getJournalCompactionThreshold());
+        }
+        storage = config.isWriteBehindEnabled()
+                ? new StorageManager(addressBookStorage, userPrefsStorage, config.getWriteBehindDelayMillis())
+                : new StorageManager(addressBookStorage, userPrefsStorage);
 
         model = initModelManager(storage, userPrefs);
 
-        logic = new LogicManager(model, storage);
+        commandMetrics = new CommandMetrics();
+        if (config.getMetricsDumpIntervalMinutes() > 0) {
+            commandMetrics.startPeriodicDump(Duration.ofMinutes(config.getMetricsDumpIntervalMinutes()));
+        }
+        logic = new LogicManager(model, storage, Platform::runLater, commandMetrics);
 
         ui = new UiManager(logic);
+
+        reminderScheduler = new ReminderScheduler(model.getAddressBook().getPersonList(), Clock.systemDefaultZone(),
+                Duration.ofMinutes(config.getReminderLeadMinutes()), ui::showReminder);
     }
 
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
-     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
-     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * The data from the sample address book will be used instead if {@code storage}'s address book is not found.
+     * If errors occur when reading {@code storage}'s address book, its backup will be used instead,
+     * or an empty address book if the backup cannot be read either.
      */
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
         logger.info("Using data file : " + storage.getAddressBookFilePath());
@@ -86,14 +122,50 @@ public class MainApp extends Application {
             }
             initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
         } catch (DataLoadingException e) {
-            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
-                    + " Will be starting with an empty AddressBook.");
-            initialData = new AddressBook();
+            setAsideCorruptAddressBook(storage);
+            initialData = readBackupAddressBook(storage);
         }
 
         return new ModelManager(initialData, userPrefs);
     }
 
+    /**
+     * Moves {@code storage}'s data file, which could not be loaded, out of the way, so that the first save
+     * does not replace the backup with it.
+     */
+    private void setAsideCorruptAddressBook(Storage storage) {
+        Path filePath = storage.getAddressBookFilePath();
+        try {
+            if (AtomicFileWriter.setAsideCorruptFile(filePath)) {
+                logger.warning("Moved the data file that could not be loaded to "
+                        + AtomicFileWriter.getCorruptPath(filePath) + ".");
+            }
+        } catch (IOException e) {
+            logger.warning("Could not move the data file that could not be loaded " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Returns the address book kept in the backup of {@code storage}'s data file,
+     * or an empty address book if there is no readable backup.
+     */
+    private ReadOnlyAddressBook readBackupAddressBook(Storage storage) {
+        Path backupFilePath = storage.getBackupFilePath();
+        logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
+                + " Trying the backup at " + backupFilePath + ".");
+        try {
+            Optional<ReadOnlyAddressBook> backupOptional = storage.readBackupAddressBook();
+            if (backupOptional.isPresent()) {
+                logger.warning("Starting with the AddressBook from the backup " + backupFilePath + ".");
+                return backupOptional.get();
+            }
+        } catch (DataLoadingException e) {
+            logger.warning("Backup at " + backupFilePath + " could not be loaded either.");
+        }
+        logger.warning("Will be starting with an empty AddressBook.");
+        return new AddressBook();
+    }
+
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
@@ -175,15 +247,30 @@ public class MainApp extends Application {
         primaryStage.setTitle("TeamScape");
         primaryStage.getIcons().add(new Image("/images/TeamScape_icon_32.png"));
         ui.start(primaryStage);
+        reminderScheduler.start();
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        reminderScheduler.stop();
+        logic.shutdown();
+        commandMetrics.stopPeriodicDump();
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            storage.flushAddressBook();
+        } catch (IOException e) {
+            logger.severe("Failed to save address book " + StringUtil.getDetails(e));
+        }
+        try {
+            fileWriter.forceSkippedWrites();
+        } catch (IOException e) {
+            logger.severe("Failed to force address book to disk " + StringUtil.getDetails(e));
+        }
+        LogsCenter.flush();
     }
 }
@@ -0,0 +1,199 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * A {@code Handler} that hands log records to other handlers on a background thread, so that logging does not
+ * wait for the console or the log file.
+ *
+ * <p>Records are kept in a bounded buffer (an array used as a ring) until the background thread publishes them,
+ * in the order they were logged. When the buffer is full, the {@link LogOverflowPolicy} decides whether the
+ * logging thread waits or the record is dropped. {@link #flush()} waits until every record logged before it is
+ * published, and {@link #close()} does the same before closing the other handlers.
+ */
+public class AsyncLogHandler extends Handler {
+
+    public static final String MESSAGE_DROPPED = "%1$d log record(s) dropped because the log buffer was full";
+
+    private static final long CLOSE_TIMEOUT_MILLIS = 5000;
+
+    private final List<Handler> targets;
+    private final BlockingQueue<LogRecord> buffer;
+    private final Thread flushThread;
+    private volatile LogOverflowPolicy overflowPolicy;
+
+    /** Number of records dropped since the last drop was reported. Guarded by {@code this}. */
+    private long droppedCount;
+    /** Number of records added to the buffer, and number of those published. Guarded by {@code this}. */
+    private long enqueuedCount;
+    private long publishedCount;
+    private volatile boolean isClosed;
+
+    /**
+     * Creates a handler that publishes to {@code targets} on a new background thread named {@code threadName},
+     * buffering at most {@code capacity} records.
+     */
+    public AsyncLogHandler(List<Handler> targets, int capacity, LogOverflowPolicy overflowPolicy,
+                           String threadName) {
+        requireNonNull(targets);
+        requireNonNull(overflowPolicy);
+        this.targets = List.copyOf(targets);
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        this.overflowPolicy = overflowPolicy;
+        flushThread = new Thread(this::publishBuffered, threadName);
+        flushThread.setDaemon(true);
+        flushThread.start();
+    }
+
+    public LogOverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    public void setOverflowPolicy(LogOverflowPolicy overflowPolicy) {
+        this.overflowPolicy = requireNonNull(overflowPolicy);
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (isClosed || !isLoggable(record)) {
+            return;
+        }
+        // The source is found by walking the stack, which must happen on the thread that logged the record
+        record.getSourceClassName();
+
+        if (overflowPolicy == LogOverflowPolicy.DROP) {
+            synchronized (this) {
+                if (buffer.offer(record)) {
+                    enqueuedCount++;
+                } else {
+                    droppedCount++;
+                }
+            }
+            return;
+        }
+
+        try {
+            // Records from several threads may wait here; each keeps its place only once it is in the buffer
+            buffer.put(record);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            reportError("Interrupted while waiting for room in the log buffer", e, ErrorManager.WRITE_FAILURE);
+            return;
+        }
+        synchronized (this) {
+            enqueuedCount++;
+        }
+    }
+
+    /**
+     * Waits until every record logged before this call is published, then flushes the other handlers.
+     * Returns at once if called from the background thread.
+     */
+    @Override
+    public void flush() {
+        if (Thread.currentThread() == flushThread) {
+            return;
+        }
+        synchronized (this) {
+            long target = enqueuedCount;
+            while (publishedCount < target && flushThread.isAlive()) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+        targets.forEach(Handler::flush);
+    }
+
+    /**
+     * Publishes the records still in the buffer, stops the background thread and closes the other handlers.
+     * Records logged afterwards are ignored.
+     */
+    @Override
+    public void close() {
+        if (isClosed) {
+            return;
+        }
+        isClosed = true;
+        flush();
+        flushThread.interrupt();
+        try {
+            flushThread.join(CLOSE_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        targets.forEach(Handler::close);
+    }
+
+    /**
+     * Publishes buffered records as they arrive, a batch at a time, until the handler is closed.
+     */
+    private void publishBuffered() {
+        List<LogRecord> batch = new ArrayList<>();
+        while (!isClosed || !buffer.isEmpty()) {
+            try {
+                LogRecord first = buffer.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+            } catch (InterruptedException e) {
+                if (buffer.isEmpty()) {
+                    break;
+                }
+            }
+            buffer.drainTo(batch);
+            publishToTargets(batch);
+
+            LogRecord droppedRecord = takeDroppedRecord();
+            if (droppedRecord != null) {
+                publishToTargets(List.of(droppedRecord));
+            }
+            synchronized (this) {
+                publishedCount += batch.size();
+                notifyAll();
+            }
+            batch.clear();
+        }
+    }
+
+    private void publishToTargets(List<LogRecord> records) {
+        for (LogRecord record : records) {
+            for (Handler target : targets) {
+                try {
+                    target.publish(record);
+                } catch (RuntimeException e) {
+                    reportError("Failed to publish log record", e, ErrorManager.WRITE_FAILURE);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns a record reporting the records dropped since the last report, or null if none were dropped.
+     */
+    private synchronized LogRecord takeDroppedRecord() {
+        if (droppedCount == 0) {
+            return null;
+        }
+        LogRecord record = new LogRecord(Level.WARNING, String.format(MESSAGE_DROPPED, droppedCount));
+        record.setLoggerName(AsyncLogHandler.class.getName());
+        record.setSourceClassName(AsyncLogHandler.class.getName());
+        record.setSourceMethodName("publish");
+        droppedCount = 0;
+        return record;
+    }
+}
@@ -5,6 +5,7 @@ import java.nio.file.Paths;
 import java.util.Objects;
 import java.util.logging.Level;
 
+import seedu.address.commons.util.FsyncPolicy;
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
@@ -16,7 +17,19 @@ public class Config {
 
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
+    private LogOverflowPolicy logOverflowPolicy = LogOverflowPolicy.BLOCK;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private boolean journalEnabled = false;
+    private int journalCompactionThreshold = 1000;
+    private boolean writeBehindEnabled = false;
+    private long writeBehindDelayMillis = 200;
+    private boolean compactJsonEnabled = false;
+    private FsyncPolicy fsyncPolicy = FsyncPolicy.ALWAYS;
+    private long fsyncIntervalMillis = 5000;
+    private boolean binaryStorageEnabled = false;
+    private long reminderLeadMinutes = 60;
+    private long metricsDumpIntervalMinutes = 10;
+    private boolean flightRecorderEventsEnabled = false;
 
     public Level getLogLevel() {
         return logLevel;
@@ -26,6 +39,14 @@ public class Config {
         this.logLevel = logLevel;
     }
 
+    public LogOverflowPolicy getLogOverflowPolicy() {
+        return logOverflowPolicy;
+    }
+
+    public void setLogOverflowPolicy(LogOverflowPolicy logOverflowPolicy) {
+        this.logOverflowPolicy = logOverflowPolicy;
+    }
+
     public Path getUserPrefsFilePath() {
         return userPrefsFilePath;
     }
@@ -34,6 +55,94 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public boolean isJournalEnabled() {
+        return journalEnabled;
+    }
+
+    public void setJournalEnabled(boolean journalEnabled) {
+        this.journalEnabled = journalEnabled;
+    }
+
+    public int getJournalCompactionThreshold() {
+        return journalCompactionThreshold;
+    }
+
+    public void setJournalCompactionThreshold(int journalCompactionThreshold) {
+        this.journalCompactionThreshold = journalCompactionThreshold;
+    }
+
+    public boolean isWriteBehindEnabled() {
+        return writeBehindEnabled;
+    }
+
+    public void setWriteBehindEnabled(boolean writeBehindEnabled) {
+        this.writeBehindEnabled = writeBehindEnabled;
+    }
+
+    public long getWriteBehindDelayMillis() {
+        return writeBehindDelayMillis;
+    }
+
+    public void setWriteBehindDelayMillis(long writeBehindDelayMillis) {
+        this.writeBehindDelayMillis = writeBehindDelayMillis;
+    }
+
+    public boolean isCompactJsonEnabled() {
+        return compactJsonEnabled;
+    }
+
+    public void setCompactJsonEnabled(boolean compactJsonEnabled) {
+        this.compactJsonEnabled = compactJsonEnabled;
+    }
+
+    public FsyncPolicy getFsyncPolicy() {
+        return fsyncPolicy;
+    }
+
+    public void setFsyncPolicy(FsyncPolicy fsyncPolicy) {
+        this.fsyncPolicy = fsyncPolicy;
+    }
+
+    public long getFsyncIntervalMillis() {
+        return fsyncIntervalMillis;
+    }
+
+    public void setFsyncIntervalMillis(long fsyncIntervalMillis) {
+        this.fsyncIntervalMillis = fsyncIntervalMillis;
+    }
+
+    public boolean isBinaryStorageEnabled() {
+        return binaryStorageEnabled;
+    }
+
+    public void setBinaryStorageEnabled(boolean binaryStorageEnabled) {
+        this.binaryStorageEnabled = binaryStorageEnabled;
+    }
+
+    public long getReminderLeadMinutes() {
+        return reminderLeadMinutes;
+    }
+
+    public void setReminderLeadMinutes(long reminderLeadMinutes) {
+        this.reminderLeadMinutes = reminderLeadMinutes;
+    }
+
+    public long getMetricsDumpIntervalMinutes() {
+        return metricsDumpIntervalMinutes;
+    }
+
+    public void setMetricsDumpIntervalMinutes(long metricsDumpIntervalMinutes) {
+        this.metricsDumpIntervalMinutes = metricsDumpIntervalMinutes;
+    }
+
+    public boolean isFlightRecorderEventsEnabled() {
+        return flightRecorderEventsEnabled;
+    }
+
+    public void setFlightRecorderEventsEnabled(boolean flightRecorderEventsEnabled) {
+        this.flightRecorderEventsEnabled = flightRecorderEventsEnabled;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,19 +156,46 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && logOverflowPolicy == otherConfig.logOverflowPolicy
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && journalEnabled == otherConfig.journalEnabled
+                && journalCompactionThreshold == otherConfig.journalCompactionThreshold
+                && writeBehindEnabled == otherConfig.writeBehindEnabled
+                && writeBehindDelayMillis == otherConfig.writeBehindDelayMillis
+                && compactJsonEnabled == otherConfig.compactJsonEnabled
+                && fsyncPolicy == otherConfig.fsyncPolicy
+                && fsyncIntervalMillis == otherConfig.fsyncIntervalMillis
+                && binaryStorageEnabled == otherConfig.binaryStorageEnabled
+                && reminderLeadMinutes == otherConfig.reminderLeadMinutes
+                && metricsDumpIntervalMinutes == otherConfig.metricsDumpIntervalMinutes
+                && flightRecorderEventsEnabled == otherConfig.flightRecorderEventsEnabled;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, logOverflowPolicy, userPrefsFilePath, journalEnabled,
+                journalCompactionThreshold, writeBehindEnabled, writeBehindDelayMillis, compactJsonEnabled, fsyncPolicy,
+                fsyncIntervalMillis, binaryStorageEnabled, reminderLeadMinutes, metricsDumpIntervalMinutes,
+                flightRecorderEventsEnabled);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
+                .add("logOverflowPolicy", logOverflowPolicy)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("journalEnabled", journalEnabled)
+                .add("journalCompactionThreshold", journalCompactionThreshold)
+                .add("writeBehindEnabled", writeBehindEnabled)
+                .add("writeBehindDelayMillis", writeBehindDelayMillis)
+                .add("compactJsonEnabled", compactJsonEnabled)
+                .add("fsyncPolicy", fsyncPolicy)
+                .add("fsyncIntervalMillis", fsyncIntervalMillis)
+                .add("binaryStorageEnabled", binaryStorageEnabled)
+                .add("reminderLeadMinutes", reminderLeadMinutes)
+                .add("metricsDumpIntervalMinutes", metricsDumpIntervalMinutes)
+                .add("flightRecorderEventsEnabled", flightRecorderEventsEnabled)
                 .toString();
     }
 
@@ -0,0 +1,11 @@
+package seedu.address.commons.core;
+
+/**
+ * What {@link AsyncLogHandler} does with a log record when its buffer is full.
+ */
+public enum LogOverflowPolicy {
+    /** The logging thread waits until there is room in the buffer. No record is lost. */
+    BLOCK,
+    /** The record is dropped, and the number of dropped records is logged once there is room again. */
+    DROP
+}
@@ -3,9 +3,12 @@ package seedu.address.commons.core;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.FileHandler;
+import java.util.logging.Handler;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.logging.SimpleFormatter;
@@ -16,13 +19,19 @@ import java.util.logging.SimpleFormatter;
  * These loggers have been configured to output messages to the console and a {@code .log} file by default,
  *   at the {@code INFO} level. A new {@code .log} file with a new numbering will be created after the log
  *   file reaches 5MB big, up to a maximum of 5 files.<br>
+ * Messages are written to the console and the file on a background thread, so that logging does not wait for
+ *   either; see {@link AsyncLogHandler}. Messages still buffered when the JVM exits are written by the
+ *   {@code LogManager} shutdown hook, which closes the handler.
  */
 public class LogsCenter {
     private static final int MAX_FILE_COUNT = 5;
     private static final int MAX_FILE_SIZE_IN_BYTES = (int) (Math.pow(2, 20) * 5); // 5MB
     private static final String LOG_FILE = "addressbook.log";
+    private static final int LOG_BUFFER_CAPACITY = 1024;
+    private static final String LOG_THREAD_NAME = "log-writer";
     private static final Logger logger; // logger for this class
     private static Logger baseLogger; // to be used as the parent of all other loggers created by this class.
+    private static AsyncLogHandler asyncHandler; // writes the log messages of the baseLogger
     private static Level currentLogLevel = Level.INFO;
 
     // This static block ensures essential loggers are created early
@@ -34,12 +43,21 @@ public class LogsCenter {
     /**
      * Initializes loggers with the log level specified in the {@code config} object. Applies to all loggers created
      * using {@link #getLogger(String)} and {@link #getLogger(Class)} methods except for those that are manually set.
+     * Also sets what happens to log messages when too many are waiting to be written.
      */
     public static void init(Config config) {
         currentLogLevel = config.getLogLevel();
         logger.info("Log level will be set as: " + currentLogLevel);
         // set the level of the baseLogger which will be inherited by other loggers
         baseLogger.setLevel(currentLogLevel);
+        asyncHandler.setOverflowPolicy(config.getLogOverflowPolicy());
+    }
+
+    /**
+     * Waits until every message logged so far is written to the console and the log file.
+     */
+    public static void flush() {
+        asyncHandler.flush();
     }
 
     /**
@@ -75,8 +93,9 @@ public class LogsCenter {
     }
 
     /**
-     * Creates a logger named 'ab3', containing a {@code ConsoleHandler} and a {@code FileHandler}.
-     * Sets it as the {@code baseLogger}, to be used as the parent logger of all other loggers.
+     * Creates a logger named 'ab3', containing an {@code AsyncLogHandler} that writes to a {@code ConsoleHandler}
+     * and a {@code FileHandler}. Sets it as the {@code baseLogger}, to be used as the parent logger of all other
+     * loggers.
      */
     private static void setBaseLogger() {
         baseLogger = Logger.getLogger("ab3");
@@ -85,20 +104,29 @@ public class LogsCenter {
 
         // Level.ALL is used as the level for the handlers because the baseLogger filters the log messages by level
         // already; there is no need to control log message level of the handlers.
+        List<Handler> handlers = new ArrayList<>();
 
         // add a ConsoleHandler to log to the console
         ConsoleHandler consoleHandler = new ConsoleHandler();
         consoleHandler.setLevel(Level.ALL);
-        baseLogger.addHandler(consoleHandler);
+        handlers.add(consoleHandler);
 
         // add a FileHandler to log to a file
+        IOException fileHandlerError = null;
         try {
             FileHandler fileHandler = new FileHandler(LOG_FILE, MAX_FILE_SIZE_IN_BYTES, MAX_FILE_COUNT, true);
             fileHandler.setFormatter(new SimpleFormatter());
             fileHandler.setLevel(Level.ALL);
-            baseLogger.addHandler(fileHandler);
+            handlers.add(fileHandler);
         } catch (IOException e) {
-            logger.warning("Error adding file handler for logger.");
+            fileHandlerError = e;
+        }
+
+        asyncHandler = new AsyncLogHandler(handlers, LOG_BUFFER_CAPACITY, LogOverflowPolicy.BLOCK, LOG_THREAD_NAME);
+        asyncHandler.setLevel(Level.ALL);
+        baseLogger.addHandler(asyncHandler);
+        if (fileHandlerError != null) {
+            baseLogger.warning("Error adding file handler for logger.");
         }
     }
 
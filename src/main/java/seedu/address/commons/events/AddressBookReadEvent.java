@@ -0,0 +1,35 @@
+package seedu.address.commons.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Registered;
+
+/**
+ * A Flight Recorder event for reading the address book from its data file.
+ */
+@Name("seedu.address.AddressBookRead")
+@Label("Address Book Read")
+@Category({"TeamScape", "Storage"})
+@Description("Reading the address book from its JSON data file")
+@Registered(false)
+public class AddressBookReadEvent extends jdk.jfr.Event {
+
+    @Label("File Size")
+    @DataAmount
+    private long bytes;
+
+    @Label("Persons")
+    @Description("Number of persons read, or -1 if the file could not be read")
+    private int persons = -1;
+
+    public void setBytes(long bytes) {
+        this.bytes = bytes;
+    }
+
+    public void setPersons(int persons) {
+        this.persons = persons;
+    }
+}
@@ -0,0 +1,34 @@
+package seedu.address.commons.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Registered;
+
+/**
+ * A Flight Recorder event for saving the address book to its data file.
+ */
+@Name("seedu.address.AddressBookSaved")
+@Label("Address Book Saved")
+@Category({"TeamScape", "Storage"})
+@Description("Saving the address book to its JSON data file")
+@Registered(false)
+public class AddressBookSavedEvent extends jdk.jfr.Event {
+
+    @Label("File Size")
+    @DataAmount
+    private long bytes;
+
+    @Label("Persons")
+    private int persons;
+
+    public void setBytes(long bytes) {
+        this.bytes = bytes;
+    }
+
+    public void setPersons(int persons) {
+        this.persons = persons;
+    }
+}
@@ -0,0 +1,40 @@
+package seedu.address.commons.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Registered;
+
+/**
+ * A Flight Recorder event for one command entered by the user, from parsing it to saving its changes.
+ */
+@Name("seedu.address.CommandExecuted")
+@Label("Command Executed")
+@Category({"TeamScape", "Logic"})
+@Description("A user command, from parsing the command text to saving the address book")
+@Registered(false)
+public class CommandExecutedEvent extends jdk.jfr.Event {
+
+    @Label("Command Word")
+    private String commandWord;
+
+    @Label("Succeeded")
+    private boolean succeeded;
+
+    @Label("Result Size")
+    @Description("Number of persons listed after the command, or -1 if the command failed")
+    private int resultSize = -1;
+
+    public void setCommandWord(String commandWord) {
+        this.commandWord = commandWord;
+    }
+
+    public void setSucceeded(boolean succeeded) {
+        this.succeeded = succeeded;
+    }
+
+    public void setResultSize(int resultSize) {
+        this.resultSize = resultSize;
+    }
+}
@@ -0,0 +1,44 @@
+package seedu.address.commons.events;
+
+import java.util.List;
+import java.util.logging.Logger;
+
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Turns the app's Java Flight Recorder events on and off.
+ *
+ * <p>The events are off until {@link #setEnabled(boolean)} turns them on. While they are off, emitting one
+ * costs no more than checking a flag, and recordings do not list them. While they are on, a recording started
+ * with {@code -XX:StartFlightRecording} or from JDK Mission Control captures them alongside the JVM's own
+ * GC and CPU events, so that those can be matched to user commands.
+ */
+public class FlightRecorderEvents {
+
+    private static final List<Class<? extends Event>> EVENT_TYPES = List.of(CommandExecutedEvent.class,
+            AddressBookReadEvent.class, AddressBookSavedEvent.class, PersonFilterUpdatedEvent.class);
+
+    private static final Logger logger = LogsCenter.getLogger(FlightRecorderEvents.class);
+
+    /**
+     * Registers the app's events with the Flight Recorder if {@code isEnabled}, or unregisters them otherwise.
+     */
+    public static void setEnabled(boolean isEnabled) {
+        if (!FlightRecorder.isAvailable()) {
+            if (isEnabled) {
+                logger.warning("Flight Recorder is not available in this JVM, events will not be recorded");
+            }
+            return;
+        }
+        for (Class<? extends Event> eventType : EVENT_TYPES) {
+            if (isEnabled) {
+                FlightRecorder.register(eventType);
+            } else {
+                FlightRecorder.unregister(eventType);
+            }
+        }
+        logger.fine("Flight Recorder events " + (isEnabled ? "enabled" : "disabled"));
+    }
+}
@@ -0,0 +1,34 @@
+package seedu.address.commons.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Registered;
+
+/**
+ * A Flight Recorder event for filtering the list of persons shown with a new predicate.
+ */
+@Name("seedu.address.PersonFilterUpdated")
+@Label("Person Filter Updated")
+@Category({"TeamScape", "Model"})
+@Description("Re-filtering the list of persons shown with a new predicate")
+@Registered(false)
+public class PersonFilterUpdatedEvent extends jdk.jfr.Event {
+
+    @Label("Matched")
+    @Description("Number of persons that match the predicate")
+    private int matched;
+
+    @Label("Total")
+    @Description("Number of persons in the address book")
+    private int total;
+
+    public void setMatched(int matched) {
+        this.matched = matched;
+    }
+
+    public void setTotal(int total) {
+        this.total = total;
+    }
+}
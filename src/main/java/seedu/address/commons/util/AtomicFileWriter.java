@@ -0,0 +1,240 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Replaces files without ever leaving them half-written.
+ * The new content is written to a sibling temporary file, optionally forced to the storage device according to
+ * an {@link FsyncPolicy}, and then renamed over the old file. The previous content is kept as a {@code .bak} file.
+ */
+public class AtomicFileWriter {
+
+    public static final String TEMP_FILE_SUFFIX = ".tmp";
+    public static final String BACKUP_FILE_SUFFIX = ".bak";
+    public static final String CORRUPT_FILE_SUFFIX = ".corrupt";
+
+    private static final Logger logger = LogsCenter.getLogger(AtomicFileWriter.class);
+
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private final FsyncPolicy fsyncPolicy;
+    private final long fsyncIntervalNanos;
+    private long lastFsyncNanos;
+    private boolean hasForced;
+    /** Files whose latest write was not forced under {@link FsyncPolicy#PERIODIC}. */
+    private final Set<Path> skippedFiles = new LinkedHashSet<>();
+
+    /**
+     * Writes content that is written to the output stream of a file.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        /**
+         * Writes the content to {@code out}. Closing {@code out} only flushes it; the file is closed by the caller.
+         */
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    /**
+     * Creates an {@code AtomicFileWriter} that forces writes according to {@code fsyncPolicy}.
+     *
+     * @param fsyncIntervalMillis minimum time between forced writes under {@link FsyncPolicy#PERIODIC}.
+     */
+    public AtomicFileWriter(FsyncPolicy fsyncPolicy, long fsyncIntervalMillis) {
+        requireNonNull(fsyncPolicy);
+        if (fsyncIntervalMillis < 0) {
+            throw new IllegalArgumentException("Fsync interval must not be negative: " + fsyncIntervalMillis);
+        }
+        this.fsyncPolicy = fsyncPolicy;
+        this.fsyncIntervalNanos = TimeUnit.MILLISECONDS.toNanos(fsyncIntervalMillis);
+    }
+
+    /**
+     * Returns the location of the backup of the file at {@code file}.
+     */
+    public static Path getBackupPath(Path file) {
+        return file.resolveSibling(file.getFileName() + BACKUP_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns the location that {@link #setAsideCorruptFile(Path)} moves the file at {@code file} to.
+     */
+    public static Path getCorruptPath(Path file) {
+        return file.resolveSibling(file.getFileName() + CORRUPT_FILE_SUFFIX);
+    }
+
+    /**
+     * Moves the file at {@code file}, which could not be read, out of the way, replacing any file set aside
+     * before. Otherwise the next write would keep the unreadable file as the backup in place of a good one.
+     * Does nothing if there is no file at {@code file}.
+     *
+     * @return true if a file was moved.
+     */
+    public static boolean setAsideCorruptFile(Path file) throws IOException {
+        requireNonNull(file);
+        if (!Files.exists(file)) {
+            return false;
+        }
+        Files.move(file, getCorruptPath(file), StandardCopyOption.REPLACE_EXISTING);
+        return true;
+    }
+
+    /**
+     * Returns the location of the temporary file used while replacing the file at {@code file}.
+     */
+    public static Path getTempPath(Path file) {
+        return file.resolveSibling(file.getFileName() + TEMP_FILE_SUFFIX);
+    }
+
+    /**
+     * Replaces the content of {@code file} with the content written by {@code contentWriter}.
+     * If {@code file} already exists, its previous content is kept in the backup file, replacing any older backup.
+     * If writing fails, {@code file} is left unchanged.
+     * Under {@link FsyncPolicy#PERIODIC}, a write that is not forced stays unforced until a later forced write
+     * replaces the file, or until {@link #forceSkippedWrites()} is called.
+     */
+    public synchronized void write(Path file, ContentWriter contentWriter) throws IOException {
+        requireNonNull(file);
+        requireNonNull(contentWriter);
+
+        Path tempFile = getTempPath(file);
+        FileUtil.createParentDirsOfFile(file);
+        boolean isForced = shouldForce();
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), WRITE_BUFFER_SIZE);
+            contentWriter.writeTo(new UnclosableOutputStream(out));
+            out.flush();
+            if (isForced) {
+                channel.force(true);
+            }
+        } catch (IOException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+
+        if (Files.exists(file)) {
+            replaceBackup(file);
+        }
+        moveReplacing(tempFile, file);
+        if (isForced) {
+            forceDirectory(file.toAbsolutePath().getParent());
+            skippedFiles.remove(file);
+        } else if (fsyncPolicy == FsyncPolicy.PERIODIC) {
+            skippedFiles.add(file);
+        }
+    }
+
+    /**
+     * Forces the files whose latest write was not forced under {@link FsyncPolicy#PERIODIC} to the storage device.
+     * Should be called before the application exits, so that the last write is not left to the operating system.
+     * Files that have since been removed are skipped.
+     */
+    public synchronized void forceSkippedWrites() throws IOException {
+        List<Path> files = new ArrayList<>(skippedFiles);
+        for (Path file : files) {
+            if (Files.exists(file)) {
+                try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                    channel.force(true);
+                }
+                forceDirectory(file.toAbsolutePath().getParent());
+            }
+            skippedFiles.remove(file);
+        }
+    }
+
+    private boolean shouldForce() {
+        switch (fsyncPolicy) {
+        case ALWAYS:
+            return true;
+        case PERIODIC:
+            long now = System.nanoTime();
+            if (hasForced && now - lastFsyncNanos < fsyncIntervalNanos) {
+                return false;
+            }
+            hasForced = true;
+            lastFsyncNanos = now;
+            return true;
+        default:
+            return false;
+        }
+    }
+
+    /**
+     * Makes the backup of {@code file} hold its current content. A hard link is used where the file system
+     * supports one, so that the old content does not have to be copied.
+     */
+    private static void replaceBackup(Path file) throws IOException {
+        Path backup = getBackupPath(file);
+        Files.deleteIfExists(backup);
+        try {
+            Files.createLink(backup, file);
+        } catch (UnsupportedOperationException | IOException e) {
+            Files.copy(file, backup, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void moveReplacing(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            logger.fine("Atomic move not supported for " + target + ", replacing it non-atomically");
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Forces the rename of a file in {@code directory} to the device, on platforms that allow directories to be
+     * opened for this. Elsewhere the rename is left to the operating system.
+     */
+    private static void forceDirectory(Path directory) {
+        if (directory == null) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            logger.finer("Could not force directory " + directory + ": " + e);
+        }
+    }
+
+    /**
+     * An output stream that flushes instead of closing, so that the file stays open to be forced after writing.
+     */
+    private static class UnclosableOutputStream extends FilterOutputStream {
+        UnclosableOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+
+}
@@ -0,0 +1,112 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads comma-separated values one record at a time, so that files of any size can be read in constant memory.
+ * Fields may be enclosed in double quotes, in which case they may contain commas, line breaks and
+ * doubled double quotes, as described in RFC 4180.
+ */
+public class CsvReader implements Closeable {
+
+    private static final int END_OF_STREAM = -1;
+
+    private final Reader reader;
+    /** Line on which the next record starts. */
+    private int nextLineNumber = 1;
+    /** Line on which the last record read started. */
+    private int lineNumber;
+    private int pushedBack = END_OF_STREAM;
+
+    /**
+     * Creates a {@code CsvReader} that reads records from {@code reader}.
+     */
+    public CsvReader(Reader reader) {
+        requireNonNull(reader);
+        this.reader = reader instanceof BufferedReader ? reader : new BufferedReader(reader);
+    }
+
+    /**
+     * Reads the next record, or returns null if there are no more records.
+     * A blank line is read as a record with a single empty field.
+     *
+     * @throws IOException if the record cannot be read, or has a quoted field that is never closed.
+     */
+    public List<String> readRecord() throws IOException {
+        int c = read();
+        if (c == END_OF_STREAM) {
+            return null;
+        }
+        lineNumber = nextLineNumber;
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean isQuoted = false;
+        while (true) {
+            if (isQuoted) {
+                if (c == END_OF_STREAM) {
+                    throw new IOException("Quoted field starting on line " + lineNumber + " is never closed");
+                } else if (c == '"') {
+                    int next = read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        isQuoted = false;
+                        pushedBack = next;
+                    }
+                } else {
+                    if (c == '\n') {
+                        nextLineNumber++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.length() == 0) {
+                isQuoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n' || c == END_OF_STREAM) {
+                if (c == '\r') {
+                    int next = read();
+                    if (next != '\n') {
+                        pushedBack = next;
+                    }
+                }
+                nextLineNumber++;
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    /**
+     * Returns the line on which the last record read started, counting from 1.
+     */
+    public int getLineNumber() {
+        return lineNumber;
+    }
+
+    private int read() throws IOException {
+        if (pushedBack != END_OF_STREAM) {
+            int c = pushedBack;
+            pushedBack = END_OF_STREAM;
+            return c;
+        }
+        return reader.read();
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,16 @@
+package seedu.address.commons.util;
+
+/**
+ * When a file written by {@link AtomicFileWriter} is forced to the storage device before it replaces the old file.
+ */
+public enum FsyncPolicy {
+    /** Every write is forced to the device. Slowest, but a completed save survives a power loss. */
+    ALWAYS,
+    /**
+     * A write is forced only if no write has been forced within the configured interval. A write that is not forced
+     * is forced when the application stops, unless a later forced write replaces it first.
+     */
+    PERIODIC,
+    /** Writes are left to the operating system to flush. Fastest, but recent saves may be lost on a power loss. */
+    NEVER
+}
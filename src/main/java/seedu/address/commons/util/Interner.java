@@ -0,0 +1,50 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Function;
+
+/**
+ * Hands out one canonical instance of an immutable value class for each distinct string it is made from,
+ * so that equal values held by many persons share a single instance.
+ * Instances are held weakly: once no person uses a value, it is dropped from the pool.
+ *
+ * @param <T> the type of the values, which must be immutable.
+ */
+public class Interner<T> {
+
+    /** Canonical instances, keyed by the string each holds so that the key lives exactly as long as the value. */
+    private final Map<String, WeakReference<T>> pool = new WeakHashMap<>();
+    private final Function<String, T> factory;
+    private final Function<T, String> keyOf;
+
+    /**
+     * Creates an {@code Interner} that makes new values with {@code factory}.
+     *
+     * @param keyOf returns the string that a value was made from, which must be held by the value.
+     */
+    public Interner(Function<String, T> factory, Function<T, String> keyOf) {
+        requireNonNull(factory);
+        requireNonNull(keyOf);
+        this.factory = factory;
+        this.keyOf = keyOf;
+    }
+
+    /**
+     * Returns the canonical value made from {@code key}, making it with the factory if there is none yet.
+     * Any exception thrown by the factory, such as for an invalid {@code key}, is passed on.
+     */
+    public synchronized T intern(String key) {
+        requireNonNull(key);
+        WeakReference<T> reference = pool.get(key);
+        T value = reference == null ? null : reference.get();
+        if (value == null) {
+            value = factory.apply(key);
+            pool.put(keyOf.apply(value), new WeakReference<>(value));
+        }
+        return value;
+    }
+}
@@ -3,6 +3,7 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,6 +12,8 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -39,6 +42,10 @@ public class JsonUtil {
                     .addSerializer(Level.class, new ToStringSerializer())
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
+    // Used by generators that write many values in a row, which should not flush the output after every value
+    private static ObjectMapper streamingObjectMapper = objectMapper.copy()
+            .disable(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
         FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
     }
@@ -92,6 +99,35 @@ public class JsonUtil {
     }
 
 
+    /**
+     * Returns a parser that streams the JSON content of the given file, for callers that convert the content
+     * piece by piece instead of building the whole object graph at once.
+     * Objects can be read from the parser with {@link JsonParser#readValueAs(Class)}, using the same settings
+     * as {@link #readJsonFile(Path, Class)}. The file is closed when the parser is closed.
+     *
+     * @param filePath cannot be null.
+     * @throws IOException if the file could not be opened.
+     */
+    public static JsonParser createParser(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        return objectMapper.getFactory().createParser(Files.newInputStream(filePath));
+    }
+
+    /**
+     * Returns a generator that streams JSON content to {@code out}, for callers that write large content piece by
+     * piece instead of building it as one string first. Objects can be written with
+     * {@link JsonGenerator#writeObject(Object)}, using the same settings as {@link #saveJsonFile(Object, Path)}.
+     * {@code out} is closed when the generator is closed.
+     *
+     * @param out cannot be null.
+     * @param isCompact whether to leave out the indentation added by {@link #toJsonString(Object)}.
+     */
+    public static JsonGenerator createGenerator(OutputStream out, boolean isCompact) throws IOException {
+        requireNonNull(out);
+        JsonGenerator generator = streamingObjectMapper.getFactory().createGenerator(out);
+        return isCompact ? generator : generator.useDefaultPrettyPrinter();
+    }
+
     /**
      * Converts a given string representation of a JSON data to instance of a class
      * @param <T> The generic type to create an instance of
@@ -111,6 +147,17 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation on a single line,
+     * without the indentation added by {@link #toJsonString(Object)}.
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in string
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
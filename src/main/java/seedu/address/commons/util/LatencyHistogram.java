@@ -0,0 +1,77 @@
+package seedu.address.commons.util;
+
+/**
+ * A histogram of durations with one bucket per power of two nanoseconds, so that recording takes
+ * constant time and space however many durations are recorded.
+ * Percentiles are estimated as the upper bound of the bucket they fall in, so they may be up to
+ * twice the true value, which is enough to tell regressions from noise.
+ * Not thread-safe.
+ */
+public class LatencyHistogram {
+
+    private static final int BUCKET_COUNT = Long.SIZE;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    /** {@code counts[i]} is the number of durations of at least 2^(i-1) and less than 2^i nanoseconds. */
+    private final long[] counts = new long[BUCKET_COUNT];
+    private long count;
+    private long totalNanos;
+    private long maxNanos;
+
+    /**
+     * Records a duration of {@code nanos} nanoseconds. Negative durations are recorded as zero.
+     */
+    public void record(long nanos) {
+        long duration = Math.max(0, nanos);
+        counts[Long.SIZE - Long.numberOfLeadingZeros(duration)]++;
+        count++;
+        totalNanos += duration;
+        maxNanos = Math.max(maxNanos, duration);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    /**
+     * Returns the mean of the recorded durations in nanoseconds, or 0 if there are none.
+     */
+    public long getMeanNanos() {
+        return count == 0 ? 0 : totalNanos / count;
+    }
+
+    /**
+     * Returns an upper bound on the duration in nanoseconds below which {@code percentile} percent of the
+     * recorded durations fall, or 0 if there are none. The bound never exceeds the longest duration recorded.
+     */
+    public long getPercentileNanos(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(count * percentile / 100);
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                long upperBound = i == BUCKET_COUNT - 1 ? Long.MAX_VALUE : (1L << i) - 1;
+                return Math.min(upperBound, maxNanos);
+            }
+        }
+        return maxNanos;
+    }
+
+    /**
+     * Returns the median, 99th percentile and longest durations in milliseconds, or "-" if there are none.
+     */
+    public String summarize() {
+        if (count == 0) {
+            return "-";
+        }
+        return String.format("p50=%.3fms p99=%.3fms max=%.3fms", getPercentileNanos(50) / NANOS_PER_MILLI,
+                getPercentileNanos(99) / NANOS_PER_MILLI, maxNanos / NANOS_PER_MILLI);
+    }
+}
@@ -0,0 +1,245 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable list whose modified copies share most of their structure with the original.
+ * The elements are held in a balanced tree ordered by position, so {@link #get(int)}, {@link #plus(Object)},
+ * {@link #with(int, Object)} and {@link #minus(int)} each take O(log n) time, and a modified copy only
+ * creates the O(log n) nodes on the path to the changed position.
+ * The list does not accept null elements, and the modification methods of {@link java.util.List} throw
+ * {@code UnsupportedOperationException}.
+ *
+ * @param <T> the type of the elements, which should be immutable.
+ */
+public final class PersistentList<T> extends AbstractList<T> {
+
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null);
+
+    private final Node<T> root;
+
+    private PersistentList(Node<T> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns the empty list.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentList<T> empty() {
+        return (PersistentList<T>) EMPTY;
+    }
+
+    /**
+     * Returns a list of the elements of {@code elements}, in iteration order.
+     * If {@code elements} is already a {@code PersistentList}, it is returned as is.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentList<T> copyOf(Collection<? extends T> elements) {
+        requireNonNull(elements);
+        if (elements instanceof PersistentList) {
+            return (PersistentList<T>) elements;
+        }
+        Object[] array = elements.toArray();
+        for (Object element : array) {
+            requireNonNull(element);
+        }
+        return array.length == 0 ? empty() : new PersistentList<>(build((T[]) array, 0, array.length));
+    }
+
+    @Override
+    public T get(int index) {
+        checkIndex(index, size());
+        Node<T> node = root;
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.value;
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return sizeOf(root);
+    }
+
+    /**
+     * Returns a copy of this list with {@code element} appended.
+     */
+    public PersistentList<T> plus(T element) {
+        requireNonNull(element);
+        return new PersistentList<>(insert(root, size(), element));
+    }
+
+    /**
+     * Returns a copy of this list with the element at {@code index} replaced by {@code element}.
+     */
+    public PersistentList<T> with(int index, T element) {
+        requireNonNull(element);
+        checkIndex(index, size());
+        return new PersistentList<>(replace(root, index, element));
+    }
+
+    /**
+     * Returns a copy of this list without the element at {@code index}.
+     */
+    public PersistentList<T> minus(int index) {
+        checkIndex(index, size());
+        return new PersistentList<>(remove(root, index));
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new InOrderIterator<>(root);
+    }
+
+    private static void checkIndex(int index, int size) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    //// tree operations; each returns the root of a new tree and leaves its arguments unchanged
+
+    private static <T> Node<T> build(T[] elements, int from, int to) {
+        if (from == to) {
+            return null;
+        }
+        int middle = (from + to) >>> 1;
+        return new Node<>(elements[middle], build(elements, from, middle), build(elements, middle + 1, to));
+    }
+
+    private static <T> Node<T> insert(Node<T> node, int index, T element) {
+        if (node == null) {
+            return new Node<>(element, null, null);
+        }
+        int leftSize = sizeOf(node.left);
+        if (index <= leftSize) {
+            return balance(node.value, insert(node.left, index, element), node.right);
+        }
+        return balance(node.value, node.left, insert(node.right, index - leftSize - 1, element));
+    }
+
+    private static <T> Node<T> replace(Node<T> node, int index, T element) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return new Node<>(node.value, replace(node.left, index, element), node.right);
+        } else if (index > leftSize) {
+            return new Node<>(node.value, node.left, replace(node.right, index - leftSize - 1, element));
+        }
+        return new Node<>(element, node.left, node.right);
+    }
+
+    private static <T> Node<T> remove(Node<T> node, int index) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return balance(node.value, remove(node.left, index), node.right);
+        } else if (index > leftSize) {
+            return balance(node.value, node.left, remove(node.right, index - leftSize - 1));
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        }
+        return balance(first(node.right), node.left, remove(node.right, 0));
+    }
+
+    private static <T> T first(Node<T> node) {
+        while (node.left != null) {
+            node = node.left;
+        }
+        return node.value;
+    }
+
+    /**
+     * Returns a node holding {@code value} between {@code left} and {@code right}, rotating if their heights
+     * differ by more than one. The heights may differ by at most two, as after a single insertion or removal.
+     */
+    private static <T> Node<T> balance(T value, Node<T> left, Node<T> right) {
+        int difference = height(left) - height(right);
+        if (difference > 1) {
+            if (height(left.left) >= height(left.right)) {
+                return new Node<>(left.value, left.left, new Node<>(value, left.right, right));
+            }
+            return new Node<>(left.right.value, new Node<>(left.value, left.left, left.right.left),
+                    new Node<>(value, left.right.right, right));
+        } else if (difference < -1) {
+            if (height(right.right) >= height(right.left)) {
+                return new Node<>(right.value, new Node<>(value, left, right.left), right.right);
+            }
+            return new Node<>(right.left.value, new Node<>(value, left, right.left.left),
+                    new Node<>(right.value, right.left.right, right.right));
+        }
+        return new Node<>(value, left, right);
+    }
+
+    private static int sizeOf(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int height(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static final class Node<T> {
+        private final T value;
+        private final Node<T> left;
+        private final Node<T> right;
+        private final int size;
+        private final int height;
+
+        Node(T value, Node<T> left, Node<T> right) {
+            this.value = value;
+            this.left = left;
+            this.right = right;
+            this.size = sizeOf(left) + sizeOf(right) + 1;
+            this.height = Math.max(height(left), height(right)) + 1;
+        }
+    }
+
+    /**
+     * Walks the tree in order, keeping the nodes whose value is still to come on a stack.
+     */
+    private static final class InOrderIterator<T> implements Iterator<T> {
+        private final Deque<Node<T>> pending = new ArrayDeque<>();
+
+        InOrderIterator(Node<T> root) {
+            pushLeftSpine(root);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !pending.isEmpty();
+        }
+
+        @Override
+        public T next() {
+            if (pending.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            Node<T> node = pending.pop();
+            pushLeftSpine(node.right);
+            return node.value;
+        }
+
+        private void pushLeftSpine(Node<T> node) {
+            while (node != null) {
+                pending.push(node);
+                node = node.left;
+            }
+        }
+    }
+}
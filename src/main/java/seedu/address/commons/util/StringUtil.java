@@ -5,7 +5,13 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 
 /**
  * Helper functions for handling strings.
@@ -38,6 +44,63 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns the whitespace-separated words of {@code text} in lower case, in order. Words are not de-duplicated.
+     * Case is folded independently of the default locale, so that the same text always gives the same words.
+     *   <br>examples:<pre>
+     *       toLowerCaseWords("  Buy MILK now ") == {"buy", "milk", "now"}
+     *       toLowerCaseWords("   ") == {}
+     *       </pre>
+     * @param text cannot be null
+     */
+    public static String[] toLowerCaseWords(String text) {
+        requireNonNull(text);
+        List<String> words = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean isWordCharacter = i < text.length() && !Character.isWhitespace(text.charAt(i));
+            if (isWordCharacter && start < 0) {
+                start = i;
+            } else if (!isWordCharacter && start >= 0) {
+                words.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+        return words.toArray(new String[0]);
+    }
+
+    /**
+     * Returns the lower-case words of all of {@code texts}, as split by {@link #toLowerCaseWords(String)}.
+     * @param texts cannot be null, and cannot contain null
+     */
+    public static Set<String> toLowerCaseWordSet(Collection<String> texts) {
+        requireNonNull(texts);
+        Set<String> words = new HashSet<>();
+        for (String text : texts) {
+            words.addAll(Arrays.asList(toLowerCaseWords(text)));
+        }
+        return words;
+    }
+
+    /**
+     * Returns true if any of {@code words} is in {@code lowerCaseWords}.
+     * Neither argument is copied, so this can be called once per field of every person without allocating.
+     *   <br>examples:<pre>
+     *       containsAnyWord(toLowerCaseWords("ABc def"), Set.of("abc")) == true
+     *       containsAnyWord(toLowerCaseWords("ABc def"), Set.of("ab")) == false //not a full word match
+     *       </pre>
+     * @param words lower-case words, as returned by {@link #toLowerCaseWords(String)}
+     * @param lowerCaseWords lower-case words, as returned by {@link #toLowerCaseWordSet(Collection)}
+     */
+    public static boolean containsAnyWord(String[] words, Set<String> lowerCaseWords) {
+        for (String word : words) {
+            if (lowerCaseWords.contains(word)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
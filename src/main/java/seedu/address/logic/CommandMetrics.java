@@ -0,0 +1,250 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.events.CommandExecutedEvent;
+import seedu.address.commons.util.LatencyHistogram;
+
+/**
+ * Latency histograms and allocated bytes of the commands run since startup, per command word.
+ * Each command is timed in phases: parsing the command text, executing the command, and saving the address book.
+ * The statistics can be shown with the {@code stats} command, and are written to the log periodically.
+ * Each command is also emitted as a {@link CommandExecutedEvent} for the Flight Recorder.
+ * Thread-safe.
+ */
+public class CommandMetrics {
+
+    /**
+     * The phases of running a command.
+     */
+    public enum Phase {
+        PARSE,
+        EXECUTE,
+        PERSIST
+    }
+
+    /** The word that commands whose text could not be parsed are recorded under. */
+    public static final String UNPARSED_WORD = "(unparsed)";
+
+    public static final String MESSAGE_HEADER = "Command statistics since startup:";
+    public static final String MESSAGE_NO_COMMANDS = "No commands have been run yet.";
+    public static final String MESSAGE_WORD_STATS = "%1$s: %2$d run(s), %3$s allocated per run\n"
+            + "    total   %4$s\n    parse   %5$s\n    execute %6$s\n    persist %7$s";
+
+    private static final Logger logger = LogsCenter.getLogger(CommandMetrics.class);
+
+    private final Map<String, WordStats> statsByWord = new TreeMap<>();
+    private final ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+    private final boolean isAllocationMeasured;
+    private long recordedCount;
+    private long loggedCount;
+
+    private ScheduledExecutorService dumpExecutor;
+
+    /**
+     * Creates an empty set of statistics.
+     */
+    public CommandMetrics() {
+        isAllocationMeasured = threadBean instanceof com.sun.management.ThreadMXBean
+                && ((com.sun.management.ThreadMXBean) threadBean).isThreadAllocatedMemorySupported()
+                && ((com.sun.management.ThreadMXBean) threadBean).isThreadAllocatedMemoryEnabled();
+    }
+
+    /**
+     * Starts timing a command on the current thread. The returned sample must be passed to
+     * {@link #record(Sample)} on the same thread once the command is done, whether or not it succeeded.
+     */
+    public Sample startSample() {
+        return new Sample(getAllocatedBytes());
+    }
+
+    /**
+     * Adds the phase durations and allocated bytes of {@code sample} to the statistics of its command word.
+     */
+    public void record(Sample sample) {
+        requireNonNull(sample);
+        long allocatedBytes = isAllocationMeasured ? getAllocatedBytes() - sample.startAllocatedBytes : -1;
+        long totalNanos = System.nanoTime() - sample.startNanos;
+        sample.commitEvent();
+        synchronized (this) {
+            WordStats stats = statsByWord.computeIfAbsent(sample.commandWord, unused -> new WordStats());
+            stats.total.record(totalNanos);
+            for (Map.Entry<Phase, Long> phase : sample.phaseNanos.entrySet()) {
+                stats.phases.get(phase.getKey()).record(phase.getValue());
+            }
+            if (allocatedBytes >= 0) {
+                stats.allocatedBytes += allocatedBytes;
+            }
+            recordedCount++;
+        }
+    }
+
+    /**
+     * Returns the statistics of every command word, in alphabetical order.
+     */
+    public synchronized String format() {
+        if (statsByWord.isEmpty()) {
+            return MESSAGE_NO_COMMANDS;
+        }
+        StringBuilder builder = new StringBuilder(MESSAGE_HEADER);
+        for (Map.Entry<String, WordStats> entry : statsByWord.entrySet()) {
+            WordStats stats = entry.getValue();
+            long runs = stats.total.getCount();
+            String allocated = isAllocationMeasured ? formatBytes(stats.allocatedBytes / runs) : "unknown";
+            builder.append('\n').append(String.format(MESSAGE_WORD_STATS, entry.getKey(), runs, allocated,
+                    stats.total.summarize(), stats.phases.get(Phase.PARSE).summarize(),
+                    stats.phases.get(Phase.EXECUTE).summarize(), stats.phases.get(Phase.PERSIST).summarize()));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Returns the number of commands run with {@code commandWord}.
+     */
+    public synchronized long getCount(String commandWord) {
+        WordStats stats = statsByWord.get(commandWord);
+        return stats == null ? 0 : stats.total.getCount();
+    }
+
+    /**
+     * Returns the number of times {@code phase} was timed for commands run with {@code commandWord}.
+     */
+    public synchronized long getCount(String commandWord, Phase phase) {
+        WordStats stats = statsByWord.get(commandWord);
+        return stats == null ? 0 : stats.phases.get(phase).getCount();
+    }
+
+    /**
+     * Writes the statistics to the log every {@code interval}, if any command was run since they were last written.
+     */
+    public synchronized void startPeriodicDump(Duration interval) {
+        requireNonNull(interval);
+        if (dumpExecutor != null) {
+            return;
+        }
+        dumpExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "metrics-dump");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = interval.toMillis();
+        dumpExecutor.scheduleAtFixedRate(this::dump, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops writing the statistics periodically, and writes them one last time.
+     */
+    public synchronized void stopPeriodicDump() {
+        if (dumpExecutor == null) {
+            return;
+        }
+        dumpExecutor.shutdownNow();
+        dumpExecutor = null;
+        dump();
+    }
+
+    /**
+     * Writes the statistics to the log, if any command was run since they were last written.
+     */
+    synchronized void dump() {
+        if (recordedCount == loggedCount) {
+            return;
+        }
+        loggedCount = recordedCount;
+        logger.info(format());
+    }
+
+    private long getAllocatedBytes() {
+        if (!isAllocationMeasured) {
+            return 0;
+        }
+        return ((com.sun.management.ThreadMXBean) threadBean).getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static String formatBytes(long bytes) {
+        if (bytes < 1024) {
+            return bytes + " B";
+        } else if (bytes < 1024 * 1024) {
+            return String.format("%.1f KB", bytes / 1024.0);
+        }
+        return String.format("%.1f MB", bytes / (1024.0 * 1024));
+    }
+
+    /**
+     * The timings of one command, taken on the thread that runs it.
+     */
+    public static class Sample {
+        private final long startNanos = System.nanoTime();
+        private final long startAllocatedBytes;
+        private final Map<Phase, Long> phaseNanos = new EnumMap<>(Phase.class);
+        private final CommandExecutedEvent event = new CommandExecutedEvent();
+        private long phaseStartNanos = startNanos;
+        private String commandWord = UNPARSED_WORD;
+        private boolean isSuccessful;
+        private int resultSize = -1;
+
+        private Sample(long startAllocatedBytes) {
+            this.startAllocatedBytes = startAllocatedBytes;
+            event.begin();
+        }
+
+        /**
+         * Records the time since the previous phase ended, or since the sample started, as the duration of
+         * {@code phase}.
+         */
+        public void endPhase(Phase phase) {
+            long now = System.nanoTime();
+            phaseNanos.put(phase, now - phaseStartNanos);
+            phaseStartNanos = now;
+        }
+
+        /**
+         * Sets the command word that the command is recorded under.
+         */
+        public void setCommandWord(String commandWord) {
+            this.commandWord = requireNonNull(commandWord);
+        }
+
+        /**
+         * Marks the command as successful, leaving {@code resultSize} persons listed.
+         */
+        public void succeed(int resultSize) {
+            isSuccessful = true;
+            this.resultSize = resultSize;
+        }
+
+        private void commitEvent() {
+            if (!event.shouldCommit()) {
+                return;
+            }
+            event.setCommandWord(commandWord);
+            event.setSucceeded(isSuccessful);
+            event.setResultSize(resultSize);
+            event.commit();
+        }
+    }
+
+    private static class WordStats {
+        private final LatencyHistogram total = new LatencyHistogram();
+        private final Map<Phase, LatencyHistogram> phases = new EnumMap<>(Phase.class);
+        private long allocatedBytes;
+
+        WordStats() {
+            for (Phase phase : Phase.values()) {
+                phases.put(phase, new LatencyHistogram());
+            }
+        }
+    }
+}
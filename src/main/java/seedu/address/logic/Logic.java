@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -23,6 +25,33 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes the commands as a single command: all of them are parsed before any is executed,
+     * and the address book is saved once, after the last of them.
+     * If any command fails, the address book is left as it was before the batch.
+     * Blank lines and lines starting with {@code #} are skipped.
+     * @param commandTexts The commands, one per line.
+     * @return the result of the whole batch.
+     * @throws CommandException If a command fails, with the line of the command in its message.
+     * @throws ParseException If any line is invalid, with the line of each invalid command in its message.
+     */
+    CommandResult executeBatch(List<String> commandTexts) throws CommandException, ParseException;
+
+    /**
+     * Executes the command on a background thread, after all commands submitted before it have finished.
+     * The returned future completes with the result of the command, or exceptionally with the
+     * {@code CommandException} or {@code ParseException} that {@link #execute(String)} would have thrown.
+     * Changes to the filtered person list are published after the command has run.
+     * @param commandText The command as entered by the user.
+     */
+    CompletableFuture<CommandResult> executeAsync(String commandText);
+
+    /**
+     * Stops accepting commands submitted through {@link #executeAsync(String)},
+     * and waits for those already submitted to finish.
+     */
+    void shutdown();
+
     /**
      * Returns the AddressBook.
      *
@@ -30,7 +59,10 @@ public interface Logic {
      */
     ReadOnlyAddressBook getAddressBook();
 
-    /** Returns an unmodifiable view of the filtered list of persons */
+    /**
+     * Returns an unmodifiable view of the filtered list of persons.
+     * The view is updated through the publish executor of the logic, in batches, after commands have run.
+     */
     ObservableList<Person> getFilteredPersonList();
 
     /**
@@ -3,13 +3,23 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Logger;
 
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.RunCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -20,6 +30,11 @@ import seedu.address.storage.Storage;
 
 /**
  * The main LogicManager of the app.
+ *
+ * <p>Commands submitted through {@link #executeAsync(String)} run one at a time, in order, on a single
+ * background thread. The filtered person list seen by callers is a copy of the model's, which is handed to
+ * the publish executor after each command. If several commands finish before the publish executor gets to
+ * run, only the latest list is published.
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_FORMAT = "Could not save data due to the following error: %s";
@@ -27,40 +42,201 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final CommandMetrics metrics;
+
+    /** Version of the model's address book that was last saved to storage. */
+    private long savedAddressBookVersion;
+
+    private final Executor publishExecutor;
+    private final ObservableList<Person> publishedPersons;
+    private final ObservableList<Person> unmodifiablePublishedPersons;
+    /** The latest copy of the filtered person list that is yet to be published, or null if there is none. */
+    private final AtomicReference<List<Person>> pendingPersons = new AtomicReference<>();
+    /** The last copy of the filtered person list handed to the publish executor. */
+    private List<Person> lastPublishedPersons;
+
+    /** Guards {@code commandExecutor}, separately from the lock held while a command runs. */
+    private final Object commandExecutorLock = new Object();
+    private ExecutorService commandExecutor;
 
     /**
-     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}
+     * that publishes changes to the filtered person list on the thread that executed the command.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, Runnable::run);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}
+     * that publishes changes to the filtered person list through {@code publishExecutor}.
+     */
+    public LogicManager(Model model, Storage storage, Executor publishExecutor) {
+        this(model, storage, publishExecutor, new CommandMetrics());
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}
+     * that publishes changes to the filtered person list through {@code publishExecutor},
+     * and records the timings of every command in {@code metrics}.
+     */
+    public LogicManager(Model model, Storage storage, Executor publishExecutor, CommandMetrics metrics) {
         this.model = model;
         this.storage = storage;
-        addressBookParser = new AddressBookParser();
+        this.publishExecutor = publishExecutor;
+        this.metrics = metrics;
+        addressBookParser = new AddressBookParser(metrics);
+        savedAddressBookVersion = model.getAddressBookVersion();
+
+        lastPublishedPersons = new ArrayList<>(model.getFilteredPersonList());
+        publishedPersons = FXCollections.observableArrayList(lastPublishedPersons);
+        unmodifiablePublishedPersons = FXCollections.unmodifiableObservableList(publishedPersons);
     }
 
     @Override
-    public CommandResult execute(String commandText) throws CommandException, ParseException {
+    public synchronized CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
-        CommandResult commandResult;
-        Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        CommandMetrics.Sample sample = metrics.startSample();
+        try {
+            Command command = addressBookParser.parseCommand(commandText);
+            sample.endPhase(CommandMetrics.Phase.PARSE);
+            sample.setCommandWord(commandText.trim().split("\\s+", 2)[0]);
+            return executeAndSave(command, sample);
+        } finally {
+            metrics.record(sample);
+            publishFilteredPersonList();
+        }
+    }
+
+    @Override
+    public synchronized CommandResult executeBatch(List<String> commandTexts)
+            throws CommandException, ParseException {
+        logger.info("----------------[USER BATCH][" + commandTexts.size() + " lines]");
 
+        CommandMetrics.Sample sample = metrics.startSample();
         try {
-            storage.saveAddressBook(model.getAddressBook());
+            Command command = addressBookParser.parseScript(commandTexts);
+            sample.endPhase(CommandMetrics.Phase.PARSE);
+            sample.setCommandWord(RunCommand.COMMAND_WORD);
+            return executeAndSave(command, sample);
+        } finally {
+            metrics.record(sample);
+            publishFilteredPersonList();
+        }
+    }
+
+    /**
+     * Executes {@code command} and saves the address book if the command changed it,
+     * timing each of the two phases in {@code sample}.
+     */
+    private CommandResult executeAndSave(Command command, CommandMetrics.Sample sample) throws CommandException {
+        CommandResult commandResult = command.execute(model);
+        sample.endPhase(CommandMetrics.Phase.EXECUTE);
+
+        // Commands that leave the address book unchanged, such as list and find, need not be saved,
+        // but still report a failed background save of an earlier command
+        long addressBookVersion = model.getAddressBookVersion();
+        try {
+            if (addressBookVersion == savedAddressBookVersion) {
+                storage.checkAddressBookSaved();
+            } else {
+                storage.saveAddressBook(model.getAddressBook());
+                sample.endPhase(CommandMetrics.Phase.PERSIST);
+                savedAddressBookVersion = addressBookVersion;
+            }
         } catch (AccessDeniedException e) {
             throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
             throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
         }
 
+        sample.succeed(model.getFilteredPersonList().size());
         return commandResult;
     }
 
+    @Override
+    public CompletableFuture<CommandResult> executeAsync(String commandText) {
+        CompletableFuture<CommandResult> result = new CompletableFuture<>();
+        getCommandExecutor().execute(() -> {
+            try {
+                result.complete(execute(commandText));
+            } catch (Throwable t) {
+                // Errors too, such as a StackOverflowError, so that callers waiting on the result are released
+                result.completeExceptionally(t);
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public void shutdown() {
+        synchronized (commandExecutorLock) {
+            if (commandExecutor == null) {
+                return;
+            }
+            commandExecutor.shutdown();
+            try {
+                if (!commandExecutor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                    logger.warning("Commands still running after " + SHUTDOWN_TIMEOUT_SECONDS + "s, not waiting");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private ExecutorService getCommandExecutor() {
+        synchronized (commandExecutorLock) {
+            if (commandExecutor == null) {
+                commandExecutor = Executors.newSingleThreadExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "command-executor");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+            }
+            return commandExecutor;
+        }
+    }
+
+    /**
+     * Hands a copy of the model's filtered person list to the publish executor, unless it holds the same persons
+     * as the last copy. A copy that is still waiting to be published is replaced rather than queued again.
+     */
+    private void publishFilteredPersonList() {
+        List<Person> persons = new ArrayList<>(model.getFilteredPersonList());
+        if (isSamePersons(persons, lastPublishedPersons)) {
+            return;
+        }
+        lastPublishedPersons = persons;
+        if (pendingPersons.getAndSet(persons) == null) {
+            publishExecutor.execute(() -> publishedPersons.setAll(pendingPersons.getAndSet(null)));
+        }
+    }
+
+    /**
+     * Returns true if both lists hold the same {@code Person} objects in the same order.
+     * {@code Person#equals} is not used, as it does not compare every field.
+     */
+    private static boolean isSamePersons(List<Person> persons, List<Person> otherPersons) {
+        if (persons.size() != otherPersons.size()) {
+            return false;
+        }
+        for (int i = 0; i < persons.size(); i++) {
+            if (persons.get(i) != otherPersons.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -68,7 +244,7 @@ public class LogicManager implements Logic {
 
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return model.getFilteredPersonList();
+        return unmodifiablePublishedPersons;
     }
 
     @Override
@@ -0,0 +1,288 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.task.Task;
+import seedu.address.model.task.TaskStatus;
+
+/**
+ * Reminds the user of unfinished tasks a set lead time before they are due.
+ *
+ * <p>Upcoming reminders are kept in a queue ordered by the time they should fire. The queue is updated from
+ * the changes to the persons list, one changed person at a time, rather than rebuilt. A single background
+ * thread sleeps until the earliest reminder is due, fires every reminder that is due by then through the
+ * notifier, and sleeps again. All times are read from the given {@code Clock}; tests can leave the thread
+ * unstarted and call {@link #fireDueReminders()} themselves.
+ */
+public class ReminderScheduler {
+
+    public static final String MESSAGE_REMINDER = "Reminder: \"%1$s\" for %2$s is due at %3$s";
+    public static final String MESSAGE_SEPARATOR = "  |  ";
+
+    private static final DateTimeFormatter DISPLAY_FORMATTER = DateTimeFormatter.ofPattern("d MMM yyyy, h:mm a");
+
+    private static final Logger logger = LogsCenter.getLogger(ReminderScheduler.class);
+
+    private final Clock clock;
+    private final Duration leadTime;
+    private final Consumer<String> notifier;
+
+    /** Reminders yet to fire, by the time they should fire. */
+    private final NavigableMap<LocalDateTime, List<Reminder>> pending = new TreeMap<>();
+    /** Reminders of each person that are yet to fire, so that a changed person can be dropped quickly. */
+    private final Map<Name, List<Reminder>> pendingByPerson = new HashMap<>();
+    /**
+     * Reminders of each person already fired for tasks that are not yet due, so that editing a person does not
+     * repeat them. Moved to the new name when a person is renamed, and dropped when a person is deleted.
+     */
+    private final Map<Name, Set<Reminder>> firedByPerson = new HashMap<>();
+
+    private ScheduledExecutorService executor;
+    private ScheduledFuture<?> wakeUp;
+    private LocalDateTime wakeUpTime;
+
+    /**
+     * Creates a scheduler for the tasks of {@code persons}, which fires each reminder {@code leadTime} before
+     * its task is due, and keeps itself up to date as {@code persons} changes.
+     * No reminder fires until {@link #start()} is called.
+     */
+    public ReminderScheduler(ObservableList<Person> persons, Clock clock, Duration leadTime,
+                             Consumer<String> notifier) {
+        requireNonNull(persons);
+        requireNonNull(clock);
+        requireNonNull(leadTime);
+        requireNonNull(notifier);
+        this.clock = clock;
+        this.leadTime = leadTime;
+        this.notifier = notifier;
+
+        persons.forEach(this::addPerson);
+        persons.addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                updatePersons(change.getRemoved(), change.getAddedSubList());
+            }
+            scheduleWakeUp();
+        });
+    }
+
+    /**
+     * Starts the background thread that fires reminders when they are due.
+     */
+    public synchronized void start() {
+        if (executor != null) {
+            return;
+        }
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "reminder-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduleWakeUp();
+    }
+
+    /**
+     * Stops the background thread. Reminders that are not yet due will not fire.
+     */
+    public synchronized void stop() {
+        if (executor == null) {
+            return;
+        }
+        executor.shutdownNow();
+        executor = null;
+        wakeUp = null;
+        wakeUpTime = null;
+    }
+
+    /**
+     * Fires every pending reminder that is due at the time given by the clock, as a single notification.
+     * Reminders for tasks that are no longer due in the future are dropped.
+     */
+    public void fireDueReminders() {
+        List<String> messages = new ArrayList<>();
+        synchronized (this) {
+            LocalDateTime now = LocalDateTime.now(clock);
+            firedByPerson.values().forEach(fired -> fired.removeIf(reminder -> !reminder.dueDate.isAfter(now)));
+            firedByPerson.values().removeIf(Set::isEmpty);
+            NavigableMap<LocalDateTime, List<Reminder>> due = pending.headMap(now, true);
+            for (List<Reminder> reminders : due.values()) {
+                for (Reminder reminder : reminders) {
+                    pendingByPerson.get(reminder.personName).remove(reminder);
+                    if (reminder.dueDate.isAfter(now)) {
+                        firedByPerson.computeIfAbsent(reminder.personName, unused -> new HashSet<>()).add(reminder);
+                        messages.add(reminder.toMessage());
+                    }
+                }
+            }
+            due.clear();
+            pendingByPerson.values().removeIf(List::isEmpty);
+            wakeUpTime = null;
+            scheduleWakeUp();
+        }
+        if (!messages.isEmpty()) {
+            notifier.accept(String.join(MESSAGE_SEPARATOR, messages));
+        }
+    }
+
+    /**
+     * Returns the number of reminders that are yet to fire.
+     */
+    public synchronized int getPendingCount() {
+        return pending.values().stream().mapToInt(List::size).sum();
+    }
+
+    /**
+     * Replaces the reminders of the {@code removed} persons with those of the {@code added} persons.
+     * A single person replaced by a person of another name is a rename, whose fired reminders are kept under
+     * the new name. Otherwise, the fired reminders of a removed person are dropped unless a person of the same
+     * name is added back.
+     */
+    private synchronized void updatePersons(List<? extends Person> removed, List<? extends Person> added) {
+        if (removed.size() == 1 && added.size() == 1) {
+            renameFired(removed.get(0).getName(), added.get(0).getName());
+        }
+        Set<Name> addedNames = new HashSet<>();
+        added.forEach(person -> addedNames.add(person.getName()));
+        for (Person person : removed) {
+            removePerson(person);
+            if (!addedNames.contains(person.getName())) {
+                firedByPerson.remove(person.getName());
+            }
+        }
+        added.forEach(this::addPerson);
+    }
+
+    private void renameFired(Name oldName, Name newName) {
+        if (oldName.equals(newName)) {
+            return;
+        }
+        Set<Reminder> fired = firedByPerson.remove(oldName);
+        if (fired == null) {
+            return;
+        }
+        Set<Reminder> renamed = new HashSet<>();
+        fired.forEach(reminder -> renamed.add(reminder.withPersonName(newName)));
+        firedByPerson.put(newName, renamed);
+    }
+
+    private synchronized void addPerson(Person person) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        Set<Reminder> fired = firedByPerson.getOrDefault(person.getName(), Set.of());
+        for (Task task : person.getTasks()) {
+            if (task.getDueDate() == null || task.getStatus() == TaskStatus.COMPLETED
+                    || !task.getDueDate().isAfter(now)) {
+                continue;
+            }
+            Reminder reminder = new Reminder(person.getName(), task.getDescription(), task.getDueDate(),
+                    task.getDueDate().minus(leadTime));
+            if (fired.contains(reminder)) {
+                continue;
+            }
+            pending.computeIfAbsent(reminder.fireTime, unused -> new ArrayList<>()).add(reminder);
+            pendingByPerson.computeIfAbsent(reminder.personName, unused -> new ArrayList<>()).add(reminder);
+        }
+    }
+
+    private synchronized void removePerson(Person person) {
+        List<Reminder> reminders = pendingByPerson.remove(person.getName());
+        if (reminders == null) {
+            return;
+        }
+        for (Reminder reminder : reminders) {
+            List<Reminder> atFireTime = pending.get(reminder.fireTime);
+            atFireTime.remove(reminder);
+            if (atFireTime.isEmpty()) {
+                pending.remove(reminder.fireTime);
+            }
+        }
+    }
+
+    /**
+     * Makes the background thread wake up when the earliest pending reminder is due,
+     * unless it is already set to wake up by then.
+     */
+    private synchronized void scheduleWakeUp() {
+        if (executor == null || pending.isEmpty()) {
+            return;
+        }
+        LocalDateTime next = pending.firstKey();
+        if (wakeUpTime != null && !wakeUpTime.isAfter(next)) {
+            return;
+        }
+        if (wakeUp != null) {
+            wakeUp.cancel(false);
+        }
+        long delayMillis = Math.max(0, Duration.between(LocalDateTime.now(clock), next).toMillis());
+        logger.fine("Next reminder in " + delayMillis + " ms");
+        wakeUpTime = next;
+        wakeUp = executor.schedule(this::fireDueReminders, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * A reminder for one task, identified by its person, description and due date.
+     */
+    private static class Reminder {
+        private final Name personName;
+        private final String description;
+        private final LocalDateTime dueDate;
+        private final LocalDateTime fireTime;
+
+        Reminder(Name personName, String description, LocalDateTime dueDate, LocalDateTime fireTime) {
+            this.personName = personName;
+            this.description = description;
+            this.dueDate = dueDate;
+            this.fireTime = fireTime;
+        }
+
+        Reminder withPersonName(Name newPersonName) {
+            return new Reminder(newPersonName, description, dueDate, fireTime);
+        }
+
+        String toMessage() {
+            return String.format(MESSAGE_REMINDER, description, personName, dueDate.format(DISPLAY_FORMATTER));
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+            if (!(other instanceof Reminder)) {
+                return false;
+            }
+            Reminder otherReminder = (Reminder) other;
+            return personName.equals(otherReminder.personName)
+                    && description.equals(otherReminder.description)
+                    && dueDate.equals(otherReminder.dueDate);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(personName, description, dueDate);
+        }
+    }
+}
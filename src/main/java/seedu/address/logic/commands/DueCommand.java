@@ -0,0 +1,103 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.TaskDueDateIndex;
+
+/**
+ * Lists the unfinished tasks of all persons that are due before a given time, or are already overdue,
+ * earliest first, and shows only the persons they belong to.
+ * The tasks are read from the model's due date index, without scanning every task.
+ */
+public class DueCommand extends Command {
+
+    public static final String COMMAND_WORD = "due";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists the unfinished tasks that are due before the given date, or that are overdue, "
+            + "earliest first.\n"
+            + "Parameters: before/DATE or overdue, where DATE is yyyy-MM-dd or yyyy-MM-dd HH:mm\n"
+            + "Example: " + COMMAND_WORD + " before/2025-12-31\n"
+            + "Example: " + COMMAND_WORD + " overdue";
+
+    public static final String MESSAGE_DUE_BEFORE = "%1$d unfinished task(s) due before %2$s";
+    public static final String MESSAGE_OVERDUE = "%1$d overdue task(s)";
+    public static final String MESSAGE_TASK = "%1$d. %2$s: %3$s";
+
+    private static final DateTimeFormatter DISPLAY_FORMATTER = DateTimeFormatter.ofPattern("d MMM yyyy, h:mm a");
+
+    /** The time the tasks must be due before, or null for the time the command is executed. */
+    private final LocalDateTime before;
+
+    /**
+     * Creates a DueCommand to list the unfinished tasks due strictly before {@code before}.
+     */
+    public DueCommand(LocalDateTime before) {
+        requireNonNull(before);
+        this.before = before;
+    }
+
+    private DueCommand() {
+        this.before = null;
+    }
+
+    /**
+     * Returns a DueCommand that lists the unfinished tasks that are due before the time it is executed.
+     */
+    public static DueCommand overdue() {
+        return new DueCommand();
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<TaskDueDateIndex.Entry> dueTasks =
+                model.getTasksDueBefore(before == null ? LocalDateTime.now() : before);
+
+        Set<Person> persons = new HashSet<>();
+        StringBuilder message = new StringBuilder(before == null
+                ? String.format(MESSAGE_OVERDUE, dueTasks.size())
+                : String.format(MESSAGE_DUE_BEFORE, dueTasks.size(), before.format(DISPLAY_FORMATTER)));
+        for (int i = 0; i < dueTasks.size(); i++) {
+            TaskDueDateIndex.Entry entry = dueTasks.get(i);
+            persons.add(entry.getPerson());
+            message.append('\n')
+                    .append(String.format(MESSAGE_TASK, i + 1, entry.getPerson().getName(), entry.getTask()));
+        }
+
+        model.updateFilteredPersonList(persons::contains);
+        return new CommandResult(message.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof DueCommand)) {
+            return false;
+        }
+
+        DueCommand otherDueCommand = (DueCommand) other;
+        return Objects.equals(before, otherDueCommand.before);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("before", before == null ? "now" : before)
+                .toString();
+    }
+}
@@ -0,0 +1,87 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import seedu.address.commons.util.CsvWriter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.PersonCsvParser;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+
+/**
+ * Writes every person in the address book, with their tasks, to a CSV roster that can be imported again.
+ * Persons are written one record at a time, without building the whole file in memory.
+ */
+public class ExportCommand extends Command {
+
+    public static final String COMMAND_WORD = "export";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Writes every person in the address book, with their tasks, to a CSV file.\n"
+            + "An existing file at the path is replaced.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/roster.csv";
+
+    public static final String MESSAGE_SUCCESS = "Exported %1$d person(s) to %2$s";
+    public static final String MESSAGE_FILE_ERROR = "Could not write %1$s: %2$s";
+
+    private final Path file;
+
+    /**
+     * Creates an ExportCommand to write the address book to {@code file}.
+     */
+    public ExportCommand(Path file) {
+        requireNonNull(file);
+        this.file = file;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        int count = 0;
+        try {
+            FileUtil.createParentDirsOfFile(file);
+            try (CsvWriter writer = new CsvWriter(Files.newBufferedWriter(file, StandardCharsets.UTF_8))) {
+                writer.writeRecord(PersonCsvParser.HEADER);
+                for (Person person : model.getAddressBook().getPersonList()) {
+                    writer.writeRecord(PersonCsvParser.toRecord(person));
+                    count++;
+                }
+            }
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_FILE_ERROR, file, ioe.getMessage()), ioe);
+        }
+
+        return new CommandResult(String.format(MESSAGE_SUCCESS, count, file));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ExportCommand)) {
+            return false;
+        }
+
+        ExportCommand otherExportCommand = (ExportCommand) other;
+        return file.equals(otherExportCommand.file);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("file", file)
+                .toString();
+    }
+}
@@ -1,57 +1,86 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DUE_DATE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SKILL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TASK;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TASK_STATUS;
 
-import java.util.function.Predicate;
+import java.util.List;
+import java.util.Set;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
+import seedu.address.model.person.KeywordClause;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonQuery;
+import seedu.address.model.person.SkillsInKeywordsPredicate;
 import seedu.address.model.person.TagsInKeywordsPredicate;
 import seedu.address.model.person.TasksInKeywordsPredicate;
 
 /**
- * Finds and lists all persons in address book whose name contains any of the argument keywords.
- * Keyword matching is case insensitive.
+ * Finds and lists all persons in address book who satisfy every condition given: their name, tags, skills or tasks
+ * contain any of the keywords given for that field, they have a task with the given status, or they have an
+ * unfinished task due before the given date.
+ * Keyword matching is case insensitive. The conditions are resolved through the model's indexes.
  */
 public class FindCommand extends Command {
 
     public static final String COMMAND_WORD = "find";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names or tags contain any of "
-        + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-        + "Parameters:\n"
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons who meet all of the specified "
+        + "conditions and displays them as a list with index numbers. Keywords are case-insensitive, and a person "
+        + "meets a keyword condition if the field contains any of its keywords.\n"
+        + "Parameters (at least one):\n"
         + PREFIX_NAME + " KEYWORD [MORE_KEYWORDS]... (to search by name)\n"
         + PREFIX_TAG + " KEYWORD [MORE_KEYWORDS]... (to search by tags)\n"
+        + PREFIX_SKILL + " KEYWORD [MORE_KEYWORDS]... (to search by skills)\n"
         + PREFIX_TASK + " KEYWORD [MORE_KEYWORDS]... (to search by tasks)\n"
+        + PREFIX_TASK_STATUS + " STATUS (to search by task status)\n"
+        + PREFIX_DUE_DATE + " <yyyy-MM-dd [HH:mm] (to search for unfinished tasks due before a date)\n"
         + "Example:\n"
         + COMMAND_WORD + " " + PREFIX_NAME + " alice bob charlie\n"
         + COMMAND_WORD + " " + PREFIX_TAG + " friends colleague\n"
-        + COMMAND_WORD + " " + PREFIX_TASK + " Presentation";
+        + COMMAND_WORD + " " + PREFIX_TASK + " Presentation\n"
+        + COMMAND_WORD + " " + PREFIX_NAME + " alice " + PREFIX_TAG + " backend "
+        + PREFIX_TASK_STATUS + " in-progress " + PREFIX_DUE_DATE + " <2030-06-01";
 
-    private final Predicate<Person> predicate;
+    private final PersonQuery query;
 
     public FindCommand(NameContainsKeywordsPredicate predicate) {
-        this.predicate = predicate;
+        this(new PersonQuery(List.of(new KeywordClause(predicate))));
     }
 
     public FindCommand(TagsInKeywordsPredicate predicate) {
-        this.predicate = predicate;
+        this(new PersonQuery(List.of(new KeywordClause(predicate))));
+    }
+
+    public FindCommand(SkillsInKeywordsPredicate predicate) {
+        this(new PersonQuery(List.of(new KeywordClause(predicate))));
     }
 
     public FindCommand(TasksInKeywordsPredicate predicate) {
-        this.predicate = predicate;
+        this(new PersonQuery(List.of(new KeywordClause(predicate))));
+    }
+
+    /**
+     * Creates a command that lists the persons satisfying {@code query}.
+     */
+    public FindCommand(PersonQuery query) {
+        requireNonNull(query);
+        this.query = query;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        // The matches are looked up once; filtering the displayed list is then a set membership test per person.
+        Set<Person> matches = model.findPersons(query);
+        model.updateFilteredPersonList(matches::contains);
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
@@ -68,13 +97,13 @@ public class FindCommand extends Command {
         }
 
         FindCommand otherFindCommand = (FindCommand) other;
-        return predicate.equals(otherFindCommand.predicate);
+        return query.equals(otherFindCommand.query);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("predicate", predicate)
+                .add("query", query)
                 .toString();
     }
 }
@@ -0,0 +1,138 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.commons.util.CsvReader;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.PersonCsvParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * Adds the persons in a CSV roster to the address book.
+ * The roster is read one record at a time and the persons are added together once all of them are valid,
+ * so that either every person in the roster is added or none is.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Adds the persons in a CSV file to the address book.\n"
+            + "The first line of the file must name the columns: " + String.join(",", PersonCsvParser.HEADER)
+            + "\nParameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/roster.csv";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d person(s) from %2$s";
+    public static final String MESSAGE_FILE_ERROR = "Could not read %1$s: %2$s";
+    public static final String MESSAGE_EMPTY_FILE = "%1$s is empty.";
+    public static final String MESSAGE_DUPLICATE_PERSON = "This person already exists in the address book: %1$s";
+    public static final String MESSAGE_LINE_ERROR = "Line %1$d: %2$s";
+    public static final String MESSAGE_NOTHING_IMPORTED = "No persons were imported.";
+    public static final String MESSAGE_MORE_ERRORS = "...and more errors from line %1$d onwards.";
+
+    /** Maximum number of invalid records reported, so that the error of a bad file stays readable. */
+    static final int MAX_REPORTED_ERRORS = 10;
+
+    private final Path file;
+
+    /**
+     * Creates an ImportCommand to add the persons in the roster at {@code file}.
+     */
+    public ImportCommand(Path file) {
+        requireNonNull(file);
+        this.file = file;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        List<Person> persons = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+        try (CsvReader reader = new CsvReader(Files.newBufferedReader(file, StandardCharsets.UTF_8))) {
+            List<String> header = reader.readRecord();
+            if (header == null) {
+                throw new CommandException(String.format(MESSAGE_EMPTY_FILE, file));
+            }
+            if (!PersonCsvParser.isHeader(header)) {
+                throw new CommandException(String.format(MESSAGE_LINE_ERROR, reader.getLineNumber(),
+                        PersonCsvParser.MESSAGE_INVALID_HEADER));
+            }
+            readPersons(reader, model, persons, errors);
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_FILE_ERROR, file, ioe.getMessage()), ioe);
+        }
+
+        if (!errors.isEmpty()) {
+            throw new CommandException(String.join("\n", errors) + "\n" + MESSAGE_NOTHING_IMPORTED);
+        }
+
+        model.addPersons(persons);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, persons.size(), file));
+    }
+
+    /**
+     * Reads the remaining records of {@code reader} into {@code persons}, adding an error to {@code errors}
+     * for each record that is invalid or that duplicates an existing or earlier person.
+     * Stops reading once more errors than can be reported are found.
+     */
+    private static void readPersons(CsvReader reader, Model model, List<Person> persons, List<String> errors)
+            throws IOException {
+        PersonCsvParser parser = new PersonCsvParser();
+        Set<Name> names = new HashSet<>();
+        List<String> record;
+        while ((record = reader.readRecord()) != null) {
+            if (record.size() == 1 && record.get(0).isBlank()) {
+                continue;
+            }
+            try {
+                Person person = parser.parse(record);
+                if (model.hasPerson(person) || !names.add(person.getName())) {
+                    throw new ParseException(String.format(MESSAGE_DUPLICATE_PERSON, person.getName()));
+                }
+                persons.add(person);
+            } catch (ParseException pe) {
+                if (errors.size() == MAX_REPORTED_ERRORS) {
+                    errors.add(String.format(MESSAGE_MORE_ERRORS, reader.getLineNumber()));
+                    return;
+                }
+                errors.add(String.format(MESSAGE_LINE_ERROR, reader.getLineNumber(), pe.getMessage()));
+            }
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ImportCommand)) {
+            return false;
+        }
+
+        ImportCommand otherImportCommand = (ImportCommand) other;
+        return file.equals(otherImportCommand.file);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("file", file)
+                .toString();
+    }
+}
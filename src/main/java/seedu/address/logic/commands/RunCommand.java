@@ -0,0 +1,95 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+
+/**
+ * Runs a batch of commands, such as the lines of a script file, as a single command.
+ * If any of the commands fails, the address book is restored to what it was before the batch started,
+ * so that either all or none of the batch is applied and saved.
+ */
+public class RunCommand extends Command {
+
+    public static final String COMMAND_WORD = "run";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Runs the commands in a text file, one command per line, and saves the result once.\n"
+            + "Blank lines and lines starting with # are skipped. "
+            + "If any command fails, none of the commands are applied.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/onboarding.txt";
+
+    public static final String MESSAGE_SUCCESS = "Ran %1$d command(s).";
+    public static final String MESSAGE_LINE_ERROR = "Line %1$d: %2$s";
+    public static final String MESSAGE_ROLLED_BACK = "No changes were made.";
+
+    private final List<Command> commands;
+    private final List<Integer> lineNumbers;
+
+    /**
+     * Creates a RunCommand to run {@code commands} in order.
+     * {@code lineNumbers} gives the line of each command, to be used in error messages.
+     */
+    public RunCommand(List<Command> commands, List<Integer> lineNumbers) {
+        requireAllNonNull(commands, lineNumbers);
+        if (commands.size() != lineNumbers.size()) {
+            throw new IllegalArgumentException("Every command needs a line number");
+        }
+        this.commands = new ArrayList<>(commands);
+        this.lineNumbers = new ArrayList<>(lineNumbers);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        // Persons are immutable, so a copy of the list is enough to restore; the indexes are only rebuilt on failure
+        ObservableList<Person> personsBeforeRun = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(model.getAddressBook().getPersonList()));
+
+        for (int i = 0; i < commands.size(); i++) {
+            try {
+                commands.get(i).execute(model);
+            } catch (CommandException e) {
+                model.setAddressBook(() -> personsBeforeRun);
+                throw new CommandException(String.format(MESSAGE_LINE_ERROR, lineNumbers.get(i), e.getMessage())
+                        + "\n" + MESSAGE_ROLLED_BACK, e);
+            }
+        }
+
+        return new CommandResult(String.format(MESSAGE_SUCCESS, commands.size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RunCommand)) {
+            return false;
+        }
+
+        RunCommand otherRunCommand = (RunCommand) other;
+        return commands.equals(otherRunCommand.commands)
+                && lineNumbers.equals(otherRunCommand.lineNumbers);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("commands", commands)
+                .add("lineNumbers", lineNumbers)
+                .toString();
+    }
+}
@@ -7,7 +7,6 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
 import java.util.List;
 
 import seedu.address.commons.core.index.Index;
@@ -62,22 +61,21 @@ public class SetDueDateCommand extends Command {
         }
 
         Person personToEdit = lastShownList.get(personIndex.getZeroBased());
-        List<Task> updatedTasks = new ArrayList<>(personToEdit.getTasks());
+        List<Task> tasks = personToEdit.getTasks();
 
-        if (taskIndex.getZeroBased() >= updatedTasks.size()) {
+        if (taskIndex.getZeroBased() >= tasks.size()) {
             throw new CommandException(String.format(Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX,
                     taskIndex.getOneBased()));
         }
 
         // Update the due date for the specified task.
-        Task taskToUpdate = updatedTasks.get(taskIndex.getZeroBased());
+        Task taskToUpdate = tasks.get(taskIndex.getZeroBased());
         if (taskToUpdate.getDueDate() != null && taskToUpdate.getDueDate().equals(dueDate)) {
             throw new CommandException(String.format("Your due date is already: %s", formatDueDate()));
         }
-        taskToUpdate.setDueDate(dueDate);
-
-        // Create a new Person with the updated tasks.
-        Person editedPerson = editPerson(personToEdit, updatedTasks);
+        // Replace rather than modify the task, which is shared with the unedited person.
+        Person editedPerson = personToEdit.setTask(taskIndex.getZeroBased(),
+                new Task(taskToUpdate.getDescription(), taskToUpdate.getStatus(), dueDate));
 
         model.setPerson(personToEdit, editedPerson);
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
@@ -86,22 +84,6 @@ public class SetDueDateCommand extends Command {
                 formatDueDate(), Messages.format(editedPerson)));
     }
 
-    private Person editPerson(Person personToEdit, List<Task> updatedTasks) {
-        return new Person(
-                personToEdit.getName(),
-                personToEdit.getPhone(),
-                personToEdit.getEmail(),
-                personToEdit.getTelegram(),
-                personToEdit.getPosition(),
-                personToEdit.getAddress(),
-                personToEdit.getTags(),
-                personToEdit.getSkills(),
-                personToEdit.getOthers(),
-                personToEdit.getTaskStatus(),
-                updatedTasks
-        );
-    }
-
     private String formatDueDate() {
         DateTimeFormatter displayFormatter = DateTimeFormatter.ofPattern("d MMM yyyy, h:mm a");
         String formattedDueDate = dueDate.format(displayFormatter);
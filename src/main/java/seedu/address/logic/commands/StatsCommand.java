@@ -0,0 +1,50 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.CommandMetrics;
+import seedu.address.model.Model;
+
+/**
+ * Shows how long the commands run since startup took, per command word and phase, and how much memory they
+ * allocated.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows the latency and allocation of the commands run since startup.\n"
+            + "Example: " + COMMAND_WORD;
+
+    private final CommandMetrics metrics;
+
+    /**
+     * Creates a StatsCommand that shows {@code metrics}.
+     */
+    public StatsCommand(CommandMetrics metrics) {
+        requireNonNull(metrics);
+        this.metrics = metrics;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        return new CommandResult(metrics.format());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof StatsCommand)) {
+            return false;
+        }
+
+        StatsCommand otherStatsCommand = (StatsCommand) other;
+        return metrics == otherStatsCommand.metrics;
+    }
+}
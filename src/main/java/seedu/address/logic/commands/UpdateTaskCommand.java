@@ -5,7 +5,6 @@ import static seedu.address.logic.Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -94,7 +93,7 @@ public class UpdateTaskCommand extends Command {
         }
 
         Person personToEdit = lastShownList.get(personIndex.getZeroBased());
-        List<Task> tasks = new ArrayList<>(personToEdit.getTasks());
+        List<Task> tasks = personToEdit.getTasks();
 
         if (taskIndex.getZeroBased() >= tasks.size()) {
             throw new CommandException(String.format(MESSAGE_INVALID_TASK_DISPLAYED_INDEX, taskIndex.getOneBased()));
@@ -128,22 +127,7 @@ public class UpdateTaskCommand extends Command {
             }
         }
 
-        tasks.set(taskIndex.getZeroBased(), updatedTask);
-
-        // Create a new Person with the updated tasks list.
-        Person updatedPerson = new Person(
-            personToEdit.getName(),
-            personToEdit.getPhone(),
-            personToEdit.getEmail(),
-            personToEdit.getTelegram(),
-            personToEdit.getPosition(),
-            personToEdit.getAddress(),
-            personToEdit.getTags(),
-            personToEdit.getSkills(),
-            personToEdit.getOthers(),
-            personToEdit.getTaskStatus(),
-            tasks
-        );
+        Person updatedPerson = personToEdit.setTask(taskIndex.getZeroBased(), updatedTask);
 
         model.setPerson(personToEdit, updatedPerson);
 
@@ -1,26 +1,35 @@
 package seedu.address.logic.parser;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.logging.Logger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.CommandMetrics;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.DeleteTaskCommand;
+import seedu.address.logic.commands.DueCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.ListMemberTasksCommand;
 import seedu.address.logic.commands.ReportCommand;
+import seedu.address.logic.commands.RunCommand;
 import seedu.address.logic.commands.SetDueDateCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.TaskCommand;
 import seedu.address.logic.commands.UpdateTaskCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -34,8 +43,26 @@ public class AddressBookParser {
      * Used for initial separation of command word and args.
      */
     private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
+    private static final String COMMENT_PREFIX = "#";
+    private static final String MESSAGE_NESTED_RUN = "Scripts cannot run other scripts.";
     private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
 
+    private final CommandMetrics metrics;
+
+    /**
+     * Creates a parser whose {@code stats} commands report an empty set of statistics.
+     */
+    public AddressBookParser() {
+        this(new CommandMetrics());
+    }
+
+    /**
+     * Creates a parser whose {@code stats} commands report {@code metrics}.
+     */
+    public AddressBookParser(CommandMetrics metrics) {
+        this.metrics = requireNonNull(metrics);
+    }
+
     /**
      * Parses user input into command for execution.
      *
@@ -89,6 +116,9 @@ public class AddressBookParser {
         case SetDueDateCommand.COMMAND_WORD:
             return new SetDueDateCommandParser().parse(arguments);
 
+        case DueCommand.COMMAND_WORD:
+            return new DueCommandParser().parse(arguments);
+
         case ExitCommand.COMMAND_WORD:
             return new ExitCommand();
 
@@ -98,9 +128,66 @@ public class AddressBookParser {
         case ReportCommand.COMMAND_WORD:
             return new ReportCommandParser().parse(arguments);
 
+        case StatsCommand.COMMAND_WORD:
+            return new StatsCommand(metrics);
+
+        case RunCommand.COMMAND_WORD:
+            return new RunCommandParser(this).parse(arguments);
+
+        case ImportCommand.COMMAND_WORD:
+            return new ImportCommandParser().parse(arguments);
+
+        case ExportCommand.COMMAND_WORD:
+            return new ExportCommandParser().parse(arguments);
+
         default:
             logger.finer("This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
     }
+
+    /**
+     * Parses every line of a script into a command, to be run together as one {@code RunCommand}.
+     * Blank lines and lines starting with {@code #} are skipped.
+     *
+     * @param lines the lines of the script, the first of which is line 1
+     * @return a command that runs the commands of the script in order
+     * @throws ParseException if any line does not conform to the expected format,
+     *     with the errors of all such lines in its message
+     */
+    public RunCommand parseScript(List<String> lines) throws ParseException {
+        List<Command> commands = new ArrayList<>();
+        List<Integer> lineNumbers = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).trim();
+            if (line.isEmpty() || line.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+            try {
+                // Checked before parsing, since parsing a run command reads its script, which may be this one
+                if (getCommandWord(line).equals(RunCommand.COMMAND_WORD)) {
+                    throw new ParseException(MESSAGE_NESTED_RUN);
+                }
+                commands.add(parseCommand(line));
+                lineNumbers.add(i + 1);
+            } catch (ParseException pe) {
+                errors.add(String.format(RunCommand.MESSAGE_LINE_ERROR, i + 1, pe.getMessage()));
+            }
+        }
+
+        if (!errors.isEmpty()) {
+            throw new ParseException(String.join("\n", errors) + "\n" + RunCommand.MESSAGE_ROLLED_BACK);
+        }
+        return new RunCommand(commands, lineNumbers);
+    }
+
+    /**
+     * Returns the lower-case command word of {@code userInput}, or an empty string if there is none.
+     */
+    private static String getCommandWord(String userInput) {
+        Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
+        return matcher.matches() ? matcher.group("commandWord").toLowerCase() : "";
+    }
 }
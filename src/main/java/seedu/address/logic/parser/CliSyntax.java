@@ -20,4 +20,5 @@ public class CliSyntax {
     public static final Prefix PREFIX_TASK_STATUS = new Prefix("tstatus/");
     public static final Prefix PREFIX_TASK_INDEX = new Prefix("taskint/");
     public static final Prefix PREFIX_TASK = new Prefix("task/");
+    public static final Prefix PREFIX_BEFORE = new Prefix("before/");
 }
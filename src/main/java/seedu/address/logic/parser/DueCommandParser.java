@@ -0,0 +1,65 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INCORRECT_DATE_FORMAT;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_BEFORE;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+
+import seedu.address.logic.commands.DueCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new DueCommand object
+ */
+public class DueCommandParser implements Parser<DueCommand> {
+
+    public static final String KEYWORD_OVERDUE = "overdue";
+
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the DueCommand
+     * and returns a DueCommand object for execution.
+     * A date without a time stands for the start of that day.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public DueCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_BEFORE);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_BEFORE);
+        String preamble = argMultimap.getPreamble().trim();
+        Optional<String> before = argMultimap.getValue(PREFIX_BEFORE);
+
+        if (before.isEmpty() && preamble.equalsIgnoreCase(KEYWORD_OVERDUE)) {
+            return DueCommand.overdue();
+        }
+        if (before.isEmpty() || !preamble.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, DueCommand.MESSAGE_USAGE));
+        }
+        return new DueCommand(parseDateTime(before.get().trim()));
+    }
+
+    /**
+     * Parses {@code value} as a date and time, or as a date standing for the start of that day.
+     * @throws ParseException if {@code value} is neither
+     */
+    static LocalDateTime parseDateTime(String value) throws ParseException {
+        try {
+            return LocalDateTime.parse(value, DATE_TIME_FORMATTER);
+        } catch (DateTimeParseException e) {
+            // not a date and time; try a date on its own
+        }
+        try {
+            return LocalDate.parse(value, DATE_FORMATTER).atStartOfDay();
+        } catch (DateTimeParseException e) {
+            throw new ParseException(MESSAGE_INCORRECT_DATE_FORMAT, e);
+        }
+    }
+}
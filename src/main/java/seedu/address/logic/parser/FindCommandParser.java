@@ -1,87 +1,128 @@
 package seedu.address.logic.parser;
 
+import static seedu.address.logic.Messages.MESSAGE_INCORRECT_TASK_STATUS;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DUE_DATE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SKILL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TASK;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TASK_STATUS;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Stream;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.DueBeforeClause;
+import seedu.address.model.person.KeywordClause;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.PersonQuery;
+import seedu.address.model.person.SkillsInKeywordsPredicate;
 import seedu.address.model.person.TagsInKeywordsPredicate;
+import seedu.address.model.person.TaskStatusClause;
 import seedu.address.model.person.TasksInKeywordsPredicate;
+import seedu.address.model.task.TaskStatus;
 
 /**
  * Parses input arguments and creates a new FindCommand object
  */
 public class FindCommandParser implements Parser<FindCommand> {
 
+    /** The operator that must precede the date of a due date condition. */
+    public static final String DUE_BEFORE_OPERATOR = "<";
+
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
      * and returns a FindCommand object for execution.
+     * Each prefix given adds a condition that the persons found must satisfy.
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindCommand parse(String args) throws ParseException {
         ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_PHONE,
-                    PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_TAG, PREFIX_TASK);
-
-        if (arePrefixesPresent(argMultimap, PREFIX_NAME)) {
-            argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS);
-            Name placeHolderName = ParserUtil.parseName(argMultimap.getValue(PREFIX_NAME).get().trim());
-            String names = placeHolderName.fullName;
-            String[] nameKeywords = names.trim().split("\\s+");
-            List<String> arr = Arrays.asList(nameKeywords);
-            return new FindCommand(new NameContainsKeywordsPredicate(arr));
+                ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS,
+                    PREFIX_TAG, PREFIX_SKILL, PREFIX_TASK, PREFIX_TASK_STATUS, PREFIX_DUE_DATE);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS,
+                PREFIX_TASK_STATUS, PREFIX_DUE_DATE);
+
+        List<PersonQuery.Clause> clauses = new ArrayList<>();
+
+        Optional<String> names = argMultimap.getValue(PREFIX_NAME);
+        if (names.isPresent()) {
+            Name placeHolderName = ParserUtil.parseName(names.get().trim());
+            List<String> nameKeywords = splitKeywords(placeHolderName.fullName);
+            clauses.add(new KeywordClause(new NameContainsKeywordsPredicate(nameKeywords)));
+        }
+
+        Optional<String> tags = argMultimap.getValue(PREFIX_TAG);
+        if (tags.isPresent()) {
+            clauses.add(new KeywordClause(new TagsInKeywordsPredicate(splitKeywords(tags.get()))));
+        }
+
+        Optional<String> skills = argMultimap.getValue(PREFIX_SKILL);
+        if (skills.isPresent()) {
+            clauses.add(new KeywordClause(new SkillsInKeywordsPredicate(splitKeywords(skills.get()))));
+        }
+
+        Optional<String> tasks = argMultimap.getValue(PREFIX_TASK);
+        if (tasks.isPresent()) {
+            clauses.add(new KeywordClause(new TasksInKeywordsPredicate(splitKeywords(tasks.get()))));
+        }
+
+        Optional<String> status = argMultimap.getValue(PREFIX_TASK_STATUS);
+        if (status.isPresent()) {
+            clauses.add(new TaskStatusClause(parseTaskStatus(status.get())));
         }
 
-        if (arePrefixesPresent(argMultimap, PREFIX_TAG)) {
-            argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS);
-            Optional<String> tagsToFindOptional = argMultimap.getValue(PREFIX_TAG);
-            if (!tagsToFindOptional.isPresent()) {
-                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
-            }
-            assert tagsToFindOptional.isPresent() : "Should be able to get tags";
-            String tagsToFind = tagsToFindOptional.get().trim();
-            String[] tagKeywords = tagsToFind.trim().split("\\s+");
-            List<String> arr = Arrays.asList(tagKeywords);
-            return new FindCommand(new TagsInKeywordsPredicate(arr));
+        Optional<String> dueDate = argMultimap.getValue(PREFIX_DUE_DATE);
+        if (dueDate.isPresent()) {
+            clauses.add(parseDueBefore(dueDate.get()));
         }
 
-        if (arePrefixesPresent(argMultimap, PREFIX_TASK)) {
-            argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS);
-            Optional<String> tasksToFindOptional = argMultimap.getValue(PREFIX_TASK);
-            System.out.println("HERE");
-            System.out.println(tasksToFindOptional);
-            if (!tasksToFindOptional.isPresent()) {
-                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
-            }
-            assert tasksToFindOptional.isPresent() : "Should be able to get tasks";
-            String tasksToFind = tasksToFindOptional.get().trim();
-            String[] taskKeywords = tasksToFind.trim().split("\\s+");
-            List<String> arr = Arrays.asList(taskKeywords);
-            return new FindCommand(new TasksInKeywordsPredicate(arr));
+        if (clauses.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
+        return new FindCommand(new PersonQuery(clauses));
+    }
 
-        throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    /**
+     * Splits the keywords given for a prefix at whitespace.
+     * @throws ParseException if no keyword is given
+     */
+    private static List<String> splitKeywords(String keywords) throws ParseException {
+        if (keywords.isBlank()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+        return Arrays.asList(keywords.trim().split("\\s+"));
+    }
 
+    /**
+     * Parses a task status, in which words may be separated by hyphens instead of spaces, e.g. {@code in-progress}.
+     */
+    private static TaskStatus parseTaskStatus(String status) throws ParseException {
+        String normalised = status.replace('-', ' ');
+        if (!TaskStatus.isValidStatus(normalised)) {
+            throw new ParseException(MESSAGE_INCORRECT_TASK_STATUS);
+        }
+        return TaskStatus.fromString(normalised);
     }
 
     /**
-     * Returns true if none of the prefixes contains empty {@code Optional} values in the given
-     * {@code ArgumentMultimap}.
+     * Parses a due date condition of the form {@code <DATE}, where {@code DATE} is a date with an optional time.
      */
-    private static boolean arePrefixesPresent(ArgumentMultimap argumentMultimap, Prefix... prefixes) {
-        return Stream.of(prefixes).allMatch(prefix -> argumentMultimap.getValue(prefix).isPresent());
+    private static DueBeforeClause parseDueBefore(String condition) throws ParseException {
+        String trimmed = condition.trim();
+        if (!trimmed.startsWith(DUE_BEFORE_OPERATOR)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+        return new DueBeforeClause(
+                DueCommandParser.parseDateTime(trimmed.substring(DUE_BEFORE_OPERATOR.length()).trim()));
     }
 
 }
@@ -7,6 +7,8 @@ import static seedu.address.logic.Messages.MESSAGE_INCORRECT_TASK_STATUS;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_TASK_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DUE_DATE;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
@@ -15,6 +17,7 @@ import java.util.HashSet;
 import java.util.Set;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.other.Other;
@@ -35,6 +38,7 @@ import seedu.address.model.task.TaskStatus;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not an integer greater zero.";
+    public static final String MESSAGE_INVALID_PATH = "File path is not a valid path.";
     private static final DateTimeFormatter INPUT_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
 
     /**
@@ -50,6 +54,21 @@ public class ParserUtil {
         return Index.fromOneBased(Integer.parseInt(trimmedIndex));
     }
 
+    /**
+     * Parses {@code path} into a {@code Path}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code path} is empty or not a valid path.
+     */
+    public static Path parsePath(String path) throws ParseException {
+        requireNonNull(path);
+        String trimmedPath = path.trim();
+        if (trimmedPath.isEmpty() || !FileUtil.isValidPath(trimmedPath)) {
+            throw new ParseException(MESSAGE_INVALID_PATH);
+        }
+        return Paths.get(trimmedPath);
+    }
+
     /**
      * Parses a {@code String name} into a {@code Name}.
      * Leading and trailing whitespaces will be trimmed.
@@ -132,7 +151,7 @@ public class ParserUtil {
     public static Position parsePosition(String position) {
         requireNonNull(position);
         String trimmedPosition = position.trim();
-        return new Position(trimmedPosition);
+        return Position.of(trimmedPosition);
     }
 
     /**
@@ -147,7 +166,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
@@ -171,7 +190,7 @@ public class ParserUtil {
     public static Skill parseSkill(String skill) throws ParseException {
         requireNonNull(skill);
         String trimmedSkill = skill.trim();
-        return new Skill(trimmedSkill);
+        return Skill.of(trimmedSkill);
     }
 
     /**
@@ -195,7 +214,7 @@ public class ParserUtil {
     public static Other parseOther(String other) throws ParseException {
         requireNonNull(other);
         String trimmedOther = other.trim();
-        return new Other(trimmedOther);
+        return Other.of(trimmedOther);
     }
 
     /**
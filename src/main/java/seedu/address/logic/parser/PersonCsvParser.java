@@ -0,0 +1,239 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_EMPTY_TASK_DESC;
+import static seedu.address.logic.Messages.MESSAGE_INCORRECT_DATE_FORMAT;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_TASK_FORMAT;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.other.Other;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Position;
+import seedu.address.model.person.Telegram;
+import seedu.address.model.skill.Skill;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.task.Task;
+import seedu.address.model.task.TaskStatus;
+
+/**
+ * Converts between persons and the records of a CSV roster, one person per record.
+ * Fields are validated in the same way as the fields of the {@code add} command.
+ * Tags, skills, others and tasks hold any number of values, separated by {@value #VALUE_SEPARATOR}.
+ * Each task is written as {@code DESCRIPTION[, DUE_DATE][, STATUS]}; unlike the {@code task} command,
+ * due dates in the past are accepted, so that the tasks of an exported roster can be imported again.
+ * A separator or {@value #ESCAPE} that is part of a value is written with {@value #ESCAPE} before it.
+ * The task status of the person as a whole is not written; like the data file, imported persons start with
+ * the status given to new persons by the {@code add} command.
+ */
+public class PersonCsvParser {
+
+    public static final List<String> HEADER = List.of("name", "phone", "email", "telegram", "position", "address",
+            "tags", "skills", "others", "tasks");
+    public static final String VALUE_SEPARATOR = ";";
+    public static final String ESCAPE = "\\";
+    public static final DateTimeFormatter DUE_DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    public static final String MESSAGE_INVALID_HEADER = "The first line must name the columns: "
+            + String.join(",", HEADER);
+    public static final String MESSAGE_WRONG_FIELD_COUNT = "Expected %1$d fields but found %2$d.";
+
+    private static final String TASK_DETAIL_SEPARATOR = ",";
+    /** Written at the start of the file by some spreadsheet programs when saving as UTF-8. */
+    private static final String BYTE_ORDER_MARK = "\uFEFF";
+    /** Task status of new persons, as set by the add command. */
+    private static final String DEFAULT_TASK_STATUS = "not started";
+
+    /**
+     * Returns true if {@code record} names the columns of a roster, in order and ignoring case.
+     * A byte order mark before the first column name is ignored.
+     */
+    public static boolean isHeader(List<String> record) {
+        requireNonNull(record);
+        if (record.size() != HEADER.size()) {
+            return false;
+        }
+        for (int i = 0; i < HEADER.size(); i++) {
+            String column = i == 0 ? stripByteOrderMark(record.get(i)) : record.get(i);
+            if (!HEADER.get(i).equalsIgnoreCase(column.trim())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String stripByteOrderMark(String field) {
+        return field.startsWith(BYTE_ORDER_MARK) ? field.substring(BYTE_ORDER_MARK.length()) : field;
+    }
+
+    /**
+     * Parses a record of a roster into a {@code Person}.
+     *
+     * @throws ParseException if the record does not have one field per column, or any field is invalid.
+     */
+    public Person parse(List<String> record) throws ParseException {
+        requireNonNull(record);
+        if (record.size() != HEADER.size()) {
+            throw new ParseException(String.format(MESSAGE_WRONG_FIELD_COUNT, HEADER.size(), record.size()));
+        }
+
+        Name name = ParserUtil.parseName(record.get(0));
+        Phone phone = ParserUtil.parsePhone(record.get(1));
+        Email email = ParserUtil.parseEmail(record.get(2));
+        Telegram telegram = ParserUtil.parseTelegram(record.get(3));
+        Position position = ParserUtil.parsePosition(record.get(4));
+        Address address = ParserUtil.parseAddress(record.get(5));
+        Set<Tag> tags = ParserUtil.parseTags(unescapeAll(splitValues(record.get(6))));
+        Set<Skill> skills = ParserUtil.parseSkills(unescapeAll(splitValues(record.get(7))));
+        Set<Other> others = ParserUtil.parseOthers(unescapeAll(splitValues(record.get(8))));
+        List<Task> tasks = new ArrayList<>();
+        for (String task : splitValues(record.get(9))) {
+            tasks.add(parseTask(task));
+        }
+
+        return new Person(name, phone, email, telegram, position, address, tags, skills, others,
+                DEFAULT_TASK_STATUS, tasks);
+    }
+
+    /**
+     * Returns the record of a roster that holds {@code person}.
+     */
+    public static List<String> toRecord(Person person) {
+        requireNonNull(person);
+        return List.of(
+                person.getName().fullName,
+                person.getPhone().value,
+                person.getEmail().value,
+                person.getTelegram().value,
+                person.getPosition().value,
+                person.getAddress().value,
+                joinValues(person.getTags(), tag -> escape(tag.tagName)),
+                joinValues(person.getSkills(), skill -> escape(skill.skillName)),
+                joinValues(person.getOthers(), other -> escape(other.other)),
+                joinValues(person.getTasks(), PersonCsvParser::formatTask));
+    }
+
+    /**
+     * Parses a task written as {@code DESCRIPTION[, DUE_DATE][, STATUS]}, still escaped.
+     */
+    private static Task parseTask(String task) throws ParseException {
+        List<String> details = splitEscaped(task, TASK_DETAIL_SEPARATOR.charAt(0));
+        if (details.size() > 3) {
+            throw new ParseException(MESSAGE_INVALID_TASK_FORMAT);
+        }
+
+        String description = unescape(details.get(0).trim());
+        if (description.isEmpty()) {
+            throw new ParseException(MESSAGE_EMPTY_TASK_DESC);
+        }
+
+        LocalDateTime dueDate = null;
+        TaskStatus status = TaskStatus.YET_TO_START;
+        for (int i = 1; i < details.size(); i++) {
+            String detail = details.get(i).trim();
+            if (TaskStatus.isValidStatus(detail)) {
+                status = TaskStatus.fromString(detail);
+                continue;
+            }
+            try {
+                dueDate = LocalDateTime.parse(detail, DUE_DATE_FORMATTER);
+            } catch (DateTimeParseException e) {
+                throw new ParseException(MESSAGE_INCORRECT_DATE_FORMAT);
+            }
+        }
+        return new Task(description, status, dueDate);
+    }
+
+    private static String formatTask(Task task) {
+        StringBuilder formatted = new StringBuilder(escape(task.getDescription()));
+        if (task.getDueDate() != null) {
+            formatted.append(TASK_DETAIL_SEPARATOR).append(' ').append(task.getDueDate().format(DUE_DATE_FORMATTER));
+        }
+        formatted.append(TASK_DETAIL_SEPARATOR).append(' ')
+                .append(task.getStatus().name().toLowerCase().replace('_', ' '));
+        return formatted.toString();
+    }
+
+    /**
+     * Returns the non-blank values of {@code field}, trimmed but still escaped.
+     */
+    private static List<String> splitValues(String field) {
+        if (field.isBlank()) {
+            return List.of();
+        }
+        return splitEscaped(field, VALUE_SEPARATOR.charAt(0)).stream()
+                .map(String::trim)
+                .filter(value -> !value.isEmpty())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Splits {@code text} at every {@code separator} that is not escaped, keeping the escapes in the parts.
+     */
+    private static List<String> splitEscaped(String text, char separator) {
+        List<String> parts = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == ESCAPE.charAt(0)) {
+                i++;
+            } else if (c == separator) {
+                parts.add(text.substring(start, i));
+                start = i + 1;
+            }
+        }
+        parts.add(text.substring(start));
+        return parts;
+    }
+
+    private static List<String> unescapeAll(List<String> values) {
+        return values.stream().map(PersonCsvParser::unescape).collect(Collectors.toList());
+    }
+
+    /**
+     * Removes the escapes from {@code value}. An {@value #ESCAPE} at the end, with nothing to escape, is kept.
+     */
+    private static String unescape(String value) {
+        if (!value.contains(ESCAPE)) {
+            return value;
+        }
+        StringBuilder unescaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ESCAPE.charAt(0) && i + 1 < value.length()) {
+                c = value.charAt(++i);
+            }
+            unescaped.append(c);
+        }
+        return unescaped.toString();
+    }
+
+    /**
+     * Escapes the separators and escapes in {@code value}, so that it is read back as a single value.
+     */
+    private static String escape(String value) {
+        return value.replace(ESCAPE, ESCAPE + ESCAPE)
+                .replace(VALUE_SEPARATOR, ESCAPE + VALUE_SEPARATOR)
+                .replace(TASK_DETAIL_SEPARATOR, ESCAPE + TASK_DETAIL_SEPARATOR);
+    }
+
+    private static <T> String joinValues(Iterable<T> values, Function<T, String> formatter) {
+        List<String> formatted = new ArrayList<>();
+        for (T value : values) {
+            formatted.add(formatter.apply(value));
+        }
+        return String.join(VALUE_SEPARATOR, formatted);
+    }
+}
@@ -0,0 +1,62 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new RunCommand object
+ */
+public class RunCommandParser implements Parser<RunCommand> {
+
+    public static final String MESSAGE_FILE_NOT_READABLE = "Could not read the script file %1$s";
+
+    private final AddressBookParser scriptParser;
+
+    /**
+     * Creates a parser whose scripts are parsed by a parser with an empty set of statistics.
+     */
+    public RunCommandParser() {
+        this(new AddressBookParser());
+    }
+
+    /**
+     * Creates a parser whose scripts are parsed by {@code scriptParser}, so that their {@code stats} commands
+     * report the same statistics as the commands outside the script.
+     */
+    public RunCommandParser(AddressBookParser scriptParser) {
+        this.scriptParser = requireNonNull(scriptParser);
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RunCommand
+     * and returns a RunCommand object that runs every command in the script file.
+     * All lines are parsed before any of them is run.
+     * @throws ParseException if the file cannot be read or any of its lines does not conform the expected format
+     */
+    public RunCommand parse(String args) throws ParseException {
+        Path file;
+        try {
+            file = ParserUtil.parsePath(args);
+        } catch (ParseException pe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE), pe);
+        }
+
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        } catch (IOException ioe) {
+            throw new ParseException(String.format(MESSAGE_FILE_NOT_READABLE, file), ioe);
+        }
+        return scriptParser.parseScript(lines);
+    }
+
+}
@@ -2,22 +2,40 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIndexes;
+import seedu.address.model.person.PersonKeywordIndex;
+import seedu.address.model.person.TaskDueDateIndex;
+import seedu.address.model.person.TaskStatusSummary;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.task.TaskStatus;
 
 /**
  * Wraps all data at the address-book level.
  */
-public class AddressBook implements ReadOnlyAddressBook {
+public class AddressBook implements ReadOnlyAddressBook, PersonIndexes {
 
     private final UniquePersonList persons;
+    private final PersonKeywordIndex keywordIndex;
+    private final TaskStatusSummary taskStatusSummary;
+    private final TaskDueDateIndex dueDateIndex;
+    private long version;
 
     {
         persons = new UniquePersonList();
+        keywordIndex = new PersonKeywordIndex();
+        // Sorted by position, so that persons are listed in the order of the person list
+        taskStatusSummary = new TaskStatusSummary(Comparator.comparingInt(persons::indexOf));
+        dueDateIndex = new TaskDueDateIndex();
     }
 
     public AddressBook() {}
@@ -38,6 +56,10 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        keywordIndex.reset(persons);
+        taskStatusSummary.reset(persons);
+        dueDateIndex.reset(persons);
+        version++;
     }
 
     /**
@@ -65,6 +87,24 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPerson(Person p) {
         persons.add(p);
+        keywordIndex.add(p);
+        taskStatusSummary.add(p);
+        dueDateIndex.add(p);
+        version++;
+    }
+
+    /**
+     * Adds all of {@code persons} to the address book at once.
+     * None of the persons may already exist in the address book, or appear more than once in {@code persons}.
+     */
+    public void addPersons(List<Person> persons) {
+        this.persons.addAll(persons);
+        for (Person p : persons) {
+            keywordIndex.add(p);
+            taskStatusSummary.add(p);
+            dueDateIndex.add(p);
+        }
+        version++;
     }
 
     /**
@@ -76,6 +116,12 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        keywordIndex.remove(target);
+        keywordIndex.add(editedPerson);
+        taskStatusSummary.set(target, editedPerson);
+        dueDateIndex.remove(target);
+        dueDateIndex.add(editedPerson);
+        version++;
     }
 
     /**
@@ -84,6 +130,71 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        keywordIndex.remove(key);
+        taskStatusSummary.remove(key);
+        dueDateIndex.remove(key);
+        version++;
+    }
+
+    /**
+     * Returns the persons whose {@code field} contains any of the {@code keywords} as a full word, ignoring case.
+     */
+    @Override
+    public Set<Person> findPersons(PersonKeywordIndex.Field field, Collection<String> keywords) {
+        return keywordIndex.find(field, keywords);
+    }
+
+    @Override
+    public int countPersons(PersonKeywordIndex.Field field, Collection<String> keywords) {
+        return keywordIndex.count(field, keywords);
+    }
+
+    @Override
+    public Predicate<Person> getKeywordFilter(PersonKeywordIndex.Field field, Collection<String> keywords) {
+        return keywordIndex.filter(field, keywords);
+    }
+
+    /**
+     * Returns the number of tasks with {@code status} across all persons.
+     */
+    public int getTaskCount(TaskStatus status) {
+        return taskStatusSummary.getTaskCount(status);
+    }
+
+    /**
+     * Returns the persons with at least one task with {@code status}, in the order of the person list.
+     * The returned list is unmodifiable and is not affected by later changes to the address book.
+     */
+    @Override
+    public List<Person> getPersonsWithTaskStatus(TaskStatus status) {
+        return taskStatusSummary.getPersonsWith(status);
+    }
+
+    @Override
+    public int countPersonsWithTaskStatus(TaskStatus status) {
+        return taskStatusSummary.getPersonCount(status);
+    }
+
+    /**
+     * Returns the unfinished tasks of all persons that are due strictly before {@code time}, earliest first.
+     * The returned list is unmodifiable and is not affected by later changes to the address book.
+     */
+    @Override
+    public List<TaskDueDateIndex.Entry> getTasksDueBefore(LocalDateTime time) {
+        return dueDateIndex.getTasksDueBefore(time);
+    }
+
+    @Override
+    public int countTasksDueBefore(LocalDateTime time) {
+        return dueDateIndex.countTasksDueBefore(time);
+    }
+
+    /**
+     * Returns a number that changes whenever the persons in this {@code AddressBook} are modified.
+     * Two calls returning the same value mean that no modification was made in between.
+     */
+    public long getVersion() {
+        return version;
     }
 
     //// util methods
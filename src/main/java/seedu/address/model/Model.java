@@ -1,11 +1,19 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonKeywordIndex;
+import seedu.address.model.person.PersonQuery;
+import seedu.address.model.person.TaskDueDateIndex;
+import seedu.address.model.task.TaskStatus;
 
 
 /**
@@ -53,6 +61,12 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns a number that changes whenever the address book is modified,
+     * so that callers can tell whether it has changed since they last looked.
+     */
+    long getAddressBookVersion();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -70,6 +84,12 @@ public interface Model {
      */
     void addPerson(Person person);
 
+    /**
+     * Adds all of the given persons at once.
+     * None of {@code persons} may already exist in the address book, or appear more than once in {@code persons}.
+     */
+    void addPersons(List<Person> persons);
+
     /**
      * Replaces the given person {@code target} with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -77,6 +97,35 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Returns the persons in the address book whose {@code field} contains any of the {@code keywords}
+     * as a full word, ignoring case. The lookup goes through the keyword index and does not scan the list.
+     */
+    Set<Person> findPersons(PersonKeywordIndex.Field field, Collection<String> keywords);
+
+    /**
+     * Returns the persons in the address book that satisfy every clause of {@code query}.
+     * The query starts from the index lookup of its most selective clause, and does not scan the list.
+     */
+    Set<Person> findPersons(PersonQuery query);
+
+    /**
+     * Returns the number of tasks with {@code status} across all persons in the address book.
+     */
+    int getTaskCount(TaskStatus status);
+
+    /**
+     * Returns the persons in the address book with at least one task with {@code status}, in list order.
+     * The result is kept up to date as persons change, so this does not scan the list.
+     */
+    List<Person> getPersonsWithTaskStatus(TaskStatus status);
+
+    /**
+     * Returns the unfinished tasks in the address book that are due strictly before {@code time}, earliest first.
+     * The tasks are read from a due date index kept up to date as persons change, so this does not scan the list.
+     */
+    List<TaskDueDateIndex.Entry> getTasksDueBefore(LocalDateTime time);
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
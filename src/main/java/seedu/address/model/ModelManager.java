@@ -4,6 +4,10 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -11,7 +15,12 @@ import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.events.PersonFilterUpdatedEvent;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonKeywordIndex;
+import seedu.address.model.person.PersonQuery;
+import seedu.address.model.person.TaskDueDateIndex;
+import seedu.address.model.task.TaskStatus;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -87,6 +96,11 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public long getAddressBookVersion() {
+        return addressBook.getVersion();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -104,6 +118,13 @@ public class ModelManager implements Model {
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
+    @Override
+    public void addPersons(List<Person> persons) {
+        requireNonNull(persons);
+        addressBook.addPersons(persons);
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+    }
+
     @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
@@ -111,6 +132,36 @@ public class ModelManager implements Model {
         addressBook.setPerson(target, editedPerson);
     }
 
+    @Override
+    public Set<Person> findPersons(PersonKeywordIndex.Field field, Collection<String> keywords) {
+        requireAllNonNull(field, keywords);
+        return addressBook.findPersons(field, keywords);
+    }
+
+    @Override
+    public Set<Person> findPersons(PersonQuery query) {
+        requireNonNull(query);
+        return query.findMatches(addressBook);
+    }
+
+    @Override
+    public int getTaskCount(TaskStatus status) {
+        requireNonNull(status);
+        return addressBook.getTaskCount(status);
+    }
+
+    @Override
+    public List<Person> getPersonsWithTaskStatus(TaskStatus status) {
+        requireNonNull(status);
+        return addressBook.getPersonsWithTaskStatus(status);
+    }
+
+    @Override
+    public List<TaskDueDateIndex.Entry> getTasksDueBefore(LocalDateTime time) {
+        requireNonNull(time);
+        return addressBook.getTasksDueBefore(time);
+    }
+
     //=========== Filtered Person List Accessors =============================================================
 
     /**
@@ -125,7 +176,14 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
+        PersonFilterUpdatedEvent event = new PersonFilterUpdatedEvent();
+        event.begin();
         filteredPersons.setPredicate(predicate);
+        if (event.shouldCommit()) {
+            event.setMatched(filteredPersons.size());
+            event.setTotal(filteredPersons.getSource().size());
+            event.commit();
+        }
     }
 
     @Override
@@ -2,10 +2,14 @@ package seedu.address.model.other;
 
 import static java.util.Objects.requireNonNull;
 
+import seedu.address.commons.util.Interner;
+
 /**
  * Represents an Other in TeamScape.
  */
 public class Other {
+    private static final Interner<Other> INTERNER = new Interner<>(Other::new, value -> value.other);
+
     public final String other;
 
     /**
@@ -18,6 +22,17 @@ public class Other {
         this.other = other;
     }
 
+    /**
+     * Returns the {@code Other} for {@code other}. Every call with an equal value returns the same instance.
+     * Prefer this to the constructor for values that are held by persons.
+     *
+     * @param other A valid value.
+     */
+    public static Other of(String other) {
+        requireNonNull(other);
+        return INTERNER.intern(other);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -0,0 +1,80 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.task.Task;
+
+/**
+ * A {@link PersonQuery} clause satisfied by the persons with at least one unfinished task due strictly before
+ * the given time. Candidates are looked up in the due date index.
+ */
+public class DueBeforeClause implements PersonQuery.Clause {
+
+    private final LocalDateTime time;
+
+    /**
+     * Creates a clause matching the persons with an unfinished task due before {@code time}.
+     */
+    public DueBeforeClause(LocalDateTime time) {
+        requireNonNull(time);
+        this.time = time;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        for (Task task : person.getTasks()) {
+            if (TaskDueDateIndex.isIndexed(task) && task.getDueDate().isBefore(time)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the number of tasks due before the time, which bounds the number of persons they belong to.
+     */
+    @Override
+    public int estimateMatches(PersonIndexes indexes) {
+        return indexes.countTasksDueBefore(time);
+    }
+
+    @Override
+    public Collection<Person> findMatches(PersonIndexes indexes) {
+        Set<Person> persons = new LinkedHashSet<>();
+        for (TaskDueDateIndex.Entry entry : indexes.getTasksDueBefore(time)) {
+            persons.add(entry.getPerson());
+        }
+        return persons;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof DueBeforeClause)) {
+            return false;
+        }
+
+        DueBeforeClause otherDueBeforeClause = (DueBeforeClause) other;
+        return time.equals(otherDueBeforeClause.time);
+    }
+
+    @Override
+    public int hashCode() {
+        return time.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("time", time).toString();
+    }
+}
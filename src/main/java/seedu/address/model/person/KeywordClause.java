@@ -0,0 +1,94 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * A {@link PersonQuery} clause satisfied by the persons whose name, tags, skills or tasks contain any of
+ * the given keywords. Candidates are looked up in the keyword index, which is also used to check the candidates
+ * of other clauses.
+ */
+public class KeywordClause implements PersonQuery.Clause {
+
+    private final PersonKeywordIndex.Field field;
+    private final Predicate<Person> predicate;
+    private final List<String> keywords;
+
+    public KeywordClause(NameContainsKeywordsPredicate predicate) {
+        this(PersonKeywordIndex.Field.NAME, predicate, predicate.getKeywords());
+    }
+
+    public KeywordClause(TagsInKeywordsPredicate predicate) {
+        this(PersonKeywordIndex.Field.TAG, predicate, predicate.getKeywords());
+    }
+
+    public KeywordClause(SkillsInKeywordsPredicate predicate) {
+        this(PersonKeywordIndex.Field.SKILL, predicate, predicate.getKeywords());
+    }
+
+    public KeywordClause(TasksInKeywordsPredicate predicate) {
+        this(PersonKeywordIndex.Field.TASK, predicate, predicate.getKeywords());
+    }
+
+    private KeywordClause(PersonKeywordIndex.Field field, Predicate<Person> predicate, List<String> keywords) {
+        requireNonNull(keywords);
+        this.field = field;
+        this.predicate = predicate;
+        this.keywords = keywords;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return predicate.test(person);
+    }
+
+    @Override
+    public int estimateMatches(PersonIndexes indexes) {
+        return indexes.countPersons(field, keywords);
+    }
+
+    @Override
+    public Collection<Person> findMatches(PersonIndexes indexes) {
+        return indexes.findPersons(field, keywords);
+    }
+
+    /**
+     * Returns a test that looks persons up in the keyword index rather than reading their fields.
+     */
+    @Override
+    public Predicate<Person> toFilter(PersonIndexes indexes) {
+        return indexes.getKeywordFilter(field, keywords);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof KeywordClause)) {
+            return false;
+        }
+
+        KeywordClause otherKeywordClause = (KeywordClause) other;
+        return field == otherKeywordClause.field
+                && keywords.equals(otherKeywordClause.keywords);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(field, keywords);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("predicate", predicate).toString();
+    }
+}
@@ -3,6 +3,11 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Locale;
+import java.util.Set;
+
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -19,6 +24,10 @@ public class Name {
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
     public final String fullName;
+    /** The words of the name in lower case, split once so that searching names does not split them again. */
+    private final String[] words;
+    /** The hash of the name in lower case, computed once since persons are hashed on every index lookup. */
+    private final int hash;
 
     /**
      * Constructs a {@code Name}.
@@ -29,6 +38,8 @@ public class Name {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = name;
+        words = StringUtil.toLowerCaseWords(name);
+        hash = name.toLowerCase(Locale.ROOT).hashCode();
     }
 
     /**
@@ -38,6 +49,19 @@ public class Name {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns true if any word of the name, in lower case, is in {@code lowerCaseWords}.
+     */
+    public boolean hasWordIn(Set<String> lowerCaseWords) {
+        return StringUtil.containsAnyWord(words, lowerCaseWords);
+    }
+
+    /**
+     * Returns the words of the name in lower case. The returned array must not be modified.
+     */
+    public String[] getWords() {
+        return words;
+    }
 
     @Override
     public String toString() {
@@ -61,7 +85,8 @@ public class Name {
 
     @Override
     public int hashCode() {
-        return fullName.hashCode();
+        // Consistent with the case-insensitive equals so that names can be used as hash keys.
+        return hash;
     }
 
 }
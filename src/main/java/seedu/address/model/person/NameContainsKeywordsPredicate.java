@@ -1,6 +1,9 @@
 package seedu.address.model.person;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.StringUtil;
@@ -11,15 +14,25 @@ import seedu.address.commons.util.ToStringBuilder;
  */
 public class NameContainsKeywordsPredicate implements Predicate<Person> {
     private final List<String> keywords;
+    /** The words of the keywords in lower case, so that each word of a name is looked up once for all keywords. */
+    private final Set<String> lowerCaseKeywords;
 
+    /**
+     * Creates a predicate that matches the persons whose name contains any of {@code keywords} as a full word.
+     */
     public NameContainsKeywordsPredicate(List<String> keywords) {
+        requireNonNull(keywords);
         this.keywords = keywords;
+        this.lowerCaseKeywords = StringUtil.toLowerCaseWordSet(keywords);
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
     }
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
+        return person.getName().hasWordIn(lowerCaseKeywords);
     }
 
     @Override
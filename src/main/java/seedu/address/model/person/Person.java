@@ -2,13 +2,13 @@ package seedu.address.model.person;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
+import seedu.address.commons.util.PersistentList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.other.Other;
 import seedu.address.model.skill.Skill;
@@ -18,6 +18,8 @@ import seedu.address.model.task.Task;
 /**
  * Represents a Person in the address book.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ * The copies returned by the task methods share the field collections of this person, and all but
+ * O(log n) nodes of its task list, so changing one task does not copy every field.
  */
 public class Person {
 
@@ -34,7 +36,10 @@ public class Person {
     private final Set<Tag> tags;
     private final Set<Skill> skills;
     private final Set<Other> others;
-    private final List<Task> tasks;
+    private final PersistentList<Task> tasks;
+
+    /** Computed once, since persons are hashed whenever they are looked up in or collected from an index. */
+    private final int hash;
 
     /**
      * Every field must be present and not null.
@@ -48,11 +53,30 @@ public class Person {
         this.telegram = telegram;
         this.position = position;
         this.address = address;
-        this.tags = new HashSet<>(tags);
-        this.skills = new HashSet<>(skills);
-        this.others = new HashSet<>(others);
+        this.tags = Collections.unmodifiableSet(new HashSet<>(tags));
+        this.skills = Collections.unmodifiableSet(new HashSet<>(skills));
+        this.others = Collections.unmodifiableSet(new HashSet<>(others));
         this.taskStatus = taskStatus;
-        this.tasks = new ArrayList<>(tasks);
+        this.tasks = PersistentList.copyOf(tasks);
+        this.hash = Objects.hash(name, phone, email, address, this.tags);
+    }
+
+    /**
+     * Creates a copy of {@code source} with {@code tasks} as its tasks, sharing every other field.
+     */
+    private Person(Person source, PersistentList<Task> tasks) {
+        this.name = source.name;
+        this.phone = source.phone;
+        this.email = source.email;
+        this.telegram = source.telegram;
+        this.position = source.position;
+        this.address = source.address;
+        this.tags = source.tags;
+        this.skills = source.skills;
+        this.others = source.others;
+        this.taskStatus = source.taskStatus;
+        this.tasks = tasks;
+        this.hash = source.hash;
     }
 
     // Getters
@@ -86,30 +110,27 @@ public class Person {
     }
 
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return tags;
     }
 
     public Set<Skill> getSkills() {
-        return Collections.unmodifiableSet(skills);
+        return skills;
     }
 
     public Set<Other> getOthers() {
-        return Collections.unmodifiableSet(others);
+        return others;
     }
 
     public List<Task> getTasks() {
-        return Collections.unmodifiableList(tasks);
+        return tasks;
     }
 
     /**
      * Returns a new Person object with the additional task added.
      */
     public Person addTask(Task newTask) {
-        List<Task> updatedTasks = new ArrayList<>(tasks);
-        updatedTasks.add(newTask);
         // Retain the same taskStatus when adding a new task.
-        return new Person(name, phone, email, telegram, position, address, tags,
-                skills, others, taskStatus, updatedTasks);
+        return new Person(this, tasks.plus(newTask));
     }
 
     /**
@@ -119,11 +140,18 @@ public class Person {
      * @return A new Person object with the updated task list.
      */
     public Person removeTask(int i) {
-        List<Task> updatedTasks = new ArrayList<>(tasks);
-        updatedTasks.remove(i);
+        return new Person(this, tasks.minus(i));
+    }
 
-        return new Person(name, phone, email, telegram, position, address, tags,
-                skills, others, taskStatus, updatedTasks);
+    /**
+     * Returns a new Person object with the specified task replaced.
+     *
+     * @param i The index (zero-based) of the task in the person's task list.
+     * @param updatedTask The task to put in place of the existing one.
+     * @return A new Person object with the updated task list.
+     */
+    public Person setTask(int i, Task updatedTask) {
+        return new Person(this, tasks.with(i, updatedTask));
     }
 
     /**
@@ -160,7 +188,7 @@ public class Person {
 
     @Override
     public int hashCode() {
-        return Objects.hash(name, phone, email, address, tags);
+        return hash;
     }
 
     @Override
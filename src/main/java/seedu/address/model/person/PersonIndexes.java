@@ -0,0 +1,53 @@
+package seedu.address.model.person;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.model.task.TaskStatus;
+
+/**
+ * The indexes over a list of persons that a {@link PersonQuery} is evaluated against.
+ * Each lookup has a matching count, which is cheap to compute and lets a query pick the lookup to start from.
+ */
+public interface PersonIndexes {
+
+    /**
+     * Returns the persons whose {@code field} contains any of the {@code keywords} as a full word, ignoring case.
+     */
+    Set<Person> findPersons(PersonKeywordIndex.Field field, Collection<String> keywords);
+
+    /**
+     * Returns an upper bound on the number of persons that {@link #findPersons} would return.
+     */
+    int countPersons(PersonKeywordIndex.Field field, Collection<String> keywords);
+
+    /**
+     * Returns a test of whether a person would be among the persons that {@link #findPersons} returns,
+     * which is only valid until the persons are next changed.
+     */
+    Predicate<Person> getKeywordFilter(PersonKeywordIndex.Field field, Collection<String> keywords);
+
+    /**
+     * Returns the persons with at least one task with {@code status}.
+     */
+    List<Person> getPersonsWithTaskStatus(TaskStatus status);
+
+    /**
+     * Returns the number of persons with at least one task with {@code status}.
+     */
+    int countPersonsWithTaskStatus(TaskStatus status);
+
+    /**
+     * Returns the unfinished tasks that are due strictly before {@code time}, earliest first.
+     */
+    List<TaskDueDateIndex.Entry> getTasksDueBefore(LocalDateTime time);
+
+    /**
+     * Returns an upper bound on the number of unfinished tasks that are due strictly before {@code time},
+     * which is exact when they are due on few different dates.
+     */
+    int countTasksDueBefore(LocalDateTime time);
+}
@@ -0,0 +1,176 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.skill.Skill;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.task.Task;
+
+/**
+ * An inverted index from case-folded words to the persons whose searchable fields contain them.
+ * The index does not observe the persons list; callers must report every addition and removal.
+ */
+public class PersonKeywordIndex {
+
+    /**
+     * The fields of a {@code Person} that are searchable through the index.
+     */
+    public enum Field {
+        NAME,
+        TAG,
+        SKILL,
+        TASK
+    }
+
+    private final Map<Field, Map<String, Set<Person>>> postings = new EnumMap<>(Field.class);
+
+    /**
+     * Creates an empty index.
+     */
+    public PersonKeywordIndex() {
+        for (Field field : Field.values()) {
+            postings.put(field, new HashMap<>());
+        }
+    }
+
+    /**
+     * Indexes every searchable word of {@code person}.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        addWords(Field.NAME, person.getName().getWords(), person);
+        for (Tag tag : person.getTags()) {
+            addWords(Field.TAG, tag.getWords(), person);
+        }
+        for (Skill skill : person.getSkills()) {
+            addWords(Field.SKILL, StringUtil.toLowerCaseWords(skill.skillName), person);
+        }
+        for (Task task : person.getTasks()) {
+            addWords(Field.TASK, task.getDescriptionWords(), person);
+        }
+    }
+
+    /**
+     * Removes every entry of {@code person} from the index.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        removeWords(Field.NAME, person.getName().getWords(), person);
+        for (Tag tag : person.getTags()) {
+            removeWords(Field.TAG, tag.getWords(), person);
+        }
+        for (Skill skill : person.getSkills()) {
+            removeWords(Field.SKILL, StringUtil.toLowerCaseWords(skill.skillName), person);
+        }
+        for (Task task : person.getTasks()) {
+            removeWords(Field.TASK, task.getDescriptionWords(), person);
+        }
+    }
+
+    /**
+     * Replaces the contents of the index with the entries of {@code persons}.
+     */
+    public void reset(Collection<Person> persons) {
+        requireNonNull(persons);
+        postings.values().forEach(Map::clear);
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns the persons whose {@code field} contains any of the {@code keywords} as a full word, ignoring case.
+     * Blank keywords are ignored. The returned set is a copy and is not affected by later changes to the index.
+     */
+    public Set<Person> find(Field field, Collection<String> keywords) {
+        requireNonNull(field);
+        requireNonNull(keywords);
+        Map<String, Set<Person>> fieldPostings = postings.get(field);
+        Set<Person> matches = new HashSet<>();
+        for (String keyword : keywords) {
+            Set<Person> persons = fieldPostings.get(normalize(keyword));
+            if (persons != null) {
+                matches.addAll(persons);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns an upper bound on the number of persons that {@link #find} would return for the same arguments,
+     * without collecting them. A person indexed under several of the {@code keywords} is counted once per keyword.
+     */
+    public int count(Field field, Collection<String> keywords) {
+        requireNonNull(field);
+        requireNonNull(keywords);
+        Map<String, Set<Person>> fieldPostings = postings.get(field);
+        int count = 0;
+        for (String keyword : keywords) {
+            Set<Person> persons = fieldPostings.get(normalize(keyword));
+            if (persons != null) {
+                count += persons.size();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns a test of whether a person would be among the persons that {@link #find} returns for the same
+     * arguments. The test looks the person up in the index without copying any entries, so it is cheaper than
+     * {@link #find} when only a few persons are tested, but it is only valid until the index is next changed.
+     */
+    public Predicate<Person> filter(Field field, Collection<String> keywords) {
+        requireNonNull(field);
+        requireNonNull(keywords);
+        Map<String, Set<Person>> fieldPostings = postings.get(field);
+        List<Set<Person>> matchingPostings = new ArrayList<>();
+        for (String keyword : keywords) {
+            Set<Person> persons = fieldPostings.get(normalize(keyword));
+            if (persons != null) {
+                matchingPostings.add(persons);
+            }
+        }
+        return person -> {
+            for (Set<Person> persons : matchingPostings) {
+                if (persons.contains(person)) {
+                    return true;
+                }
+            }
+            return false;
+        };
+    }
+
+    /**
+     * Indexes {@code person} under each of {@code words}, which must be in lower case.
+     */
+    private void addWords(Field field, String[] words, Person person) {
+        Map<String, Set<Person>> fieldPostings = postings.get(field);
+        for (String word : words) {
+            fieldPostings.computeIfAbsent(word, unused -> new HashSet<>()).add(person);
+        }
+    }
+
+    private void removeWords(Field field, String[] words, Person person) {
+        Map<String, Set<Person>> fieldPostings = postings.get(field);
+        for (String word : words) {
+            Set<Person> persons = fieldPostings.get(word);
+            if (persons != null && persons.remove(person) && persons.isEmpty()) {
+                fieldPostings.remove(word);
+            }
+        }
+    }
+
+    private static String normalize(String word) {
+        return word.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,139 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * A search for the persons that satisfy every one of a list of clauses, such as a name keyword, a task status
+ * and a due date.
+ *
+ * <p>The query can be tested against a single person like any other predicate, but {@link #findMatches} is
+ * cheaper than testing every person: it reads off the indexes how many persons each clause could match, looks up
+ * the persons of the most selective clause only, and keeps those that pass the other clauses, checking the most
+ * selective ones first so that most candidates are rejected after a single check. Where a clause is backed by
+ * an index, candidates are checked against the index rather than their own fields, which intersects the two
+ * lookups without copying either. A clause that cannot match anyone ends the search before any lookup is made.
+ */
+public class PersonQuery implements Predicate<Person> {
+
+    /**
+     * A condition on a person that can also be looked up in a {@link PersonIndexes}.
+     * Looking up a clause must return exactly the indexed persons that satisfy {@link #test}.
+     */
+    public interface Clause extends Predicate<Person> {
+
+        /**
+         * Returns an upper bound on the number of persons satisfying this clause, without looking them up.
+         */
+        int estimateMatches(PersonIndexes indexes);
+
+        /**
+         * Returns the persons satisfying this clause. Duplicates are allowed.
+         */
+        Collection<Person> findMatches(PersonIndexes indexes);
+
+        /**
+         * Returns a test equivalent to {@link #test} for the persons in {@code indexes}, which may look persons up
+         * in the indexes instead of reading their fields. The test is only valid until the indexes next change.
+         */
+        default Predicate<Person> toFilter(PersonIndexes indexes) {
+            return this;
+        }
+    }
+
+    private final List<Clause> clauses;
+
+    /**
+     * Creates a query for the persons satisfying all of {@code clauses}, of which there must be at least one.
+     */
+    public PersonQuery(List<Clause> clauses) {
+        requireNonNull(clauses);
+        checkArgument(!clauses.isEmpty(), "A query needs at least one clause.");
+        this.clauses = List.copyOf(clauses);
+    }
+
+    public List<Clause> getClauses() {
+        return clauses;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return matchesAll(clauses, person);
+    }
+
+    /**
+     * Returns the persons in {@code indexes} that satisfy every clause of this query.
+     * The returned set is a copy and is not affected by later changes to the indexes.
+     */
+    public Set<Person> findMatches(PersonIndexes indexes) {
+        requireNonNull(indexes);
+        Map<Clause, Integer> estimates = new IdentityHashMap<>();
+        for (Clause clause : clauses) {
+            int estimate = clause.estimateMatches(indexes);
+            if (estimate == 0) {
+                return new HashSet<>();
+            }
+            estimates.put(clause, estimate);
+        }
+
+        List<Clause> plan = new ArrayList<>(clauses);
+        plan.sort(Comparator.comparingInt(estimates::get));
+        List<Predicate<Person>> filters = new ArrayList<>(plan.size() - 1);
+        for (Clause clause : plan.subList(1, plan.size())) {
+            filters.add(clause.toFilter(indexes));
+        }
+        Set<Person> matches = new HashSet<>();
+        for (Person candidate : plan.get(0).findMatches(indexes)) {
+            if (matchesAll(filters, candidate)) {
+                matches.add(candidate);
+            }
+        }
+        return matches;
+    }
+
+    private static boolean matchesAll(List<? extends Predicate<Person>> predicates, Person person) {
+        for (Predicate<Person> predicate : predicates) {
+            if (!predicate.test(person)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonQuery)) {
+            return false;
+        }
+
+        PersonQuery otherPersonQuery = (PersonQuery) other;
+        return clauses.equals(otherPersonQuery.clauses);
+    }
+
+    @Override
+    public int hashCode() {
+        return clauses.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("clauses", clauses).toString();
+    }
+}
@@ -2,12 +2,16 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 
+import seedu.address.commons.util.Interner;
+
 /**
  * Represents a Person's position in the team.
  * Guarantees: immutable
  */
 public class Position {
 
+    private static final Interner<Position> INTERNER = new Interner<>(Position::new, position -> position.value);
+
     public final String value;
 
     /**
@@ -20,6 +24,17 @@ public class Position {
         value = position;
     }
 
+    /**
+     * Returns the {@code Position} for {@code position}. Every call with an equal value returns the same instance.
+     * Prefer this to the constructor for values that are held by persons.
+     *
+     * @param position A valid position.
+     */
+    public static Position of(String position) {
+        requireNonNull(position);
+        return INTERNER.intern(position);
+    }
+
     @Override
     public String toString() {
         return value;
@@ -0,0 +1,51 @@
+package seedu.address.model.person;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.skill.Skill;
+
+/**
+ * Tests that any of a {@code Person}'s {@code Skill}s contains any of the keywords given.
+ */
+public class SkillsInKeywordsPredicate implements Predicate<Person> {
+    private final List<String> keywords;
+
+    public SkillsInKeywordsPredicate(List<String> keywords) {
+        this.keywords = keywords;
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return keywords.stream()
+                .anyMatch(keyword -> person.getSkills().stream()
+                        .map((Skill skill) -> skill.skillName)
+                        .anyMatch(skillName -> StringUtil.containsWordIgnoreCase(skillName, keyword)));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SkillsInKeywordsPredicate)) {
+            return false;
+        }
+
+        SkillsInKeywordsPredicate otherSkillsInKeywordsPredicate = (SkillsInKeywordsPredicate) other;
+        return keywords.equals(otherSkillsInKeywordsPredicate.keywords);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("keywords", keywords).toString();
+    }
+}
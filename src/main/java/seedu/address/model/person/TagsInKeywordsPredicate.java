@@ -1,5 +1,7 @@
 package seedu.address.model.person;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
@@ -10,19 +12,34 @@ import seedu.address.model.tag.Tag;
 
 /**
  * Tests that a {@code Person}'s {@code Tag} are any of the keywords given.
+ * Keyword matching is case insensitive.
  */
 public class TagsInKeywordsPredicate implements Predicate<Person> {
     private final List<String> keywords;
+    /** The keywords in lower case, so that each tag is looked up once for all keywords. */
+    private final Set<String> lowerCaseKeywords;
 
+    /**
+     * Creates a predicate that matches the persons with a tag named by any of {@code keywords}.
+     */
     public TagsInKeywordsPredicate(List<String> keywords) {
+        requireNonNull(keywords);
         this.keywords = keywords;
+        this.lowerCaseKeywords = StringUtil.toLowerCaseWordSet(keywords);
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
     }
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil
-                    .containsWordIgnoreCase(this.concatenateTags(person.getTags()), keyword));
+        for (Tag tag : person.getTags()) {
+            if (tag.hasWordIn(lowerCaseKeywords)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
@@ -44,11 +61,5 @@ public class TagsInKeywordsPredicate implements Predicate<Person> {
     public String toString() {
         return new ToStringBuilder(this).add("keywords", keywords).toString();
     }
-
-    private String concatenateTags(Set<Tag> tags) {
-        return tags.stream()
-                .map(Tag::getTagName)
-                .reduce("", (acc, tag) -> acc + tag + " ");
-    }
 }
 
@@ -0,0 +1,202 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.TreeMap;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.task.Task;
+import seedu.address.model.task.TaskStatus;
+
+/**
+ * The unfinished tasks of a list of persons, ordered by due date.
+ * Only tasks that have a due date and are not completed are indexed, so that the tasks due before a given time
+ * are found in O(log n + k) time for k results, and the tasks of a person are removed in O(t log n) time for t tasks.
+ * The index does not observe the persons list; callers must report every addition and removal.
+ */
+public class TaskDueDateIndex {
+
+    /**
+     * A task in the index, together with the person it belongs to.
+     */
+    public static class Entry {
+        private final Person person;
+        private final Task task;
+
+        /**
+         * Creates an entry for {@code task} of {@code person}.
+         */
+        public Entry(Person person, Task task) {
+            requireNonNull(person);
+            requireNonNull(task);
+            this.person = person;
+            this.task = task;
+        }
+
+        public Person getPerson() {
+            return person;
+        }
+
+        public Task getTask() {
+            return task;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+            if (!(other instanceof Entry)) {
+                return false;
+            }
+            Entry otherEntry = (Entry) other;
+            return person.equals(otherEntry.person) && task.equals(otherEntry.task);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(person, task);
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .add("person", person.getName())
+                    .add("task", task)
+                    .toString();
+        }
+    }
+
+    /**
+     * The indexed tasks due at one time, grouped by the name of their person so that a person's tasks are removed
+     * without scanning the tasks of everyone else due at that time.
+     */
+    private static class DueDateBucket {
+        /** Tasks by person name; persons are kept in the order their tasks were added. */
+        private final Map<Name, List<Entry>> entriesByPerson = new LinkedHashMap<>();
+        private int size;
+
+        void add(Entry entry) {
+            entriesByPerson.computeIfAbsent(entry.person.getName(), unused -> new ArrayList<>()).add(entry);
+            size++;
+        }
+
+        /**
+         * Removes the tasks of the person named {@code name} and returns how many were removed.
+         */
+        int remove(Name name) {
+            List<Entry> removed = entriesByPerson.remove(name);
+            if (removed == null) {
+                return 0;
+            }
+            size -= removed.size();
+            return removed.size();
+        }
+
+        void addTo(List<Entry> entries) {
+            entriesByPerson.values().forEach(entries::addAll);
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+    }
+
+    /** Most due dates {@link #countTasksDueBefore} counts the tasks of before settling for an upper bound. */
+    static final int MAX_COUNTED_DUE_DATES = 64;
+
+    /** Indexed tasks by due date; tasks due at the same time are kept in the order they were added. */
+    private final NavigableMap<LocalDateTime, DueDateBucket> bucketsByDueDate = new TreeMap<>();
+    private int size;
+
+    /**
+     * Indexes the unfinished tasks of {@code person} that have a due date.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        for (Task task : person.getTasks()) {
+            if (isIndexed(task)) {
+                bucketsByDueDate.computeIfAbsent(task.getDueDate(), unused -> new DueDateBucket())
+                        .add(new Entry(person, task));
+                size++;
+            }
+        }
+    }
+
+    /**
+     * Removes every task of {@code person} from the index.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (Task task : person.getTasks()) {
+            if (!isIndexed(task)) {
+                continue;
+            }
+            DueDateBucket bucket = bucketsByDueDate.get(task.getDueDate());
+            if (bucket == null) {
+                continue;
+            }
+            size -= bucket.remove(person.getName());
+            if (bucket.isEmpty()) {
+                bucketsByDueDate.remove(task.getDueDate());
+            }
+        }
+    }
+
+    /**
+     * Replaces the contents of the index with the tasks of {@code persons}.
+     */
+    public void reset(Collection<Person> persons) {
+        requireNonNull(persons);
+        bucketsByDueDate.clear();
+        size = 0;
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns the indexed tasks due strictly before {@code time}, earliest first.
+     * The returned list is unmodifiable and is not affected by later changes to the index.
+     */
+    public List<Entry> getTasksDueBefore(LocalDateTime time) {
+        requireNonNull(time);
+        List<Entry> dueTasks = new ArrayList<>();
+        for (DueDateBucket bucket : bucketsByDueDate.headMap(time, false).values()) {
+            bucket.addTo(dueTasks);
+        }
+        return Collections.unmodifiableList(dueTasks);
+    }
+
+    /**
+     * Returns the number of indexed tasks due strictly before {@code time}, without collecting them.
+     * If those tasks are due on more than {@value #MAX_COUNTED_DUE_DATES} different dates, the number of all
+     * indexed tasks is returned instead, as an upper bound, so that the count takes constant time.
+     */
+    public int countTasksDueBefore(LocalDateTime time) {
+        requireNonNull(time);
+        int count = 0;
+        int dueDatesCounted = 0;
+        for (DueDateBucket bucket : bucketsByDueDate.headMap(time, false).values()) {
+            if (++dueDatesCounted > MAX_COUNTED_DUE_DATES) {
+                return size;
+            }
+            count += bucket.size;
+        }
+        return count;
+    }
+
+    /**
+     * Returns true if {@code task} is kept in the index: it has a due date and is not completed.
+     */
+    static boolean isIndexed(Task task) {
+        return task.getDueDate() != null && task.getStatus() != TaskStatus.COMPLETED;
+    }
+}
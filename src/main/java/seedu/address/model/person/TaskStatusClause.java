@@ -0,0 +1,71 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.task.Task;
+import seedu.address.model.task.TaskStatus;
+
+/**
+ * A {@link PersonQuery} clause satisfied by the persons with at least one task with the given status.
+ * Candidates are looked up in the task status summary.
+ */
+public class TaskStatusClause implements PersonQuery.Clause {
+
+    private final TaskStatus status;
+
+    /**
+     * Creates a clause matching the persons with a task with {@code status}.
+     */
+    public TaskStatusClause(TaskStatus status) {
+        requireNonNull(status);
+        this.status = status;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        for (Task task : person.getTasks()) {
+            if (task.getStatus() == status) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int estimateMatches(PersonIndexes indexes) {
+        return indexes.countPersonsWithTaskStatus(status);
+    }
+
+    @Override
+    public Collection<Person> findMatches(PersonIndexes indexes) {
+        return indexes.getPersonsWithTaskStatus(status);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof TaskStatusClause)) {
+            return false;
+        }
+
+        TaskStatusClause otherTaskStatusClause = (TaskStatusClause) other;
+        return status == otherTaskStatusClause.status;
+    }
+
+    @Override
+    public int hashCode() {
+        return status.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("status", status).toString();
+    }
+}
@@ -0,0 +1,163 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.task.Task;
+import seedu.address.model.task.TaskStatus;
+
+/**
+ * Per-status totals of the tasks of a list of persons: how many tasks have each status, and which persons
+ * have at least one task with that status.
+ * The summary does not observe the persons list; callers must report every addition, replacement and removal.
+ */
+public class TaskStatusSummary {
+
+    /** Order of the persons returned by {@link #getPersonsWith(TaskStatus)}, or null for the order added. */
+    private final Comparator<Person> personOrder;
+    private final Map<TaskStatus, Integer> taskCounts = new EnumMap<>(TaskStatus.class);
+    /** Persons with a task of each status, keyed by name so that a replaced person keeps its place. */
+    private final Map<TaskStatus, Map<Name, Person>> personsByStatus = new EnumMap<>(TaskStatus.class);
+    /** Snapshots handed out by {@link #getPersonsWith(TaskStatus)}, dropped when the persons change. */
+    private final Map<TaskStatus, List<Person>> personListCache = new EnumMap<>(TaskStatus.class);
+
+    /**
+     * Creates a summary of no persons, which lists the persons with each status in the order in which they gained
+     * a task of that status.
+     */
+    public TaskStatusSummary() {
+        this(null);
+    }
+
+    /**
+     * Creates a summary of no persons, which lists the persons with each status in {@code personOrder}.
+     * The order of two persons must not change while both are in the summary, such as their positions in the
+     * persons list, so that a sorted list stays sorted until the persons change.
+     */
+    public TaskStatusSummary(Comparator<Person> personOrder) {
+        this.personOrder = personOrder;
+        for (TaskStatus status : TaskStatus.values()) {
+            taskCounts.put(status, 0);
+            personsByStatus.put(status, new LinkedHashMap<>());
+        }
+    }
+
+    /**
+     * Adds the tasks of {@code person} to the summary.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        for (TaskStatus status : countTasks(person, 1)) {
+            personsByStatus.get(status).put(person.getName(), person);
+            personListCache.remove(status);
+        }
+    }
+
+    /**
+     * Removes the tasks of {@code person} from the summary.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (TaskStatus status : countTasks(person, -1)) {
+            personsByStatus.get(status).remove(person.getName());
+            personListCache.remove(status);
+        }
+    }
+
+    /**
+     * Replaces the tasks of {@code target} with those of {@code editedPerson}.
+     * If both have tasks of the same status, {@code editedPerson} takes the place of {@code target}
+     * among the persons with that status.
+     */
+    public void set(Person target, Person editedPerson) {
+        requireAllNonNull(target, editedPerson);
+        Set<TaskStatus> oldStatuses = countTasks(target, -1);
+        Set<TaskStatus> newStatuses = countTasks(editedPerson, 1);
+        boolean isSameName = target.getName().equals(editedPerson.getName());
+
+        for (TaskStatus status : TaskStatus.values()) {
+            boolean hadStatus = oldStatuses.contains(status);
+            boolean hasStatus = newStatuses.contains(status);
+            if (!hadStatus && !hasStatus) {
+                continue;
+            }
+            Map<Name, Person> persons = personsByStatus.get(status);
+            if (hadStatus && (!hasStatus || !isSameName)) {
+                persons.remove(target.getName());
+            }
+            if (hasStatus) {
+                persons.put(editedPerson.getName(), editedPerson);
+            }
+            personListCache.remove(status);
+        }
+    }
+
+    /**
+     * Replaces the contents of the summary with the tasks of {@code persons}.
+     */
+    public void reset(Collection<Person> persons) {
+        requireNonNull(persons);
+        for (TaskStatus status : TaskStatus.values()) {
+            taskCounts.put(status, 0);
+            personsByStatus.get(status).clear();
+        }
+        personListCache.clear();
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns the number of tasks with {@code status}.
+     */
+    public int getTaskCount(TaskStatus status) {
+        requireNonNull(status);
+        return taskCounts.get(status);
+    }
+
+    /**
+     * Returns the number of persons with at least one task with {@code status}.
+     */
+    public int getPersonCount(TaskStatus status) {
+        requireNonNull(status);
+        return personsByStatus.get(status).size();
+    }
+
+    /**
+     * Returns the persons with at least one task with {@code status}, in the order given at construction.
+     * Only those persons are sorted, and only when they have changed since the last call.
+     * The returned list is unmodifiable and is not affected by later changes to the summary.
+     */
+    public List<Person> getPersonsWith(TaskStatus status) {
+        requireNonNull(status);
+        return personListCache.computeIfAbsent(status, unused -> {
+            List<Person> persons = new ArrayList<>(personsByStatus.get(status).values());
+            if (personOrder != null) {
+                persons.sort(personOrder);
+            }
+            return Collections.unmodifiableList(persons);
+        });
+    }
+
+    /**
+     * Adds {@code delta} to the task count of each task status of {@code person},
+     * and returns the statuses that {@code person} has at least one task with.
+     */
+    private Set<TaskStatus> countTasks(Person person, int delta) {
+        Set<TaskStatus> statuses = EnumSet.noneOf(TaskStatus.class);
+        for (Task task : person.getTasks()) {
+            taskCounts.merge(task.getStatus(), delta, Integer::sum);
+            statuses.add(task.getStatus());
+        }
+        return statuses;
+    }
+}
@@ -1,6 +1,9 @@
 package seedu.address.model.person;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.StringUtil;
@@ -8,21 +11,35 @@ import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.task.Task;
 
 /**
- * Tests that a {@code Person}'s {@code Tag} are any of the keywords given.
+ * Tests that the description of any of a {@code Person}'s {@code Task}s contains any of the keywords given.
+ * Keyword matching is case insensitive, and a full word match is required.
  */
 public class TasksInKeywordsPredicate implements Predicate<Person> {
     private final List<String> keywords;
+    /** The words of the keywords in lower case, so that each task word is looked up once for all keywords. */
+    private final Set<String> lowerCaseKeywords;
 
+    /**
+     * Creates a predicate that matches the tasks containing any of {@code keywords}.
+     */
     public TasksInKeywordsPredicate(List<String> keywords) {
+        requireNonNull(keywords);
         this.keywords = keywords;
+        this.lowerCaseKeywords = StringUtil.toLowerCaseWordSet(keywords);
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
     }
 
     @Override
     public boolean test(Person person) {
-        System.out.println(person.getTasks());
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil
-                    .containsWordIgnoreCase(this.concatenateTags(person.getTasks()), keyword));
+        for (Task task : person.getTasks()) {
+            if (task.hasDescriptionWordIn(lowerCaseKeywords)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
@@ -44,11 +61,5 @@ public class TasksInKeywordsPredicate implements Predicate<Person> {
     public String toString() {
         return new ToStringBuilder(this).add("keywords", keywords).toString();
     }
-
-    private String concatenateTags(List<Task> tasks) {
-        return tasks.stream()
-                .map(Task::getDescription)
-                .reduce("", (acc, task) -> acc + task + " ");
-    }
 }
 
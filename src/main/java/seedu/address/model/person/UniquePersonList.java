@@ -3,8 +3,10 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -19,6 +21,7 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * as to ensure that the person with exactly the same fields will be removed.
  *
  * Supports a minimal set of list operations.
+ * Positions are indexed by {@code Name} so that identity lookups do not need to scan the list.
  *
  * @see Person#isSamePerson(Person)
  */
@@ -28,12 +31,15 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    /** Position of each person in {@code internalList}, keyed by name. Must be kept in sync with the list. */
+    private final Map<Name, Integer> positions = new HashMap<>();
+
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return positions.containsKey(toCheck.getName());
     }
 
     /**
@@ -45,9 +51,29 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        positions.put(toAdd.getName(), internalList.size());
         internalList.add(toAdd);
     }
 
+    /**
+     * Adds all of {@code toAdd} to the end of the list, in order, notifying listeners of the list once.
+     * None of the persons may already exist in the list, or appear more than once in {@code toAdd}.
+     */
+    public void addAll(List<Person> toAdd) {
+        requireAllNonNull(toAdd);
+        Map<Name, Integer> newPositions = new HashMap<>();
+        int position = internalList.size();
+        for (Person person : toAdd) {
+            if (positions.containsKey(person.getName())
+                    || newPositions.putIfAbsent(person.getName(), position++) != null) {
+                throw new DuplicatePersonException();
+            }
+        }
+
+        positions.putAll(newPositions);
+        internalList.addAll(toAdd);
+    }
+
     /**
      * Replaces the person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the list.
@@ -56,7 +82,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -65,6 +91,8 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        positions.remove(target.getName());
+        positions.put(editedPerson.getName(), index);
         internalList.set(index, editedPerson);
     }
 
@@ -74,13 +102,23 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+
+        positions.remove(toRemove.getName());
+        internalList.remove(index);
+        // Persons after the removed one have shifted down by one.
+        for (int i = index; i < internalList.size(); i++) {
+            positions.put(internalList.get(i).getName(), i);
+        }
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        positions.clear();
+        positions.putAll(replacement.positions);
         internalList.setAll(replacement.internalList);
     }
 
@@ -90,10 +128,13 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
+        Map<Name, Integer> newPositions = indexByName(persons);
+        if (newPositions == null) {
             throw new DuplicatePersonException();
         }
 
+        positions.clear();
+        positions.putAll(newPositions);
         internalList.setAll(persons);
     }
 
@@ -135,16 +176,28 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns the position of the person equal to {@code person} in the list, or -1 if there is none.
+     * Takes constant time.
+     */
+    public int indexOf(Person person) {
+        Integer index = positions.get(person.getName());
+        if (index == null || !internalList.get(index).equals(person)) {
+            return -1;
+        }
+        return index;
+    }
+
+    /**
+     * Returns the position of every person in {@code persons} keyed by name,
+     * or null if {@code persons} contains duplicate persons.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private static Map<Name, Integer> indexByName(List<Person> persons) {
+        Map<Name, Integer> index = new HashMap<>();
+        for (int i = 0; i < persons.size(); i++) {
+            if (index.putIfAbsent(persons.get(i).getName(), i) != null) {
+                return null;
             }
         }
-        return true;
+        return index;
     }
 }
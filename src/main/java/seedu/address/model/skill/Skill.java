@@ -2,11 +2,15 @@ package seedu.address.model.skill;
 
 import static java.util.Objects.requireNonNull;
 
+import seedu.address.commons.util.Interner;
+
 /**
  * Represents a Skill in TeamScape.
  * Guarantees: immutable
  */
 public class Skill {
+    private static final Interner<Skill> INTERNER = new Interner<>(Skill::new, skill -> skill.skillName);
+
     public final String skillName;
 
     /**
@@ -19,6 +23,17 @@ public class Skill {
         this.skillName = skillName;
     }
 
+    /**
+     * Returns the {@code Skill} for {@code skillName}. Every call with an equal value returns the same instance.
+     * Prefer this to the constructor for values that are held by persons.
+     *
+     * @param skillName A valid skill name.
+     */
+    public static Skill of(String skillName) {
+        requireNonNull(skillName);
+        return INTERNER.intern(skillName);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
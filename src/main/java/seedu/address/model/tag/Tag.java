@@ -3,6 +3,11 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Set;
+
+import seedu.address.commons.util.Interner;
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
@@ -12,7 +17,11 @@ public class Tag {
     public static final String MESSAGE_CONSTRAINTS = "Tags names should be alphanumeric";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
 
+    private static final Interner<Tag> INTERNER = new Interner<>(Tag::new, tag -> tag.tagName);
+
     public final String tagName;
+    /** The tag name in lower case, as a word array so that it is matched like the other searchable fields. */
+    private final String[] words;
 
     /**
      * Constructs a {@code Tag}.
@@ -23,6 +32,18 @@ public class Tag {
         requireNonNull(tagName);
         checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
         this.tagName = tagName;
+        this.words = StringUtil.toLowerCaseWords(tagName);
+    }
+
+    /**
+     * Returns the {@code Tag} for {@code tagName}. Every call with an equal value returns the same instance.
+     * Prefer this to the constructor for values that are held by persons.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
+        requireNonNull(tagName);
+        return INTERNER.intern(tagName);
     }
 
     /**
@@ -32,6 +53,20 @@ public class Tag {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns true if the tag name, in lower case, is in {@code lowerCaseWords}.
+     */
+    public boolean hasWordIn(Set<String> lowerCaseWords) {
+        return StringUtil.containsAnyWord(words, lowerCaseWords);
+    }
+
+    /**
+     * Returns the words of the tag name in lower case. The returned array must not be modified.
+     */
+    public String[] getWords() {
+        return words;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -4,6 +4,9 @@ import static java.util.Objects.requireNonNull;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Set;
+
+import seedu.address.commons.util.StringUtil;
 
 /**
  * Represents a Task associated with a Person in address book.
@@ -11,7 +14,9 @@ import java.time.format.DateTimeFormatter;
  */
 public class Task {
     private final String description;
-    private LocalDateTime dueDate;
+    /** The words of the description in lower case, split once so that searching tasks does not split them again. */
+    private final String[] descriptionWords;
+    private final LocalDateTime dueDate;
     private final TaskStatus status;
 
     /**
@@ -25,6 +30,7 @@ public class Task {
         requireNonNull(description);
         requireNonNull(status);
         this.description = description;
+        this.descriptionWords = StringUtil.toLowerCaseWords(description);
         this.status = status;
         this.dueDate = dueDate;
     }
@@ -33,8 +39,18 @@ public class Task {
         return description;
     }
 
-    public void setDueDate(LocalDateTime dueDate) {
-        this.dueDate = dueDate;
+    /**
+     * Returns true if any word of the description, in lower case, is in {@code lowerCaseWords}.
+     */
+    public boolean hasDescriptionWordIn(Set<String> lowerCaseWords) {
+        return StringUtil.containsAnyWord(descriptionWords, lowerCaseWords);
+    }
+
+    /**
+     * Returns the words of the description in lower case. The returned array must not be modified.
+     */
+    public String[] getDescriptionWords() {
+        return descriptionWords;
     }
 
     public LocalDateTime getDueDate() {
@@ -32,7 +32,7 @@ public class SampleDataUtil {
         return new Person[] {
             new Person(new Name("Alex Yeoh"), new Phone("87438807"), new Email("alexyeoh@example.com"),
                     new Telegram("@alexY"),
-                    new Position("Team Leader"),
+                    Position.of("Team Leader"),
                     new Address("Blk 30 Geylang Street 29, #06-40"),
                     getTagSet("friends"),
                     getSkillSet("C Programming"),
@@ -41,7 +41,7 @@ public class SampleDataUtil {
                     getTask("barbeque, 2025-06-07 17:00, yet to start")),
             new Person(new Name("Bernice Yu"), new Phone("99272758"), new Email("berniceyu@example.com"),
                     new Telegram("@berniceY"),
-                    new Position("Backend Developer"),
+                    Position.of("Backend Developer"),
                     new Address("Blk 30 Lorong 3 Serangoon Gardens, #07-18"),
                     getTagSet("colleagues", "friends"),
                     getSkillSet("java", "python"),
@@ -50,7 +50,7 @@ public class SampleDataUtil {
                     getTask("house visit, 2025-06-07 19:00, yet to start")),
             new Person(new Name("Charlotte Oliveiro"), new Phone("93210283"), new Email("charlotte@example.com"),
                     new Telegram("@charlotte"),
-                    new Position("UI Developer"),
+                    Position.of("UI Developer"),
                     new Address("Blk 11 Ang Mo Kio Street 74, #11-04"),
                     getTagSet("neighbours"),
                     getSkillSet("json", "css", "html"),
@@ -59,7 +59,7 @@ public class SampleDataUtil {
                     getTask("neighbour, 2025-05-07 17:00, yet to start")),
             new Person(new Name("David Li"), new Phone("91031282"), new Email("lidavid@example.com"),
                     new Telegram("@davidL"),
-                    new Position("Sales Person"),
+                    Position.of("Sales Person"),
                     new Address("Blk 436 Serangoon Gardens Street 26, #16-43"),
                     getTagSet("family"),
                     getSkillSet("marketing"),
@@ -68,7 +68,7 @@ public class SampleDataUtil {
                     getTask("outing, 2025-08-07 17:00, yet to start")),
             new Person(new Name("Irfan Ibrahim"), new Phone("92492021"), new Email("irfan@example.com"),
                     new Telegram("@irfan"),
-                    new Position("Backend Developer"),
+                    Position.of("Backend Developer"),
                     new Address("Blk 47 Tampines Street 20, #17-35"),
                     getTagSet("classmates"),
                     getSkillSet("java", "c"),
@@ -77,7 +77,7 @@ public class SampleDataUtil {
                     getTask("outing, 2025-06-07 17:00, yet to start")),
             new Person(new Name("Roy Balakrishnan"), new Phone("92624417"), new Email("royb@example.com"),
                     new Telegram("@roy"),
-                    new Position("team member"),
+                    Position.of("team member"),
                     new Address("Blk 45 Aljunied Street 85, #11-31"),
                     getTagSet("colleagues"),
                     getSkillSet(""),
@@ -100,7 +100,7 @@ public class SampleDataUtil {
      */
     public static Set<Tag> getTagSet(String... strings) {
         return Arrays.stream(strings)
-                .map(Tag::new)
+                .map(Tag::of)
                 .collect(Collectors.toSet());
     }
 
@@ -109,7 +109,7 @@ public class SampleDataUtil {
      */
     public static Set<Skill> getSkillSet(String... strings) {
         return Arrays.stream(strings)
-                .map(Skill::new)
+                .map(Skill::of)
                 .collect(Collectors.toSet());
     }
 
@@ -118,7 +118,7 @@ public class SampleDataUtil {
      */
     public static Set<Other> getOtherSet(String... strings) {
         return Arrays.stream(strings)
-                .map(Other::new)
+                .map(Other::of)
                 .collect(Collectors.toSet());
     }
 
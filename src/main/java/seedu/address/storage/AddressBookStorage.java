@@ -30,6 +30,20 @@ public interface AddressBookStorage {
      */
     Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException;
 
+    /**
+     * Returns the file path of the backup read by {@link #readBackupAddressBook()}.
+     */
+    Path getBackupFilePath();
+
+    /**
+     * Returns the AddressBook data kept in the backup of the data file that {@link #readAddressBook()} reads,
+     * for use when that data file cannot be loaded.
+     * Returns {@code Optional.empty()} if there is no backup.
+     *
+     * @throws DataLoadingException if loading the backup failed.
+     */
+    Optional<ReadOnlyAddressBook> readBackupAddressBook() throws DataLoadingException;
+
     /**
      * Saves the given {@link ReadOnlyAddressBook} to the storage.
      * @param addressBook cannot be null.
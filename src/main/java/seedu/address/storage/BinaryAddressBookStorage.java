@@ -0,0 +1,360 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.AtomicFileWriter;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.other.Other;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.skill.Skill;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.task.Task;
+
+/**
+ * A class to access AddressBook data stored in a compact binary format on the hard disk.
+ *
+ * <p>The file starts with a magic number and a format version, followed by a dictionary of the strings shared
+ * between persons (positions, tags, skills and task statuses), and then the persons themselves, which refer to
+ * dictionary entries by index. Strings are written as their UTF-8 byte length followed by the bytes, and due dates
+ * as UTC epoch seconds and nanoseconds. The format holds exactly what the JSON format holds, and persons read from
+ * it go through the same {@link JsonAdaptedPerson} validation, so data converts losslessly between the two.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final int MAGIC = 0x54534142; // "TSAB"
+    public static final int FORMAT_VERSION = 1;
+
+    public static final String MESSAGE_NOT_BINARY_FORMAT = "File is not a binary address book.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary address book version %d is not supported.";
+    public static final String MESSAGE_INVALID_REFERENCE = "Binary address book refers to a missing string.";
+
+    /** Fewest bytes an entry of a counted list takes: a string, person, tag, skill or task starts with an int. */
+    private static final int MIN_ENTRY_BYTES = Integer.BYTES;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private final Path filePath;
+    private final AtomicFileWriter fileWriter;
+    private final AddressBookStorage fallbackStorage;
+
+    /**
+     * Creates a {@code BinaryAddressBookStorage} for the data file at {@code filePath}.
+     *
+     * @param fileWriter writes the data file, keeping the previous one as a backup.
+     * @param fallbackStorage read from instead while there is no data file at {@code filePath},
+     *     such as the JSON storage being converted from. May be null.
+     */
+    public BinaryAddressBookStorage(Path filePath, AtomicFileWriter fileWriter, AddressBookStorage fallbackStorage) {
+        requireNonNull(filePath);
+        requireNonNull(fileWriter);
+        this.filePath = filePath;
+        this.fileWriter = fileWriter;
+        this.fallbackStorage = fallbackStorage;
+    }
+
+    /**
+     * Returns the location of the binary data file kept in place of the JSON data file at {@code jsonFilePath}.
+     */
+    public static Path getBinaryFilePath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return jsonFilePath.resolveSibling(baseName + ".bin");
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        if (isReadingFallback()) {
+            logger.info("Binary data file " + filePath + " not found, reading "
+                    + fallbackStorage.getAddressBookFilePath() + " instead");
+            return fallbackStorage.readAddressBook();
+        }
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}, but without falling back to another storage.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(filePath)))) {
+            return Optional.of(decode(in, Files.size(filePath)));
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Returns the backup of the fallback storage's data file while that data file is read in place of the
+     * binary one, and the backup of the binary data file otherwise.
+     */
+    @Override
+    public Path getBackupFilePath() {
+        return isReadingFallback() ? fallbackStorage.getBackupFilePath() : AtomicFileWriter.getBackupPath(filePath);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readBackupAddressBook() throws DataLoadingException {
+        return isReadingFallback() ? fallbackStorage.readBackupAddressBook() : readAddressBook(getBackupFilePath());
+    }
+
+    private boolean isReadingFallback() {
+        return !Files.exists(filePath) && fallbackStorage != null;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The file is replaced atomically, and its previous content is kept at
+     * {@link AtomicFileWriter#getBackupPath(Path)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        fileWriter.write(filePath, out -> {
+            DataOutputStream dataOut = new DataOutputStream(out);
+            encode(addressBook, dataOut);
+            dataOut.flush();
+        });
+    }
+
+    //// writing
+
+    /**
+     * Writes {@code source} to {@code out} in the binary format.
+     */
+    static void encode(ReadOnlyAddressBook source, DataOutputStream out) throws IOException {
+        List<Person> persons = source.getPersonList();
+        Map<String, Integer> dictionary = buildDictionary(persons);
+
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+        out.writeInt(dictionary.size());
+        for (String value : dictionary.keySet()) {
+            writeString(out, value);
+        }
+
+        out.writeInt(persons.size());
+        for (Person person : persons) {
+            writePerson(out, person, dictionary);
+        }
+    }
+
+    /**
+     * Returns the strings shared between {@code persons}, mapped to their index in the dictionary.
+     */
+    private static Map<String, Integer> buildDictionary(List<Person> persons) {
+        Map<String, Integer> dictionary = new LinkedHashMap<>();
+        for (Person person : persons) {
+            dictionary.putIfAbsent(person.getPosition().value, dictionary.size());
+            for (Tag tag : person.getTags()) {
+                dictionary.putIfAbsent(tag.tagName, dictionary.size());
+            }
+            for (Skill skill : person.getSkills()) {
+                dictionary.putIfAbsent(skill.skillName, dictionary.size());
+            }
+            for (Task task : person.getTasks()) {
+                dictionary.putIfAbsent(task.getStatus().name(), dictionary.size());
+            }
+        }
+        return dictionary;
+    }
+
+    private static void writePerson(DataOutputStream out, Person person, Map<String, Integer> dictionary)
+            throws IOException {
+        writeString(out, person.getName().fullName);
+        writeString(out, person.getPhone().value);
+        writeString(out, person.getEmail().value);
+        writeString(out, person.getTelegram().value);
+        out.writeInt(dictionary.get(person.getPosition().value));
+        writeString(out, person.getAddress().value);
+
+        out.writeInt(person.getTags().size());
+        for (Tag tag : person.getTags()) {
+            out.writeInt(dictionary.get(tag.tagName));
+        }
+        out.writeInt(person.getSkills().size());
+        for (Skill skill : person.getSkills()) {
+            out.writeInt(dictionary.get(skill.skillName));
+        }
+        out.writeInt(person.getOthers().size());
+        for (Other other : person.getOthers()) {
+            writeString(out, other.other);
+        }
+
+        out.writeInt(person.getTasks().size());
+        for (Task task : person.getTasks()) {
+            writeString(out, task.getDescription());
+            out.writeInt(dictionary.get(task.getStatus().name()));
+            LocalDateTime dueDate = task.getDueDate();
+            out.writeBoolean(dueDate != null);
+            if (dueDate != null) {
+                out.writeLong(dueDate.toEpochSecond(ZoneOffset.UTC));
+                out.writeInt(dueDate.getNano());
+            }
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    //// reading
+
+    /**
+     * Reads an address book in the binary format from {@code in}, which holds {@code length} bytes.
+     * Every length and count read is checked against {@code length}, so that a corrupt count is rejected
+     * instead of allocating more memory than the content could fill.
+     *
+     * @throws IOException if the content could not be read or ends early.
+     * @throws IllegalValueException if the content is not in a supported binary format,
+     *     or if there were any data constraints violated.
+     */
+    static AddressBook decode(DataInputStream in, long length) throws IOException, IllegalValueException {
+        if (in.readInt() != MAGIC) {
+            throw new IllegalValueException(MESSAGE_NOT_BINARY_FORMAT);
+        }
+        int version = in.readInt();
+        if (version != FORMAT_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        String[] dictionary = new String[readCount(in, length / MIN_ENTRY_BYTES)];
+        for (int i = 0; i < dictionary.length; i++) {
+            dictionary[i] = readString(in, length);
+        }
+
+        int personCount = readCount(in, length / MIN_ENTRY_BYTES);
+        List<Person> persons = new ArrayList<>(personCount);
+        Set<Name> seenNames = new HashSet<>();
+        for (int i = 0; i < personCount; i++) {
+            Person person = readPerson(in, dictionary, length).toModelType();
+            if (!seenNames.add(person.getName())) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            persons.add(person);
+        }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        return addressBook;
+    }
+
+    private static JsonAdaptedPerson readPerson(DataInputStream in, String[] dictionary, long length)
+            throws IOException, IllegalValueException {
+        String name = readString(in, length);
+        String phone = readString(in, length);
+        String email = readString(in, length);
+        String telegram = readString(in, length);
+        String position = readReference(in, dictionary);
+        String address = readString(in, length);
+
+        int tagCount = readCount(in, length / MIN_ENTRY_BYTES);
+        List<JsonAdaptedTag> tags = new ArrayList<>(tagCount);
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(new JsonAdaptedTag(readReference(in, dictionary)));
+        }
+        int skillCount = readCount(in, length / MIN_ENTRY_BYTES);
+        List<JsonAdaptedSkill> skills = new ArrayList<>(skillCount);
+        for (int i = 0; i < skillCount; i++) {
+            skills.add(new JsonAdaptedSkill(readReference(in, dictionary)));
+        }
+        int otherCount = readCount(in, length / MIN_ENTRY_BYTES);
+        List<JsonAdaptedOther> others = new ArrayList<>(otherCount);
+        for (int i = 0; i < otherCount; i++) {
+            others.add(new JsonAdaptedOther(readString(in, length)));
+        }
+
+        int taskCount = readCount(in, length / MIN_ENTRY_BYTES);
+        List<JsonAdaptedTask> tasks = new ArrayList<>(taskCount);
+        for (int i = 0; i < taskCount; i++) {
+            String description = readString(in, length);
+            String status = readReference(in, dictionary);
+            LocalDateTime dueDate = in.readBoolean()
+                    ? LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC)
+                    : null;
+            tasks.add(new JsonAdaptedTask(description, status, dueDate));
+        }
+
+        return new JsonAdaptedPerson(name, phone, email, telegram, position, address, tags, skills, others, tasks);
+    }
+
+    private static String readReference(DataInputStream in, String[] dictionary) throws IOException,
+            IllegalValueException {
+        int index = in.readInt();
+        if (index < 0 || index >= dictionary.length) {
+            throw new IllegalValueException(MESSAGE_INVALID_REFERENCE);
+        }
+        return dictionary[index];
+    }
+
+    private static String readString(DataInputStream in, long length) throws IOException, IllegalValueException {
+        byte[] bytes = new byte[readCount(in, length)];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads a length or count, rejecting negative values and values above {@code maxCount}
+     * so that corrupt files fail cleanly.
+     */
+    private static int readCount(DataInputStream in, long maxCount) throws IOException, IllegalValueException {
+        int count = in.readInt();
+        if (count < 0 || count > maxCount) {
+            throw new IllegalValueException(MESSAGE_NOT_BINARY_FORMAT);
+        }
+        return count;
+    }
+
+}
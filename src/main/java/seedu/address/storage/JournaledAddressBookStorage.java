@@ -0,0 +1,323 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * Stores AddressBook data as a snapshot written by another {@code AddressBookStorage}, plus a journal of the
+ * person list changes made since that snapshot. Each save appends only the changed persons to the journal;
+ * once the journal holds {@code compactionThreshold} entries, a fresh snapshot is written and the journal restarts.
+ *
+ * <p>The journal lives next to the snapshot, with a {@code .journal} suffix. It starts with the checksum of the
+ * snapshot it was written against, so a journal left behind by an interrupted compaction is recognised as stale
+ * and ignored instead of being replayed twice.
+ *
+ * <p>Changes are found by comparing person references with those last saved, which relies on {@code Person}
+ * being immutable: every change to a person in the model replaces it with a new {@code Person} object.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final AddressBookStorage snapshotStorage;
+    private final int compactionThreshold;
+
+    /** Persons as of the last read or save of the data file, or null if there has been none. */
+    private List<Person> savedPersons;
+    private int journalEntryCount;
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} that writes snapshots through {@code snapshotStorage}
+     * and compacts the journal once it holds {@code compactionThreshold} entries.
+     */
+    public JournaledAddressBookStorage(AddressBookStorage snapshotStorage, int compactionThreshold) {
+        requireNonNull(snapshotStorage);
+        if (compactionThreshold < 1) {
+            throw new IllegalArgumentException("Compaction threshold must be positive: " + compactionThreshold);
+        }
+        this.snapshotStorage = snapshotStorage;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return snapshotStorage.getAddressBookFilePath();
+    }
+
+    /**
+     * Returns the location of the journal kept for the snapshot at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return replayJournal(getAddressBookFilePath(), snapshotStorage.readAddressBook());
+    }
+
+    /**
+     * Reads the snapshot at {@code filePath} and replays the journal kept for it, if any.
+     *
+     * @throws DataLoadingException if the snapshot or the journal could not be loaded.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        return replayJournal(filePath, snapshotStorage.readAddressBook(filePath));
+    }
+
+    /**
+     * Returns {@code snapshot}, read from {@code filePath}, with the journal kept for it replayed on top.
+     */
+    private Optional<ReadOnlyAddressBook> replayJournal(Path filePath, Optional<ReadOnlyAddressBook> snapshot)
+            throws DataLoadingException {
+        JournalContents journal = readJournal(filePath);
+        List<JsonAdaptedJournalEntry> entries = journal.entries;
+        if (!snapshot.isPresent()) {
+            if (!entries.isEmpty()) {
+                logger.warning("Ignoring journal " + getJournalFilePath(filePath) + " without a data file");
+            }
+            return snapshot;
+        }
+
+        List<Person> persons = new ArrayList<>(snapshot.get().getPersonList());
+        try {
+            for (JsonAdaptedJournalEntry entry : entries) {
+                entry.applyTo(persons);
+            }
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + getJournalFilePath(filePath) + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException dpe) {
+            logger.info("Replaying " + getJournalFilePath(filePath) + " produced duplicate persons");
+            throw new DataLoadingException(dpe);
+        }
+
+        // Otherwise, the next save starts a new journal on top of a full snapshot
+        if (journal.isAppendable && filePath.equals(getAddressBookFilePath())) {
+            savedPersons = persons;
+            journalEntryCount = entries.size();
+        }
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Returns the change entries of the journal kept for the snapshot at {@code filePath}.
+     * There are none if there is no journal, or if it was written against a different snapshot.
+     * A truncated last line, as left by a crash mid-append, is dropped.
+     */
+    private JournalContents readJournal(Path filePath) throws DataLoadingException {
+        Path journalFilePath = getJournalFilePath(filePath);
+        if (!FileUtil.isFileExists(journalFilePath)) {
+            return new JournalContents(new ArrayList<>(), false);
+        }
+
+        List<String> lines;
+        long snapshotChecksum;
+        try {
+            lines = Files.readAllLines(journalFilePath, StandardCharsets.UTF_8);
+            snapshotChecksum = FileUtil.isFileExists(filePath) ? checksum(filePath) : -1;
+        } catch (IOException e) {
+            logger.warning("Error reading from journal file " + journalFilePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+        for (int i = 0; i < lines.size(); i++) {
+            JsonAdaptedJournalEntry entry;
+            try {
+                entry = JsonUtil.fromJsonString(lines.get(i), JsonAdaptedJournalEntry.class);
+            } catch (IOException e) {
+                if (i == 0) {
+                    logger.warning("Ignoring journal " + journalFilePath + " with an incomplete first entry");
+                    return new JournalContents(new ArrayList<>(), false);
+                }
+                if (i == lines.size() - 1) {
+                    logger.warning("Dropping incomplete last entry of journal " + journalFilePath);
+                    return new JournalContents(entries, false);
+                }
+                logger.warning("Error reading from journal file " + journalFilePath + ": " + e);
+                throw new DataLoadingException(e);
+            }
+
+            if (i == 0) {
+                if (!entry.isBase() || entry.getChecksum() != snapshotChecksum) {
+                    logger.info("Ignoring journal " + journalFilePath + " written against an older data file");
+                    return new JournalContents(new ArrayList<>(), false);
+                }
+                continue;
+            }
+            entries.add(entry);
+        }
+        return new JournalContents(entries, !lines.isEmpty());
+    }
+
+    @Override
+    public Path getBackupFilePath() {
+        return snapshotStorage.getBackupFilePath();
+    }
+
+    /**
+     * Reads the backup of the snapshot. The journal is not replayed on top, since it was written against the
+     * snapshot rather than its backup.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readBackupAddressBook() throws DataLoadingException {
+        return snapshotStorage.readBackupAddressBook();
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+
+        List<Person> persons = addressBook.getPersonList();
+        if (savedPersons == null) {
+            compact(addressBook);
+            return;
+        }
+
+        List<JsonAdaptedJournalEntry> changes = diff(savedPersons, persons);
+        if (changes.isEmpty()) {
+            return;
+        }
+        if (journalEntryCount + changes.size() >= compactionThreshold) {
+            compact(addressBook);
+            return;
+        }
+
+        appendToJournal(changes, StandardOpenOption.APPEND);
+        savedPersons = new ArrayList<>(persons);
+        journalEntryCount += changes.size();
+    }
+
+    /**
+     * Writes {@code addressBook} as a full snapshot to {@code filePath}, bypassing the journal.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(filePath);
+        if (filePath.equals(getAddressBookFilePath())) {
+            saveAddressBook(addressBook);
+            return;
+        }
+        snapshotStorage.saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Writes {@code addressBook} as a new snapshot and starts an empty journal on top of it.
+     */
+    private void compact(ReadOnlyAddressBook addressBook) throws IOException {
+        Path filePath = getAddressBookFilePath();
+        snapshotStorage.saveAddressBook(addressBook, filePath);
+
+        List<JsonAdaptedJournalEntry> header = new ArrayList<>();
+        header.add(JsonAdaptedJournalEntry.base(checksum(filePath)));
+        appendToJournal(header, StandardOpenOption.TRUNCATE_EXISTING);
+
+        savedPersons = new ArrayList<>(addressBook.getPersonList());
+        journalEntryCount = 0;
+        logger.fine("Compacted journal into data file: " + filePath);
+    }
+
+    private void appendToJournal(List<JsonAdaptedJournalEntry> entries, StandardOpenOption mode) throws IOException {
+        Path journalFilePath = getJournalFilePath(getAddressBookFilePath());
+        FileUtil.createParentDirsOfFile(journalFilePath);
+        try (BufferedWriter writer = Files.newBufferedWriter(journalFilePath, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, mode)) {
+            for (JsonAdaptedJournalEntry entry : entries) {
+                writer.write(JsonUtil.toCompactJsonString(entry));
+                writer.newLine();
+            }
+        }
+    }
+
+    /**
+     * Returns the entries that turn {@code oldPersons} into {@code newPersons}.
+     * Persons at both ends of the lists that are unchanged are skipped; the differing range in between
+     * is recorded as replacements, followed by the insertions or removals needed to make up its new length.
+     */
+    static List<JsonAdaptedJournalEntry> diff(List<Person> oldPersons, List<Person> newPersons) {
+        int oldSize = oldPersons.size();
+        int newSize = newPersons.size();
+
+        int start = 0;
+        while (start < oldSize && start < newSize && oldPersons.get(start) == newPersons.get(start)) {
+            start++;
+        }
+        int oldEnd = oldSize;
+        int newEnd = newSize;
+        while (oldEnd > start && newEnd > start && oldPersons.get(oldEnd - 1) == newPersons.get(newEnd - 1)) {
+            oldEnd--;
+            newEnd--;
+        }
+
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+        int replaced = Math.min(oldEnd - start, newEnd - start);
+        for (int i = start; i < start + replaced; i++) {
+            entries.add(JsonAdaptedJournalEntry.set(i, newPersons.get(i)));
+        }
+        for (int i = start + replaced; i < newEnd; i++) {
+            entries.add(JsonAdaptedJournalEntry.insert(i, newPersons.get(i)));
+        }
+        for (int i = start + replaced; i < oldEnd; i++) {
+            entries.add(JsonAdaptedJournalEntry.remove(start + replaced));
+        }
+        return entries;
+    }
+
+    private static long checksum(Path file) throws IOException {
+        CRC32 crc = new CRC32();
+        try (InputStream in = new CheckedInputStream(Files.newInputStream(file), crc)) {
+            byte[] buffer = new byte[8192];
+            while (in.read(buffer) != -1) {
+                // read through to update the checksum
+            }
+        }
+        return crc.getValue();
+    }
+
+    /**
+     * The change entries read from a journal, and whether further entries can be appended to it.
+     */
+    private static class JournalContents {
+        private final List<JsonAdaptedJournalEntry> entries;
+        private final boolean isAppendable;
+
+        JournalContents(List<JsonAdaptedJournalEntry> entries, boolean isAppendable) {
+            this.entries = entries;
+            this.isAppendable = isAppendable;
+        }
+    }
+
+}
@@ -0,0 +1,123 @@
+package seedu.address.storage;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of a single line of the address book journal.
+ * Every journal starts with a {@code base} entry identifying the snapshot it applies to,
+ * followed by the person list changes made since that snapshot was written.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalEntry {
+
+    public static final String OP_BASE = "base";
+    public static final String OP_INSERT = "insert";
+    public static final String OP_SET = "set";
+    public static final String OP_REMOVE = "remove";
+
+    public static final String MESSAGE_INVALID_ENTRY = "Journal entry is invalid: %s";
+
+    private final String op;
+    private final Long checksum;
+    private final Integer index;
+    private final JsonAdaptedPerson person;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given entry details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("op") String op, @JsonProperty("checksum") Long checksum,
+                                   @JsonProperty("index") Integer index,
+                                   @JsonProperty("person") JsonAdaptedPerson person) {
+        this.op = op;
+        this.checksum = checksum;
+        this.index = index;
+        this.person = person;
+    }
+
+    /**
+     * Returns the entry that starts a journal written on top of a snapshot with the given {@code checksum}.
+     */
+    public static JsonAdaptedJournalEntry base(long checksum) {
+        return new JsonAdaptedJournalEntry(OP_BASE, checksum, null, null);
+    }
+
+    /**
+     * Returns the entry recording that {@code person} was inserted at {@code index}.
+     */
+    public static JsonAdaptedJournalEntry insert(int index, Person person) {
+        return new JsonAdaptedJournalEntry(OP_INSERT, null, index, new JsonAdaptedPerson(person));
+    }
+
+    /**
+     * Returns the entry recording that the person at {@code index} was replaced by {@code person}.
+     */
+    public static JsonAdaptedJournalEntry set(int index, Person person) {
+        return new JsonAdaptedJournalEntry(OP_SET, null, index, new JsonAdaptedPerson(person));
+    }
+
+    /**
+     * Returns the entry recording that the person at {@code index} was removed.
+     */
+    public static JsonAdaptedJournalEntry remove(int index) {
+        return new JsonAdaptedJournalEntry(OP_REMOVE, null, index, null);
+    }
+
+    public boolean isBase() {
+        return OP_BASE.equals(op) && checksum != null;
+    }
+
+    public long getChecksum() {
+        return checksum;
+    }
+
+    /**
+     * Applies this entry to {@code persons}.
+     *
+     * @throws IllegalValueException if the entry is malformed, does not fit {@code persons},
+     *     or holds a person that violates data constraints.
+     */
+    public void applyTo(List<Person> persons) throws IllegalValueException {
+        if (op == null || index == null || index < 0) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_ENTRY, op));
+        }
+
+        switch (op) {
+        case OP_INSERT:
+            checkIndex(index <= persons.size());
+            persons.add(index, toPerson());
+            break;
+        case OP_SET:
+            checkIndex(index < persons.size());
+            persons.set(index, toPerson());
+            break;
+        case OP_REMOVE:
+            checkIndex(index < persons.size());
+            persons.remove((int) index);
+            break;
+        default:
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_ENTRY, op));
+        }
+    }
+
+    private void checkIndex(boolean isInRange) throws IllegalValueException {
+        if (!isInRange) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_ENTRY, op + " at " + index));
+        }
+    }
+
+    private Person toPerson() throws IllegalValueException {
+        if (person == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_ENTRY, op + " without a person"));
+        }
+        return person.toModelType();
+    }
+
+}
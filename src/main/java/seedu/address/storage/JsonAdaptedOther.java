@@ -37,7 +37,7 @@ class JsonAdaptedOther {
      * Converts this Jackson-friendly adapted tag object into the model's {@code Other} object.
      */
     public Other toModelType() throws IllegalValueException {
-        return new Other(other);
+        return Other.of(other);
     }
 
 }
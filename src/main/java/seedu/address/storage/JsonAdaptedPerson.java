@@ -161,7 +161,7 @@ class JsonAdaptedPerson {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                     Position.class.getSimpleName()));
         }
-        final Position modelPosition = new Position(position);
+        final Position modelPosition = Position.of(position);
 
         if (address == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Address.class.getSimpleName()));
@@ -37,7 +37,7 @@ class JsonAdaptedSkill {
      * Converts this Jackson-friendly adapted tag object into the model's {@code Skill} object.
      */
     public Skill toModelType() throws IllegalValueException {
-        return new Skill(skillName);
+        return Skill.of(skillName);
     }
 
 }
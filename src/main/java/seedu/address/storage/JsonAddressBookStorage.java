@@ -3,14 +3,21 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.events.AddressBookReadEvent;
+import seedu.address.commons.events.AddressBookSavedEvent;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.AtomicFileWriter;
+import seedu.address.commons.util.FsyncPolicy;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyAddressBook;
 
@@ -22,9 +29,24 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private final boolean isCompact;
+    private final AtomicFileWriter fileWriter;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, false, new AtomicFileWriter(FsyncPolicy.ALWAYS, 0));
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} for the data file at {@code filePath}.
+     *
+     * @param isCompact whether to save the data file without indentation.
+     * @param fileWriter writes the data file, keeping the previous one as a backup.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isCompact, AtomicFileWriter fileWriter) {
+        requireNonNull(fileWriter);
         this.filePath = filePath;
+        this.isCompact = isCompact;
+        this.fileWriter = fileWriter;
     }
 
     public Path getAddressBookFilePath() {
@@ -45,20 +67,38 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
 
-        try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+        AddressBookReadEvent event = new AddressBookReadEvent();
+        event.begin();
+        // Persons are converted as they are parsed, so the file is never held in memory as a whole
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            ReadOnlyAddressBook addressBook = JsonSerializableAddressBook.readAddressBook(parser);
+            event.setPersons(addressBook.getPersonList().size());
+            return Optional.of(addressBook);
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
+        } finally {
+            commitWithFileSize(event, filePath);
         }
     }
 
+    @Override
+    public Path getBackupFilePath() {
+        return AtomicFileWriter.getBackupPath(filePath);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readBackupAddressBook() throws DataLoadingException {
+        return readAddressBook(getBackupFilePath());
+    }
+
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
         saveAddressBook(addressBook, filePath);
@@ -66,6 +106,8 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The file is replaced atomically, and its previous content is kept at
+     * {@link AtomicFileWriter#getBackupPath(Path)}.
      *
      * @param filePath location of the data. Cannot be null.
      */
@@ -73,8 +115,34 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        AddressBookSavedEvent event = new AddressBookSavedEvent();
+        event.begin();
+        // Persons are converted as they are written, so the file is never built up in memory as a whole
+        fileWriter.write(filePath, out -> {
+            try (JsonGenerator generator = JsonUtil.createGenerator(out, isCompact)) {
+                JsonSerializableAddressBook.writeAddressBook(addressBook, generator);
+            }
+        });
+        if (event.shouldCommit()) {
+            event.setPersons(addressBook.getPersonList().size());
+            event.setBytes(Files.size(filePath));
+            event.commit();
+        }
+    }
+
+    /**
+     * Commits {@code event} with the size of the data file at {@code filePath}, if the event is being recorded.
+     */
+    private static void commitWithFileSize(AddressBookReadEvent event, Path filePath) {
+        if (!event.shouldCommit()) {
+            return;
+        }
+        try {
+            event.setBytes(Files.size(filePath));
+        } catch (IOException e) {
+            // the file went away after it was read; record the event without its size
+        }
+        event.commit();
     }
 
 }
@@ -1,16 +1,23 @@
 package seedu.address.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 
 /**
@@ -20,6 +27,9 @@ import seedu.address.model.person.Person;
 class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
+    public static final String MESSAGE_INVALID_FORMAT = "Address book data is not an object with a persons list.";
+
+    private static final String PERSONS_FIELD = "persons";
 
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
@@ -46,15 +56,76 @@ class JsonSerializableAddressBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
+        List<Person> modelPersons = new ArrayList<>(persons.size());
+        Set<Name> seenNames = new HashSet<>();
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
             Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
+            if (!seenNames.add(person.getName())) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
             }
-            addressBook.addPerson(person);
+            modelPersons.add(person);
         }
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(modelPersons);
         return addressBook;
     }
 
+    /**
+     * Reads an address book from {@code parser}, converting each person to the model's {@code Person}
+     * as soon as it has been parsed, so that the adapted persons never need to be held all at once.
+     * Fields other than the persons list are skipped.
+     *
+     * @throws IOException if the content could not be read or is not valid JSON.
+     * @throws IllegalValueException if the content does not describe an address book,
+     *     or if there were any data constraints violated.
+     */
+    public static AddressBook readAddressBook(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IllegalValueException(MESSAGE_INVALID_FORMAT);
+        }
+
+        List<Person> modelPersons = new ArrayList<>();
+        Set<Name> seenNames = new HashSet<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (!PERSONS_FIELD.equals(fieldName)) {
+                parser.skipChildren();
+                continue;
+            }
+            if (value != JsonToken.START_ARRAY) {
+                throw new IllegalValueException(MESSAGE_INVALID_FORMAT);
+            }
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                Person person = parser.readValueAs(JsonAdaptedPerson.class).toModelType();
+                if (!seenNames.add(person.getName())) {
+                    throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+                }
+                modelPersons.add(person);
+            }
+            if (parser.getCurrentToken() != JsonToken.END_ARRAY) {
+                throw new IllegalValueException(MESSAGE_INVALID_FORMAT);
+            }
+        }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(modelPersons);
+        return addressBook;
+    }
+
+    /**
+     * Writes {@code source} to {@code generator} in the same format as this class, converting each person
+     * just before it is written, so that the adapted persons never need to be held all at once.
+     */
+    public static void writeAddressBook(ReadOnlyAddressBook source, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeFieldName(PERSONS_FIELD);
+        generator.writeStartArray();
+        for (Person person : source.getPersonList()) {
+            generator.writeObject(new JsonAdaptedPerson(person));
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
 }
@@ -29,4 +29,18 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Throws the failure of an earlier address book save that was written in the background and has not been
+     * reported yet, after arranging for that save to be written again. Saves written immediately report their
+     * failures themselves, so this does nothing for them.
+     * @throws IOException if an earlier save could not be written.
+     */
+    void checkAddressBookSaved() throws IOException;
+
+    /**
+     * Blocks until every address book save made so far has been written to the data file.
+     * @throws IOException if a save could not be written.
+     */
+    void flushAddressBook() throws IOException;
+
 }
@@ -3,16 +3,25 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
 
 /**
  * Manages storage of AddressBook data in local storage.
+ * In write-behind mode, address book saves are handed to a background writer instead of being written immediately.
  */
 public class StorageManager implements Storage {
 
@@ -20,12 +29,45 @@ public class StorageManager implements Storage {
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
 
+    /** Background writer of address book saves, or null if saves are written immediately. */
+    private final ScheduledExecutorService writer;
+    private final long writeDelayMillis;
+
+    /** Latest address book waiting to be written by {@code writer}, kept after a failed write to be retried. */
+    private ReadOnlyAddressBook pendingAddressBook;
+    /** Whether {@code writer} has a write of {@code pendingAddressBook} scheduled. */
+    private boolean isWriteScheduled;
+    /** Failure of the last background write that has not been reported yet. */
+    private IOException writeFailure;
+
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
      */
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.writer = null;
+        this.writeDelayMillis = 0;
+    }
+
+    /**
+     * Creates a {@code StorageManager} that writes address book saves in the background.
+     * All saves made within {@code writeDelayMillis} of the first unwritten save are coalesced into one write
+     * of the latest address book.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+                          long writeDelayMillis) {
+        if (writeDelayMillis < 0) {
+            throw new IllegalArgumentException("Write delay must not be negative: " + writeDelayMillis);
+        }
+        this.addressBookStorage = addressBookStorage;
+        this.userPrefsStorage = userPrefsStorage;
+        this.writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "address-book-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.writeDelayMillis = writeDelayMillis;
     }
 
     // ================ UserPrefs methods ==============================
@@ -55,7 +97,8 @@ public class StorageManager implements Storage {
 
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
-        return readAddressBook(addressBookStorage.getAddressBookFilePath());
+        logger.fine("Attempting to read data from file: " + addressBookStorage.getAddressBookFilePath());
+        return addressBookStorage.readAddressBook();
     }
 
     @Override
@@ -64,9 +107,40 @@ public class StorageManager implements Storage {
         return addressBookStorage.readAddressBook(filePath);
     }
 
+    @Override
+    public Path getBackupFilePath() {
+        return addressBookStorage.getBackupFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readBackupAddressBook() throws DataLoadingException {
+        logger.fine("Attempting to read backup from file: " + addressBookStorage.getBackupFilePath());
+        return addressBookStorage.readBackupAddressBook();
+    }
+
+    /**
+     * Saves {@code addressBook} to the data file. In write-behind mode, a snapshot of {@code addressBook} is queued
+     * for the background writer instead.
+     *
+     * @throws IOException if there was any problem writing to the file, or, in write-behind mode,
+     *     if an earlier background write failed and has not been reported yet.
+     *     The failed write is superseded by this save.
+     */
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
-        saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
+        if (writer == null) {
+            saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
+            return;
+        }
+
+        // Persons are immutable, so a copy of the list is enough to keep the snapshot unaffected by later commands
+        ObservableList<Person> persons = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(addressBook.getPersonList()));
+        synchronized (this) {
+            pendingAddressBook = () -> persons;
+            scheduleWrite();
+        }
+        throwWriteFailure();
     }
 
     @Override
@@ -75,4 +149,85 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    /**
+     * In write-behind mode, throws the failure of an earlier background write that has not been reported yet,
+     * and schedules the failed write to be retried.
+     */
+    @Override
+    public void checkAddressBookSaved() throws IOException {
+        if (writer == null) {
+            return;
+        }
+        synchronized (this) {
+            if (writeFailure != null && pendingAddressBook != null) {
+                scheduleWrite();
+            }
+        }
+        throwWriteFailure();
+    }
+
+    @Override
+    public void flushAddressBook() throws IOException {
+        if (writer != null) {
+            try {
+                writer.submit(this::writePendingAddressBook).get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while waiting for the data file to be written", e);
+            } catch (ExecutionException e) {
+                throw new IOException(e.getCause());
+            }
+        }
+        throwWriteFailure();
+    }
+
+    private synchronized void scheduleWrite() {
+        if (!isWriteScheduled) {
+            isWriteScheduled = true;
+            writer.schedule(this::writePendingAddressBook, writeDelayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Writes the pending address book, if any, recording the failure to be reported by a later save or flush.
+     * An address book that fails to be written stays pending, unless a newer one was saved in the meantime,
+     * so that it is written by the next flush or retry.
+     */
+    private void writePendingAddressBook() {
+        ReadOnlyAddressBook addressBook;
+        synchronized (this) {
+            isWriteScheduled = false;
+            addressBook = pendingAddressBook;
+            pendingAddressBook = null;
+        }
+        if (addressBook == null) {
+            return;
+        }
+
+        Path filePath = addressBookStorage.getAddressBookFilePath();
+        logger.fine("Attempting to write to data file: " + filePath);
+        try {
+            addressBookStorage.saveAddressBook(addressBook, filePath);
+        } catch (IOException e) {
+            logger.warning("Failed to write data file " + filePath + ": " + StringUtil.getDetails(e));
+            synchronized (this) {
+                writeFailure = e;
+                if (pendingAddressBook == null) {
+                    pendingAddressBook = addressBook;
+                }
+            }
+        }
+    }
+
+    private void throwWriteFailure() throws IOException {
+        IOException failure;
+        synchronized (this) {
+            failure = writeFailure;
+            writeFailure = null;
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
 }
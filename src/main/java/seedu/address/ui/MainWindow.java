@@ -1,8 +1,11 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -36,6 +39,7 @@ public class MainWindow extends UiPart<Stage> {
     // Independent Ui parts residing in this Ui container
     private PersonListPanel personListPanel;
     private ResultDisplay resultDisplay;
+    private StatusBarFooter statusBarFooter;
     private HelpWindow helpWindow;
 
     @FXML
@@ -103,13 +107,20 @@ public class MainWindow extends UiPart<Stage> {
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
+        statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
         CommandBox commandBox = new CommandBox(this::executeCommand);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
 
+    /**
+     * Shows {@code reminder} in the status bar.
+     */
+    void showReminder(String reminder) {
+        statusBarFooter.setReminder(reminder);
+    }
+
     /**
      * Sets the default size based on {@code guiSettings}.
      */
@@ -158,89 +169,107 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Executes the command in the background, and shows its result on the JavaFX application thread
+     * once it has run.
      *
-     * @see seedu.address.logic.Logic#execute(String)
+     * @see seedu.address.logic.Logic#executeAsync(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
-            logger.info("Result: " + commandResult.getFeedbackToUser());
-
-            // Build a detailed report if there are task lists provided.
-            if (!commandResult.getCompletedTasks().isEmpty()
-                    || !commandResult.getInProgressTasks().isEmpty()
-                    || !commandResult.getYetToStartTasks().isEmpty()) {
-
-                StringBuilder reportBuilder = new StringBuilder(commandResult.getFeedbackToUser())
-                        .append("\n\n");
-
-                //Yet To Start Tasks
-                reportBuilder.append("Yet to Start Tasks (")
-                        .append(commandResult.getYetToStartTasks().size())
-                        .append("):\n");
-                commandResult.getYetToStartTasks().forEach(person -> {
-                    String tasks = person.getTasks().stream()
-                            .filter(task -> task.getStatus().equals(TaskStatus.YET_TO_START))
-                            .map(Task::getDescription)
-                            .collect(Collectors.joining(", "));
-                    reportBuilder.append(person.getName())
-                            .append(" (")
-                            .append(tasks)
-                            .append(")")
-                            .append("\n");
-                });
-
-                //In Progress Tasks
-                reportBuilder.append("\nIn Progress Tasks (")
-                        .append(commandResult.getInProgressTasks().size())
-                        .append("):\n");
-                commandResult.getInProgressTasks().forEach(person -> {
-                    String tasks = person.getTasks().stream()
-                            .filter(task -> task.getStatus().equals(TaskStatus.IN_PROGRESS))
-                            .map(Task::getDescription)
-                            .collect(Collectors.joining(", "));
-                    reportBuilder.append(person.getName())
-                            .append(" (")
-                            .append(tasks)
-                            .append(")")
-                            .append("\n");
-                });
-
-                //Completed Tasks
-                reportBuilder.append("\nCompleted Tasks (")
-                        .append(commandResult.getCompletedTasks().size())
-                        .append("):\n");
-                commandResult.getCompletedTasks().forEach(person -> {
-                    String tasks = person.getTasks().stream()
-                            .filter(task -> task.getStatus().equals(TaskStatus.COMPLETED))
-                            .map(Task::getDescription)
-                            .collect(Collectors.joining(", "));
-                    reportBuilder.append(person.getName())
-                            .append(" (")
-                            .append(tasks)
-                            .append(")")
-                            .append("\n");
-                });
-
-                resultDisplay.setFeedbackToUser(reportBuilder.toString());
+    private CompletableFuture<CommandResult> executeCommand(String commandText) {
+        return logic.executeAsync(commandText).whenCompleteAsync((commandResult, error) -> {
+            if (error == null) {
+                handleCommandResult(commandResult);
             } else {
-                resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+                handleCommandFailure(commandText, error);
             }
+        }, Platform::runLater);
+    }
 
-            if (commandResult.isShowHelp()) {
-                handleHelp();
-            }
+    /**
+     * Shows the result of a successfully executed command.
+     */
+    private void handleCommandResult(CommandResult commandResult) {
+        logger.info("Result: " + commandResult.getFeedbackToUser());
+
+        // Build a detailed report if there are task lists provided.
+        if (!commandResult.getCompletedTasks().isEmpty()
+                || !commandResult.getInProgressTasks().isEmpty()
+                || !commandResult.getYetToStartTasks().isEmpty()) {
+
+            StringBuilder reportBuilder = new StringBuilder(commandResult.getFeedbackToUser())
+                    .append("\n\n");
+
+            //Yet To Start Tasks
+            reportBuilder.append("Yet to Start Tasks (")
+                    .append(commandResult.getYetToStartTasks().size())
+                    .append("):\n");
+            commandResult.getYetToStartTasks().forEach(person -> {
+                String tasks = person.getTasks().stream()
+                        .filter(task -> task.getStatus().equals(TaskStatus.YET_TO_START))
+                        .map(Task::getDescription)
+                        .collect(Collectors.joining(", "));
+                reportBuilder.append(person.getName())
+                        .append(" (")
+                        .append(tasks)
+                        .append(")")
+                        .append("\n");
+            });
+
+            //In Progress Tasks
+            reportBuilder.append("\nIn Progress Tasks (")
+                    .append(commandResult.getInProgressTasks().size())
+                    .append("):\n");
+            commandResult.getInProgressTasks().forEach(person -> {
+                String tasks = person.getTasks().stream()
+                        .filter(task -> task.getStatus().equals(TaskStatus.IN_PROGRESS))
+                        .map(Task::getDescription)
+                        .collect(Collectors.joining(", "));
+                reportBuilder.append(person.getName())
+                        .append(" (")
+                        .append(tasks)
+                        .append(")")
+                        .append("\n");
+            });
+
+            //Completed Tasks
+            reportBuilder.append("\nCompleted Tasks (")
+                    .append(commandResult.getCompletedTasks().size())
+                    .append("):\n");
+            commandResult.getCompletedTasks().forEach(person -> {
+                String tasks = person.getTasks().stream()
+                        .filter(task -> task.getStatus().equals(TaskStatus.COMPLETED))
+                        .map(Task::getDescription)
+                        .collect(Collectors.joining(", "));
+                reportBuilder.append(person.getName())
+                        .append(" (")
+                        .append(tasks)
+                        .append(")")
+                        .append("\n");
+            });
+
+            resultDisplay.setFeedbackToUser(reportBuilder.toString());
+        } else {
+            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+        }
 
-            if (commandResult.isExit()) {
-                handleExit();
-            }
+        if (commandResult.isShowHelp()) {
+            handleHelp();
+        }
 
-            return commandResult;
-        } catch (CommandException | ParseException e) {
+        if (commandResult.isExit()) {
+            handleExit();
+        }
+    }
+
+    /**
+     * Shows the error of a command that could not be executed.
+     */
+    private void handleCommandFailure(String commandText, Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof CommandException || cause instanceof ParseException) {
             logger.info("An error occurred while executing command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
+        } else {
+            logger.warning("Unexpected error while executing command: " + commandText + " " + cause);
         }
+        resultDisplay.setFeedbackToUser(cause.getMessage());
     }
 }
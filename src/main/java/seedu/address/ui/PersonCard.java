@@ -1,8 +1,14 @@
 package seedu.address.ui;
 
-import java.util.Comparator;
+import static java.util.Objects.requireNonNull;
 
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
@@ -16,6 +22,8 @@ import seedu.address.model.task.Task;
 public class PersonCard extends UiPart<Region> {
 
     private static final String FXML = "PersonListCard.fxml";
+    private static final DateTimeFormatter DUE_DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+    private static final String TASK_STYLE_CLASS = "task-label";
 
     /**
      * Note: Certain keywords such as "location" and "resources" are reserved keywords in JavaFX.
@@ -25,7 +33,8 @@ public class PersonCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Person person;
+    private Person person;
+    private int displayedIndex;
 
     @FXML
     private HBox cardPane;
@@ -60,12 +69,33 @@ public class PersonCard extends UiPart<Region> {
     @FXML
     private HBox tasksContainer;
 
+    /**
+     * Creates an empty {@code PersonCard}, to be filled in by {@link #setPerson(Person, int)}.
+     */
+    public PersonCard() {
+        super(FXML);
+    }
+
     /**
      * Creates a {@code PersonCode} with the given {@code Person} and index to display.
      */
     public PersonCard(Person person, int displayedIndex) {
-        super(FXML);
+        this();
+        setPerson(person, displayedIndex);
+    }
+
+    /**
+     * Shows {@code person} with the given index on this card, replacing the person shown before.
+     * The labels already on the card are reused, so that a card can be recycled as a list is scrolled.
+     */
+    public void setPerson(Person person, int displayedIndex) {
+        requireNonNull(person);
+        if (person == this.person && displayedIndex == this.displayedIndex) {
+            return;
+        }
         this.person = person;
+        this.displayedIndex = displayedIndex;
+
         id.setText(displayedIndex + ". ");
         name.setText(person.getName().fullName);
         phone.setText("Phone: " + person.getPhone().value);
@@ -73,49 +103,69 @@ public class PersonCard extends UiPart<Region> {
         position.setText("Position: " + person.getPosition().value);
         address.setText("Address: " + person.getAddress().value);
         email.setText("Email: " + person.getEmail().value);
-        person.getTags().stream()
-                .sorted(Comparator.comparing(tag -> tag.tagName))
-                .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
-        person.getSkills().stream()
-                .sorted(Comparator.comparing(skill -> skill.skillName))
-                .forEach(skill -> skills.getChildren().add(new Label(skill.skillName)));
-        person.getOthers().stream()
-                .sorted(Comparator.comparing(other -> other.other))
-                .forEach(other -> others.getChildren().add(new Label(other.other)));
-        person.getTasks().stream()
-                .forEach((Task task) -> {
-                    StringBuilder taskDisplay = new StringBuilder(task.getDescription());
-
-                    if (task.getDueDate() != null) {
-                        taskDisplay.append(", ")
-                            .append(task.getDueDate()
-                                        .format(java.time.format.DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")));
-                    }
-
-                    taskDisplay.append(" [")
-                        .append(task.getStatus().name().toLowerCase().replace("_", " "))
-                        .append("]");
-
-                    Label taskLabel = new Label(taskDisplay.toString());
-                    taskLabel.getStyleClass().add("task-label");
-                    tasks.getChildren().add(taskLabel);
-                });
-
-        if (person.getTags().isEmpty()) {
-            tagsContainer.setManaged(false);
-            tagsContainer.setVisible(false);
-        }
-        if (person.getSkills().isEmpty()) {
-            skillsContainer.setManaged(false);
-            skillsContainer.setVisible(false);
+        setLabels(tagsContainer, tags, person.getTags().stream()
+                .map(tag -> tag.tagName)
+                .sorted()
+                .collect(Collectors.toList()), null);
+        setLabels(skillsContainer, skills, person.getSkills().stream()
+                .map(skill -> skill.skillName)
+                .sorted()
+                .collect(Collectors.toList()), null);
+        setLabels(othersContainer, others, person.getOthers().stream()
+                .map(other -> other.other)
+                .sorted()
+                .collect(Collectors.toList()), null);
+        setLabels(tasksContainer, tasks, person.getTasks().stream()
+                .map(PersonCard::formatTask)
+                .collect(Collectors.toList()), TASK_STYLE_CLASS);
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    /**
+     * Shows one label per text in {@code pane}, and hides {@code container} if there are no texts.
+     * Labels already in {@code pane} are given the new texts; labels left over are hidden rather than removed,
+     * so that they can be shown again for the next person without being recreated.
+     */
+    private static void setLabels(HBox container, FlowPane pane, List<String> texts, String styleClass) {
+        ObservableList<Node> labels = pane.getChildren();
+        for (int i = 0; i < texts.size(); i++) {
+            if (i < labels.size()) {
+                Label label = (Label) labels.get(i);
+                label.setText(texts.get(i));
+                setShown(label, true);
+            } else {
+                Label label = new Label(texts.get(i));
+                if (styleClass != null) {
+                    label.getStyleClass().add(styleClass);
+                }
+                labels.add(label);
+            }
         }
-        if (person.getOthers().isEmpty()) {
-            othersContainer.setManaged(false);
-            othersContainer.setVisible(false);
+        for (int i = texts.size(); i < labels.size(); i++) {
+            setShown(labels.get(i), false);
         }
-        if (person.getTasks().isEmpty()) {
-            tasksContainer.setManaged(false);
-            tasksContainer.setVisible(false);
+        setShown(container, !texts.isEmpty());
+    }
+
+    private static void setShown(Node node, boolean isShown) {
+        node.setManaged(isShown);
+        node.setVisible(isShown);
+    }
+
+    private static String formatTask(Task task) {
+        StringBuilder taskDisplay = new StringBuilder(task.getDescription());
+
+        if (task.getDueDate() != null) {
+            taskDisplay.append(", ")
+                .append(task.getDueDate().format(DUE_DATE_FORMATTER));
         }
+
+        taskDisplay.append(" [")
+            .append(task.getStatus().name().toLowerCase().replace("_", " "))
+            .append("]");
+        return taskDisplay.toString();
     }
 }
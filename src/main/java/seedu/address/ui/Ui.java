@@ -10,4 +10,7 @@ public interface Ui {
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
 
+    /** Shows a reminder to the user. May be called from any thread. */
+    void showReminder(String reminder);
+
 }
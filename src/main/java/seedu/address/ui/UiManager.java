@@ -50,6 +50,15 @@ public class UiManager implements Ui {
         }
     }
 
+    @Override
+    public void showReminder(String reminder) {
+        Platform.runLater(() -> {
+            if (mainWindow != null) {
+                mainWindow.showReminder(reminder);
+            }
+        });
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
@@ -0,0 +1,153 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class AsyncLogHandlerTest {
+
+    private final RecordingHandler target = new RecordingHandler();
+    private AsyncLogHandler handler;
+
+    @AfterEach
+    public void tearDown() {
+        target.release();
+        handler.close();
+    }
+
+    @Test
+    public void flush_recordsPublishedInOrder() {
+        handler = new AsyncLogHandler(List.of(target), 4, LogOverflowPolicy.BLOCK, "test-log-writer");
+        target.release();
+        for (int i = 0; i < 10; i++) {
+            handler.publish(new LogRecord(Level.INFO, "message " + i));
+        }
+        handler.flush();
+
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            expected.add("message " + i);
+        }
+        assertEquals(expected, target.getMessages());
+        assertTrue(target.isFlushed);
+    }
+
+    @Test
+    public void publish_belowHandlerLevel_ignored() {
+        handler = new AsyncLogHandler(List.of(target), 4, LogOverflowPolicy.BLOCK, "test-log-writer");
+        handler.setLevel(Level.WARNING);
+        target.release();
+        handler.publish(new LogRecord(Level.INFO, "ignored"));
+        handler.publish(new LogRecord(Level.SEVERE, "kept"));
+        handler.flush();
+
+        assertEquals(List.of("kept"), target.getMessages());
+    }
+
+    @Test
+    public void publish_bufferFullWithDropPolicy_returnsAndReportsDropped() throws Exception {
+        handler = new AsyncLogHandler(List.of(target), 2, LogOverflowPolicy.DROP, "test-log-writer");
+        handler.publish(new LogRecord(Level.INFO, "first"));
+        assertTrue(target.awaitPublishing());
+
+        // "first" is held by the blocked target, so the buffer fills up after two more records
+        for (int i = 0; i < 5; i++) {
+            handler.publish(new LogRecord(Level.INFO, "message " + i));
+        }
+        target.release();
+        handler.flush();
+
+        assertEquals(List.of("first", String.format(AsyncLogHandler.MESSAGE_DROPPED, 3), "message 0", "message 1"),
+                target.getMessages());
+    }
+
+    @Test
+    public void publish_bufferFullWithBlockPolicy_waitsForRoom() throws Exception {
+        handler = new AsyncLogHandler(List.of(target), 1, LogOverflowPolicy.BLOCK, "test-log-writer");
+        handler.publish(new LogRecord(Level.INFO, "first"));
+        assertTrue(target.awaitPublishing());
+
+        Thread logging = new Thread(() -> {
+            for (int i = 0; i < 3; i++) {
+                handler.publish(new LogRecord(Level.INFO, "message " + i));
+            }
+        });
+        logging.start();
+        logging.join(200);
+        assertTrue(logging.isAlive());
+
+        target.release();
+        logging.join(TimeUnit.SECONDS.toMillis(10));
+        handler.flush();
+        assertEquals(List.of("first", "message 0", "message 1", "message 2"), target.getMessages());
+    }
+
+    @Test
+    public void close_publishesBufferedRecordsAndClosesTargets() {
+        handler = new AsyncLogHandler(List.of(target), 4, LogOverflowPolicy.BLOCK, "test-log-writer");
+        target.release();
+        handler.publish(new LogRecord(Level.INFO, "before close"));
+        handler.close();
+        handler.publish(new LogRecord(Level.INFO, "after close"));
+
+        assertEquals(List.of("before close"), target.getMessages());
+        assertTrue(target.isClosed);
+    }
+
+    /**
+     * A handler that keeps the messages it is given, and holds up the first one until it is released.
+     */
+    private static class RecordingHandler extends Handler {
+        private final List<String> messages = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch publishing = new CountDownLatch(1);
+        private final CountDownLatch released = new CountDownLatch(1);
+        private volatile boolean isFlushed;
+        private volatile boolean isClosed;
+
+        @Override
+        public void publish(LogRecord record) {
+            publishing.countDown();
+            try {
+                released.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            messages.add(record.getMessage());
+        }
+
+        @Override
+        public void flush() {
+            isFlushed = true;
+        }
+
+        @Override
+        public void close() {
+            isClosed = true;
+        }
+
+        boolean awaitPublishing() throws InterruptedException {
+            return publishing.await(10, TimeUnit.SECONDS);
+        }
+
+        void release() {
+            released.countDown();
+        }
+
+        List<String> getMessages() {
+            synchronized (messages) {
+                return new ArrayList<>(messages);
+            }
+        }
+    }
+}
@@ -12,7 +12,19 @@ public class ConfigTest {
     public void toStringMethod() {
         Config config = new Config();
         String expected = Config.class.getCanonicalName() + "{logLevel=" + config.getLogLevel()
-                + ", userPrefsFilePath=" + config.getUserPrefsFilePath() + "}";
+                + ", logOverflowPolicy=" + config.getLogOverflowPolicy()
+                + ", userPrefsFilePath=" + config.getUserPrefsFilePath()
+                + ", journalEnabled=" + config.isJournalEnabled()
+                + ", journalCompactionThreshold=" + config.getJournalCompactionThreshold()
+                + ", writeBehindEnabled=" + config.isWriteBehindEnabled()
+                + ", writeBehindDelayMillis=" + config.getWriteBehindDelayMillis()
+                + ", compactJsonEnabled=" + config.isCompactJsonEnabled()
+                + ", fsyncPolicy=" + config.getFsyncPolicy()
+                + ", fsyncIntervalMillis=" + config.getFsyncIntervalMillis()
+                + ", binaryStorageEnabled=" + config.isBinaryStorageEnabled()
+                + ", reminderLeadMinutes=" + config.getReminderLeadMinutes()
+                + ", metricsDumpIntervalMinutes=" + config.getMetricsDumpIntervalMinutes()
+                + ", flightRecorderEventsEnabled=" + config.isFlightRecorderEventsEnabled() + "}";
         assertEquals(expected, config.toString());
     }
 
@@ -0,0 +1,54 @@
+package seedu.address.commons.events;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jdk.jfr.consumer.RecordedEvent;
+import seedu.address.testutil.FlightRecording;
+
+public class FlightRecorderEventsTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    @AfterEach
+    public void tearDown() {
+        FlightRecorderEvents.setEnabled(false);
+    }
+
+    @Test
+    public void setEnabled_true_eventsRecorded() throws Throwable {
+        FlightRecorderEvents.setEnabled(true);
+        List<RecordedEvent> events = FlightRecording.record(temporaryFolder, () -> emitFilterEvent(3, 7));
+
+        assertEquals(1, events.size());
+        assertEquals(3, events.get(0).getInt("matched"));
+        assertEquals(7, events.get(0).getInt("total"));
+    }
+
+    @Test
+    public void setEnabled_false_eventsNotRecorded() throws Throwable {
+        FlightRecorderEvents.setEnabled(true);
+        FlightRecorderEvents.setEnabled(false);
+        List<RecordedEvent> events = FlightRecording.record(temporaryFolder, () -> emitFilterEvent(3, 7));
+
+        assertTrue(events.isEmpty());
+    }
+
+    private static void emitFilterEvent(int matched, int total) {
+        PersonFilterUpdatedEvent event = new PersonFilterUpdatedEvent();
+        event.begin();
+        if (event.shouldCommit()) {
+            event.setMatched(matched);
+            event.setTotal(total);
+            event.commit();
+        }
+    }
+}
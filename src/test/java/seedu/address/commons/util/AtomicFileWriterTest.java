@@ -0,0 +1,112 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class AtomicFileWriterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private void write(AtomicFileWriter writer, Path file, String content) throws IOException {
+        writer.write(file, out -> out.write(content.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    public void constructor_negativeInterval_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new AtomicFileWriter(FsyncPolicy.PERIODIC, -1));
+    }
+
+    @Test
+    public void write_newFileInMissingFolder_fileCreatedWithoutBackup() throws Exception {
+        Path file = testFolder.resolve("folder").resolve("data.json");
+        write(new AtomicFileWriter(FsyncPolicy.ALWAYS, 0), file, "first");
+
+        assertEquals("first", Files.readString(file));
+        assertFalse(Files.exists(AtomicFileWriter.getBackupPath(file)));
+        assertFalse(Files.exists(AtomicFileWriter.getTempPath(file)));
+    }
+
+    @Test
+    public void write_existingFile_previousContentBackedUp() throws Exception {
+        Path file = testFolder.resolve("data.json");
+        AtomicFileWriter writer = new AtomicFileWriter(FsyncPolicy.NEVER, 0);
+        write(writer, file, "first");
+        write(writer, file, "second");
+        write(writer, file, "third");
+
+        assertEquals("third", Files.readString(file));
+        assertEquals("second", Files.readString(AtomicFileWriter.getBackupPath(file)));
+    }
+
+    @Test
+    public void write_contentWriterClosesStream_contentWritten() throws Exception {
+        Path file = testFolder.resolve("data.json");
+        new AtomicFileWriter(FsyncPolicy.PERIODIC, 1000).write(file, out -> {
+            out.write('x');
+            out.close();
+        });
+
+        assertEquals("x", Files.readString(file));
+    }
+
+    @Test
+    public void forceSkippedWrites_periodicWriteNotForced_contentKept() throws Exception {
+        Path file = testFolder.resolve("data.json");
+        Path removedFile = testFolder.resolve("removed.json");
+        AtomicFileWriter writer = new AtomicFileWriter(FsyncPolicy.PERIODIC, Long.MAX_VALUE / 2);
+        write(writer, file, "forced");
+        write(writer, file, "skipped");
+        write(writer, removedFile, "skipped");
+        Files.delete(removedFile);
+
+        writer.forceSkippedWrites();
+        assertEquals("skipped", Files.readString(file));
+        assertFalse(Files.exists(removedFile));
+    }
+
+    @Test
+    public void setAsideCorruptFile_beforeWrite_backupKept() throws Exception {
+        Path file = testFolder.resolve("data.json");
+        AtomicFileWriter writer = new AtomicFileWriter(FsyncPolicy.NEVER, 0);
+        write(writer, file, "good");
+        write(writer, file, "newer");
+        Files.writeString(file, "corrupt");
+
+        // the data is loaded from the backup, and the corrupt file moved out of the way before the next save
+        assertEquals("good", Files.readString(AtomicFileWriter.getBackupPath(file)));
+        assertTrue(AtomicFileWriter.setAsideCorruptFile(file));
+        write(writer, file, "saved");
+
+        assertEquals("saved", Files.readString(file));
+        assertEquals("good", Files.readString(AtomicFileWriter.getBackupPath(file)));
+        assertEquals("corrupt", Files.readString(AtomicFileWriter.getCorruptPath(file)));
+        assertFalse(AtomicFileWriter.setAsideCorruptFile(testFolder.resolve("missing.json")));
+    }
+
+    @Test
+    public void write_contentWriterFails_fileUnchanged() throws Exception {
+        Path file = testFolder.resolve("data.json");
+        AtomicFileWriter writer = new AtomicFileWriter(FsyncPolicy.ALWAYS, 0);
+        write(writer, file, "first");
+
+        assertThrows(IOException.class, () -> writer.write(file, out -> {
+            out.write('y');
+            throw new IOException("disk full");
+        }));
+        assertEquals("first", Files.readString(file));
+        assertFalse(Files.exists(AtomicFileWriter.getBackupPath(file)));
+        assertFalse(Files.exists(AtomicFileWriter.getTempPath(file)));
+    }
+
+}
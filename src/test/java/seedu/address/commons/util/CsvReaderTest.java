@@ -0,0 +1,59 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class CsvReaderTest {
+
+    @Test
+    public void readRecord_emptyInput_returnsNull() throws Exception {
+        assertNull(new CsvReader(new StringReader("")).readRecord());
+    }
+
+    @Test
+    public void readRecord_unquotedFields_splitOnCommas() throws Exception {
+        CsvReader reader = new CsvReader(new StringReader("a,b,,c\r\nd\ne,f"));
+
+        assertEquals(List.of("a", "b", "", "c"), reader.readRecord());
+        assertEquals(1, reader.getLineNumber());
+        assertEquals(List.of("d"), reader.readRecord());
+        assertEquals(2, reader.getLineNumber());
+        assertEquals(List.of("e", "f"), reader.readRecord());
+        assertEquals(3, reader.getLineNumber());
+        assertNull(reader.readRecord());
+    }
+
+    @Test
+    public void readRecord_quotedFields_keepCommasQuotesAndLineBreaks() throws Exception {
+        CsvReader reader = new CsvReader(new StringReader("\"a,b\",\"say \"\"hi\"\"\",\"line\nbreak\"\nnext,\"\"\n"));
+
+        assertEquals(List.of("a,b", "say \"hi\"", "line\nbreak"), reader.readRecord());
+        assertEquals(1, reader.getLineNumber());
+        assertEquals(List.of("next", ""), reader.readRecord());
+        assertEquals(3, reader.getLineNumber());
+        assertNull(reader.readRecord());
+    }
+
+    @Test
+    public void readRecord_blankLine_singleEmptyField() throws Exception {
+        CsvReader reader = new CsvReader(new StringReader("a\n\nb\n"));
+
+        assertEquals(List.of("a"), reader.readRecord());
+        assertEquals(List.of(""), reader.readRecord());
+        assertEquals(List.of("b"), reader.readRecord());
+        assertEquals(3, reader.getLineNumber());
+    }
+
+    @Test
+    public void readRecord_unclosedQuote_throwsIoException() {
+        CsvReader reader = new CsvReader(new StringReader("a,\"b\nc"));
+        assertThrows(IOException.class, "Quoted field starting on line 1 is never closed", reader::readRecord);
+    }
+}
@@ -0,0 +1,41 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class CsvWriterTest {
+
+    @Test
+    public void writeRecord_plainFields_notQuoted() throws Exception {
+        StringWriter out = new StringWriter();
+        try (CsvWriter writer = new CsvWriter(out)) {
+            writer.writeRecord(List.of("a", "", "b c"));
+            writer.writeRecord(List.of("d"));
+        }
+        assertEquals("a,,b c\r\nd\r\n", out.toString());
+    }
+
+    @Test
+    public void writeRecord_specialCharacters_quoted() throws Exception {
+        StringWriter out = new StringWriter();
+        try (CsvWriter writer = new CsvWriter(out)) {
+            writer.writeRecord(List.of("a,b", "say \"hi\"", "line\nbreak"));
+        }
+        assertEquals("\"a,b\",\"say \"\"hi\"\"\",\"line\nbreak\"\r\n", out.toString());
+    }
+
+    @Test
+    public void writeRecord_readBack_sameFields() throws Exception {
+        List<String> fields = List.of("plain", "com,ma", "\"quoted\"", "multi\r\nline", "");
+        StringWriter out = new StringWriter();
+        try (CsvWriter writer = new CsvWriter(out)) {
+            writer.writeRecord(fields);
+        }
+        assertEquals(fields, new CsvReader(new StringReader(out.toString())).readRecord());
+    }
+}
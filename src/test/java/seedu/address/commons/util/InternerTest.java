@@ -0,0 +1,46 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tag.Tag;
+
+public class InternerTest {
+
+    private final AtomicInteger created = new AtomicInteger();
+    private final Interner<Tag> interner = new Interner<>(tagName -> {
+        created.incrementAndGet();
+        return new Tag(tagName);
+    }, tag -> tag.tagName);
+
+    @Test
+    public void intern_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> interner.intern(null));
+    }
+
+    @Test
+    public void intern_equalKeys_sameInstance() {
+        Tag first = interner.intern("friends");
+        Tag second = interner.intern(new String("friends"));
+
+        assertSame(first, second);
+        assertEquals(1, created.get());
+    }
+
+    @Test
+    public void intern_differentKeys_differentInstances() {
+        assertNotSame(interner.intern("friends"), interner.intern("colleagues"));
+        assertEquals(2, created.get());
+    }
+
+    @Test
+    public void intern_invalidKey_factoryExceptionPassedOn() {
+        assertThrows(IllegalArgumentException.class, Tag.MESSAGE_CONSTRAINTS, () -> interner.intern("not valid"));
+    }
+}
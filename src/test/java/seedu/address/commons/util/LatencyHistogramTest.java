@@ -0,0 +1,56 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void summarize_empty_returnsDash() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getPercentileNanos(50));
+        assertEquals(0, histogram.getMeanNanos());
+        assertEquals("-", histogram.summarize());
+    }
+
+    @Test
+    public void record_negativeDuration_recordedAsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        assertEquals(1, histogram.getCount());
+        assertEquals(0, histogram.getMaxNanos());
+        assertEquals(0, histogram.getPercentileNanos(100));
+    }
+
+    @Test
+    public void getPercentileNanos_withinFactorOfTwoAndAtMostMax() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long nanos = 1; nanos <= 1000; nanos++) {
+            histogram.record(nanos);
+        }
+
+        assertEquals(1000, histogram.getCount());
+        assertEquals(500, histogram.getMeanNanos());
+        long median = histogram.getPercentileNanos(50);
+        assertTrue(median >= 500 && median < 1000, "median estimate " + median);
+        assertEquals(1000, histogram.getPercentileNanos(99));
+        assertEquals(1000, histogram.getPercentileNanos(100));
+    }
+
+    @Test
+    public void record_longestDuration_doesNotOverflow() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(Long.MAX_VALUE);
+        assertEquals(Long.MAX_VALUE, histogram.getPercentileNanos(50));
+    }
+
+    @Test
+    public void summarize_inMilliseconds() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(2_000_000);
+        assertEquals(String.format("p50=%.3fms p99=%.3fms max=%.3fms", 2.0, 2.0, 2.0), histogram.summarize());
+    }
+}
@@ -0,0 +1,93 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentListTest {
+
+    @Test
+    public void copyOf_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> PersistentList.copyOf(null));
+        assertThrows(NullPointerException.class, () -> PersistentList.copyOf(Arrays.asList("a", null)));
+    }
+
+    @Test
+    public void copyOf_list_sameElementsInOrder() {
+        List<String> elements = List.of("a", "b", "c", "d", "e");
+        PersistentList<String> list = PersistentList.copyOf(elements);
+
+        assertEquals(elements, list);
+        assertEquals(elements.toString(), list.toString());
+        assertEquals(elements.hashCode(), list.hashCode());
+        assertTrue(PersistentList.copyOf(List.of()).isEmpty());
+    }
+
+    @Test
+    public void copyOf_persistentList_returnedAsIs() {
+        PersistentList<String> list = PersistentList.copyOf(List.of("a", "b"));
+        assertSame(list, PersistentList.copyOf(list));
+    }
+
+    @Test
+    public void get_invalidIndex_throwsIndexOutOfBoundsException() {
+        PersistentList<String> list = PersistentList.copyOf(List.of("a"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.with(1, "b"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.minus(1));
+    }
+
+    @Test
+    public void plusWithMinus_originalUnchanged() {
+        PersistentList<String> original = PersistentList.copyOf(List.of("a", "b", "c"));
+
+        assertEquals(List.of("a", "b", "c", "d"), original.plus("d"));
+        assertEquals(List.of("a", "x", "c"), original.with(1, "x"));
+        assertEquals(List.of("a", "c"), original.minus(1));
+        assertEquals(List.of("a", "b", "c"), original);
+    }
+
+    @Test
+    public void modify_listMethods_throwUnsupportedOperationException() {
+        PersistentList<String> list = PersistentList.copyOf(List.of("a"));
+        assertThrows(UnsupportedOperationException.class, () -> list.add("b"));
+        assertThrows(UnsupportedOperationException.class, () -> list.set(0, "b"));
+        assertThrows(UnsupportedOperationException.class, () -> list.remove(0));
+    }
+
+    @Test
+    public void randomChanges_matchArrayList() {
+        Random random = new Random(42);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> actual = PersistentList.empty();
+
+        for (int i = 0; i < 5000; i++) {
+            int choice = random.nextInt(4);
+            if (choice == 0 && !expected.isEmpty()) {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                actual = actual.minus(index);
+            } else if (choice == 1 && !expected.isEmpty()) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, i);
+                actual = actual.with(index, i);
+            } else {
+                expected.add(i);
+                actual = actual.plus(i);
+            }
+            assertEquals(expected.size(), actual.size());
+        }
+
+        assertEquals(expected, actual);
+        assertEquals(expected, new ArrayList<>(actual));
+    }
+}
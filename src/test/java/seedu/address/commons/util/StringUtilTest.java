@@ -1,10 +1,14 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.FileNotFoundException;
+import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -123,6 +127,51 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for toLowerCaseWords --------------------------------------
+
+    @Test
+    public void toLowerCaseWords_nullText_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.toLowerCaseWords(null));
+    }
+
+    @Test
+    public void toLowerCaseWords_validInputs_correctResult() {
+        // No words
+        assertArrayEquals(new String[0], StringUtil.toLowerCaseWords(""));
+        assertArrayEquals(new String[0], StringUtil.toLowerCaseWords(" \t\n "));
+
+        // Mixed case, extra whitespace and repeated words
+        assertArrayEquals(new String[] {"buy", "milk@2", "buy"}, StringUtil.toLowerCaseWords("  Buy\tMILK@2   buy "));
+    }
+
+    //---------------- Tests for toLowerCaseWordSet --------------------------------------
+
+    @Test
+    public void toLowerCaseWordSet_validInputs_correctResult() {
+        assertEquals(Set.of(), StringUtil.toLowerCaseWordSet(List.of()));
+        assertEquals(Set.of("alice", "bob", "carol"),
+                StringUtil.toLowerCaseWordSet(List.of("Alice BOB", " ", "bob carol")));
+    }
+
+    //---------------- Tests for containsAnyWord --------------------------------------
+
+    @Test
+    public void containsAnyWord_validInputs_correctResult() {
+        String[] words = StringUtil.toLowerCaseWords("aaa bBb ccc@1");
+
+        // No words on either side
+        assertFalse(StringUtil.containsAnyWord(new String[0], Set.of("aaa")));
+        assertFalse(StringUtil.containsAnyWord(words, Set.of()));
+
+        // Partial word matches only
+        assertFalse(StringUtil.containsAnyWord(words, Set.of("bb", "bbbb", "ccc")));
+
+        // First, last and only matching word
+        assertTrue(StringUtil.containsAnyWord(words, Set.of("aaa")));
+        assertTrue(StringUtil.containsAnyWord(words, Set.of("xyz", "ccc@1")));
+        assertTrue(StringUtil.containsAnyWord(words, StringUtil.toLowerCaseWordSet(List.of("BBB"))));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
@@ -0,0 +1,59 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.CommandMetrics.Phase;
+import seedu.address.logic.CommandMetrics.Sample;
+
+public class CommandMetricsTest {
+
+    @Test
+    public void format_noCommands_returnsNoCommandsMessage() {
+        assertEquals(CommandMetrics.MESSAGE_NO_COMMANDS, new CommandMetrics().format());
+    }
+
+    @Test
+    public void record_unparsedSample_recordedUnderUnparsedWord() {
+        CommandMetrics metrics = new CommandMetrics();
+        metrics.record(metrics.startSample());
+
+        assertEquals(1, metrics.getCount(CommandMetrics.UNPARSED_WORD));
+        assertEquals(0, metrics.getCount(CommandMetrics.UNPARSED_WORD, Phase.PARSE));
+    }
+
+    @Test
+    public void record_phasesEnded_onlyThosePhasesCounted() {
+        CommandMetrics metrics = new CommandMetrics();
+        for (int i = 0; i < 3; i++) {
+            Sample sample = metrics.startSample();
+            sample.endPhase(Phase.PARSE);
+            sample.setCommandWord("list");
+            sample.endPhase(Phase.EXECUTE);
+            metrics.record(sample);
+        }
+
+        assertEquals(3, metrics.getCount("list"));
+        assertEquals(3, metrics.getCount("list", Phase.PARSE));
+        assertEquals(3, metrics.getCount("list", Phase.EXECUTE));
+        assertEquals(0, metrics.getCount("list", Phase.PERSIST));
+        assertEquals(0, metrics.getCount("add"));
+    }
+
+    @Test
+    public void format_wordsInAlphabeticalOrder() {
+        CommandMetrics metrics = new CommandMetrics();
+        for (String word : new String[] {"list", "add"}) {
+            Sample sample = metrics.startSample();
+            sample.setCommandWord(word);
+            metrics.record(sample);
+        }
+
+        String formatted = metrics.format();
+        assertTrue(formatted.startsWith(CommandMetrics.MESSAGE_HEADER + "\nadd: 1 run(s), "), formatted);
+        assertTrue(formatted.indexOf("\nlist: 1 run(s), ") > formatted.indexOf("\nadd: "), formatted);
+        assertTrue(formatted.contains("    persist -"), formatted);
+    }
+}
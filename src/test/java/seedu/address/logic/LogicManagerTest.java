@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -11,28 +13,44 @@ import static seedu.address.logic.commands.CommandTestUtil.POSITION_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.TELEGRAM_DESC_AMY;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import jdk.jfr.consumer.RecordedEvent;
+import seedu.address.commons.events.FlightRecorderEvents;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RunCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
+import seedu.address.model.task.Task;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
+import seedu.address.testutil.FlightRecording;
 import seedu.address.testutil.PersonBuilder;
 
 public class LogicManagerTest {
@@ -84,6 +102,256 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_eachCommandType_savesOnlyWhenAddressBookChanges() throws Exception {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        SaveCountingAddressBookStorage addressBookStorage =
+                new SaveCountingAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))));
+
+        // read-only commands
+        assertSaveCount("list", 0, addressBookStorage);
+        assertSaveCount("find n/Alice", 0, addressBookStorage);
+        assertSaveCount("find t/friends", 0, addressBookStorage);
+        assertSaveCount("listtasks 1", 0, addressBookStorage);
+        assertSaveCount("report", 0, addressBookStorage);
+        assertSaveCount("help", 0, addressBookStorage);
+
+        // commands that modify the address book
+        assertSaveCount("task 1 task/Buy milk", 1, addressBookStorage);
+        assertSaveCount("updatetask 1 1 Buy bread", 1, addressBookStorage);
+        assertSaveCount("deltask 1 1", 1, addressBookStorage);
+        assertSaveCount("edit 1 p/91234567", 1, addressBookStorage);
+        assertSaveCount("delete 1", 1, addressBookStorage);
+        assertSaveCount("clear", 1, addressBookStorage);
+
+        // a failed command changes nothing
+        assertThrows(CommandException.class, () -> logic.execute("delete 1"));
+        assertEquals(0, addressBookStorage.takeSaveCount());
+    }
+
+    @Test
+    public void execute_saveFailed_retriedByNextCommand() throws Exception {
+        SaveCountingAddressBookStorage addressBookStorage =
+                new SaveCountingAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
+        addressBookStorage.failure = DUMMY_IO_EXCEPTION;
+        logic = new LogicManager(model, new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))));
+
+        assertThrows(CommandException.class, () -> logic.execute("clear"));
+        addressBookStorage.failure = null;
+        addressBookStorage.takeSaveCount();
+        assertSaveCount("list", 1, addressBookStorage);
+        assertSaveCount("list", 0, addressBookStorage);
+    }
+
+    @Test
+    public void execute_writeBehindSaveFailed_reportedByReadOnlyCommandAndRetried() throws Exception {
+        SaveCountingAddressBookStorage addressBookStorage =
+                new SaveCountingAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
+        addressBookStorage.failure = DUMMY_IO_EXCEPTION;
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")), 1);
+        logic = new LogicManager(model, storage);
+
+        // the save is written in the background, so it fails after the command has succeeded
+        logic.execute("clear");
+        CommandException reportedFailure = null;
+        while (reportedFailure == null) {
+            try {
+                logic.execute("list");
+                Thread.sleep(1);
+            } catch (CommandException e) {
+                reportedFailure = e;
+            }
+        }
+        assertEquals(String.format(LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()),
+                reportedFailure.getMessage());
+
+        addressBookStorage.failure = null;
+        storage.flushAddressBook();
+        assertEquals(new AddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void execute_commands_phasesRecordedPerCommandWord() throws Exception {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        CommandMetrics metrics = new CommandMetrics();
+        logic = new LogicManager(model, new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))), Runnable::run, metrics);
+
+        logic.execute("list");
+        logic.execute("  task 1 task/Buy milk");
+        assertThrows(CommandException.class, () -> logic.execute("delete 99"));
+        assertThrows(ParseException.class, () -> logic.execute("uicfhmowqewca"));
+
+        assertEquals(1, metrics.getCount("list", CommandMetrics.Phase.EXECUTE));
+        assertEquals(0, metrics.getCount("list", CommandMetrics.Phase.PERSIST));
+        assertEquals(1, metrics.getCount("task", CommandMetrics.Phase.PERSIST));
+        assertEquals(1, metrics.getCount("delete", CommandMetrics.Phase.PARSE));
+        assertEquals(0, metrics.getCount("delete", CommandMetrics.Phase.EXECUTE));
+        assertEquals(1, metrics.getCount(CommandMetrics.UNPARSED_WORD));
+        assertEquals(0, metrics.getCount(CommandMetrics.UNPARSED_WORD, CommandMetrics.Phase.PARSE));
+        assertTrue(logic.execute("stats").getFeedbackToUser().startsWith(CommandMetrics.MESSAGE_HEADER));
+    }
+
+    @Test
+    public void execute_flightRecorderEventsEnabled_commandSaveAndFilterRecorded() throws Throwable {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        logic = new LogicManager(model, new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))));
+
+        FlightRecorderEvents.setEnabled(true);
+        List<RecordedEvent> events;
+        try {
+            events = FlightRecording.record(temporaryFolder, () -> {
+                logic.execute("list");
+                logic.execute("clear");
+                assertThrows(ParseException.class, () -> logic.execute("uicfhmowqewca"));
+            });
+        } finally {
+            FlightRecorderEvents.setEnabled(false);
+        }
+
+        List<RecordedEvent> commands = FlightRecording.named(events, "CommandExecuted");
+        assertEquals(3, commands.size());
+        assertEquals("list", commands.get(0).getString("commandWord"));
+        assertEquals(getTypicalPersons().size(), commands.get(0).getInt("resultSize"));
+        assertEquals("clear", commands.get(1).getString("commandWord"));
+        assertTrue(commands.get(1).getBoolean("succeeded"));
+        assertEquals(0, commands.get(1).getInt("resultSize"));
+        assertEquals(CommandMetrics.UNPARSED_WORD, commands.get(2).getString("commandWord"));
+        assertFalse(commands.get(2).getBoolean("succeeded"));
+        assertEquals(-1, commands.get(2).getInt("resultSize"));
+
+        List<RecordedEvent> saves = FlightRecording.named(events, "AddressBookSaved");
+        assertEquals(1, saves.size());
+        assertEquals(0, saves.get(0).getInt("persons"));
+        assertTrue(saves.get(0).getLong("bytes") > 0);
+        List<RecordedEvent> filters = FlightRecording.named(events, "PersonFilterUpdated");
+        assertEquals(1, filters.size());
+        assertEquals(getTypicalPersons().size(), filters.get(0).getInt("matched"));
+    }
+
+    @Test
+    public void executeBatch_validCommands_savedOnce() throws Exception {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        SaveCountingAddressBookStorage addressBookStorage =
+                new SaveCountingAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))));
+
+        CommandResult result = logic.executeBatch(List.of("task 1 task/Buy milk", "delete 2", "task 2 task/Plan"));
+
+        assertEquals(String.format(RunCommand.MESSAGE_SUCCESS, 3), result.getFeedbackToUser());
+        assertEquals(1, addressBookStorage.takeSaveCount());
+        assertEquals(getTypicalAddressBook().getPersonList().size() - 1, model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void executeBatch_commandFails_nothingSaved() throws Exception {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        SaveCountingAddressBookStorage addressBookStorage =
+                new SaveCountingAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))));
+
+        assertThrows(CommandException.class, () -> logic.executeBatch(List.of("clear", "delete 1")));
+        assertEquals(0, addressBookStorage.takeSaveCount());
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+    }
+
+    @Test
+    public void executeAsync_validCommand_completesWithResult() throws Exception {
+        CommandResult result = logic.executeAsync(ListCommand.COMMAND_WORD).get(5, TimeUnit.SECONDS);
+        assertEquals(ListCommand.MESSAGE_SUCCESS, result.getFeedbackToUser());
+    }
+
+    @Test
+    public void executeAsync_invalidCommand_completesExceptionally() throws Exception {
+        Throwable error = logic.executeAsync("uicfhmowqewca")
+                .handle((result, e) -> e)
+                .get(5, TimeUnit.SECONDS);
+        assertTrue(error instanceof ParseException);
+        assertEquals(MESSAGE_UNKNOWN_COMMAND, error.getMessage());
+    }
+
+    @Test
+    public void executeAsync_commandThrowsError_completesExceptionally() throws Exception {
+        StackOverflowError stackOverflow = new StackOverflowError();
+        logic = new LogicManager(model, new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+                        throw stackOverflow;
+                    }
+                }, new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))));
+
+        Throwable error = logic.executeAsync("clear")
+                .handle((result, e) -> e)
+                .get(5, TimeUnit.SECONDS);
+        assertEquals(stackOverflow, error);
+    }
+
+    @Test
+    public void executeAsync_manyCommands_runInOrderSubmitted() throws Exception {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        setUp();
+
+        List<CompletableFuture<CommandResult>> results = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            results.add(logic.executeAsync("task 1 task/Job " + i));
+        }
+        CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+
+        List<String> descriptions = model.getFilteredPersonList().get(0).getTasks().stream()
+                .map(Task::getDescription)
+                .filter(description -> description.startsWith("Job "))
+                .collect(Collectors.toList());
+        List<String> expectedDescriptions = IntStream.range(0, 20)
+                .mapToObj(i -> "Job " + i)
+                .collect(Collectors.toList());
+        assertEquals(expectedDescriptions, descriptions);
+    }
+
+    @Test
+    public void shutdown_commandsSubmitted_waitsForThem() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        setUp();
+
+        CompletableFuture<CommandResult> result = logic.executeAsync("clear");
+        logic.shutdown();
+
+        assertTrue(result.isDone());
+        assertEquals(0, model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void getFilteredPersonList_severalCommandsBeforePublish_publishedOnce() throws Exception {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Queue<Runnable> publishQueue = new ArrayDeque<>();
+        logic = new LogicManager(model, new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))), publishQueue::add);
+        List<Person> persons = new ArrayList<>(model.getFilteredPersonList());
+
+        // unchanged filtered list is not published
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertTrue(publishQueue.isEmpty());
+
+        logic.execute("find n/Alice");
+        logic.execute("find n/Benson");
+        assertEquals(persons, logic.getFilteredPersonList());
+        assertEquals(1, publishQueue.size());
+
+        publishQueue.remove().run();
+        assertEquals(model.getFilteredPersonList(), logic.getFilteredPersonList());
+        assertEquals(1, logic.getFilteredPersonList().size());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -142,6 +410,15 @@ public class LogicManagerTest {
         assertEquals(expectedModel, model);
     }
 
+    /**
+     * Executes the command and confirms that it saved the address book {@code expectedSaves} times.
+     */
+    private void assertSaveCount(String inputCommand, int expectedSaves,
+            SaveCountingAddressBookStorage addressBookStorage) throws CommandException, ParseException {
+        logic.execute(inputCommand);
+        assertEquals(expectedSaves, addressBookStorage.takeSaveCount(), inputCommand);
+    }
+
     /**
      * Tests the Logic component's handling of an {@code IOException} thrown by the Storage component.
      *
@@ -174,4 +451,34 @@ public class LogicManagerTest {
         expectedModel.addPerson(expectedPerson);
         assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
+
+    /**
+     * A {@code JsonAddressBookStorage} that counts its saves and can be made to fail them.
+     */
+    private static class SaveCountingAddressBookStorage extends JsonAddressBookStorage {
+        private volatile int saveCount;
+        private volatile IOException failure;
+
+        SaveCountingAddressBookStorage(Path filePath) {
+            super(filePath);
+        }
+
+        /**
+         * Returns the number of saves since the last call.
+         */
+        int takeSaveCount() {
+            int count = saveCount;
+            saveCount = 0;
+            return count;
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            saveCount++;
+            if (failure != null) {
+                throw failure;
+            }
+            super.saveAddressBook(addressBook, filePath);
+        }
+    }
 }
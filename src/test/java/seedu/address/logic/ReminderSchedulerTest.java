@@ -0,0 +1,196 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Person;
+import seedu.address.model.task.Task;
+import seedu.address.model.task.TaskStatus;
+import seedu.address.testutil.PersonBuilder;
+
+public class ReminderSchedulerTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2030, 1, 1, 8, 0);
+    private static final Duration LEAD_TIME = Duration.ofHours(1);
+
+    private static final Task REPORT = new Task("Write report", TaskStatus.IN_PROGRESS, START.plusHours(2));
+    private static final Task PLAN = new Task("Plan", TaskStatus.YET_TO_START, START.plusMinutes(150));
+    private static final Task REVIEW = new Task("Review", TaskStatus.COMPLETED, START.plusHours(2));
+    private static final Task OLD = new Task("Old", TaskStatus.YET_TO_START, START.minusHours(1));
+    private static final Task BUDGET = new Task("Budget", TaskStatus.YET_TO_START, null);
+
+    private static final Person AMY = new PersonBuilder().withName("Amy").build()
+            .addTask(REPORT).addTask(REVIEW).addTask(OLD).addTask(BUDGET);
+    private static final Person BOB = new PersonBuilder().withName("Bob").build().addTask(PLAN);
+
+    private final MutableClock clock = new MutableClock(START);
+    private final List<String> notifications = new ArrayList<>();
+    private final ObservableList<Person> persons = FXCollections.observableArrayList(AMY, BOB);
+    private final ReminderScheduler scheduler =
+            new ReminderScheduler(persons, clock, LEAD_TIME, notifications::add);
+
+    @Test
+    public void constructor_onlyUnfinishedFutureTasksWithDueDateScheduled() {
+        assertEquals(2, scheduler.getPendingCount());
+    }
+
+    @Test
+    public void fireDueReminders_beforeLeadTime_nothingFired() {
+        clock.set(START.plusMinutes(59));
+        scheduler.fireDueReminders();
+
+        assertTrue(notifications.isEmpty());
+        assertEquals(2, scheduler.getPendingCount());
+    }
+
+    @Test
+    public void fireDueReminders_atLeadTime_firedOnce() {
+        clock.set(START.plusHours(1));
+        scheduler.fireDueReminders();
+        scheduler.fireDueReminders();
+
+        assertEquals(List.of(reminderFor(REPORT, AMY, "1 Jan 2030, 10:00 AM")), notifications);
+        assertEquals(1, scheduler.getPendingCount());
+    }
+
+    @Test
+    public void fireDueReminders_severalDue_oneNotification() {
+        clock.set(START.plusMinutes(119));
+        scheduler.fireDueReminders();
+
+        assertEquals(List.of(reminderFor(REPORT, AMY, "1 Jan 2030, 10:00 AM")
+                + ReminderScheduler.MESSAGE_SEPARATOR
+                + reminderFor(PLAN, BOB, "1 Jan 2030, 10:30 AM")), notifications);
+        assertEquals(0, scheduler.getPendingCount());
+    }
+
+    @Test
+    public void fireDueReminders_taskAlreadyDue_dropped() {
+        clock.set(START.plusHours(5));
+        scheduler.fireDueReminders();
+
+        assertTrue(notifications.isEmpty());
+        assertEquals(0, scheduler.getPendingCount());
+    }
+
+    @Test
+    public void personsChanged_remindersUpdated() {
+        Task postponed = PLAN.withDueDate(START.plusDays(1));
+        persons.set(1, BOB.setTask(0, postponed));
+        persons.remove(0);
+
+        assertEquals(1, scheduler.getPendingCount());
+        clock.set(START.plusHours(3));
+        scheduler.fireDueReminders();
+        assertTrue(notifications.isEmpty());
+
+        clock.set(START.plusDays(1).minusHours(1));
+        scheduler.fireDueReminders();
+        assertEquals(List.of(reminderFor(postponed, BOB, "2 Jan 2030, 8:00 AM")), notifications);
+    }
+
+    @Test
+    public void personsChanged_completedTask_reminderDropped() {
+        persons.set(1, BOB.setTask(0, PLAN.withStatus(TaskStatus.COMPLETED)));
+
+        assertEquals(1, scheduler.getPendingCount());
+    }
+
+    @Test
+    public void personsChanged_afterReminderFired_notRepeated() {
+        clock.set(START.plusHours(1));
+        scheduler.fireDueReminders();
+        persons.set(0, new PersonBuilder(AMY).withPhone("99999999").build());
+        scheduler.fireDueReminders();
+
+        assertEquals(1, notifications.size());
+        assertEquals(1, scheduler.getPendingCount());
+    }
+
+    @Test
+    public void personsChanged_renamedAfterReminderFired_notRepeated() {
+        clock.set(START.plusHours(1));
+        scheduler.fireDueReminders();
+        persons.set(0, new PersonBuilder(AMY).withName("Amy Lee").build());
+        scheduler.fireDueReminders();
+
+        assertEquals(1, notifications.size());
+        assertEquals(1, scheduler.getPendingCount());
+    }
+
+    @Test
+    public void personsChanged_deletedAfterReminderFired_firedReminderForgotten() {
+        clock.set(START.plusHours(1));
+        scheduler.fireDueReminders();
+        persons.remove(AMY);
+        persons.add(AMY);
+        scheduler.fireDueReminders();
+
+        assertEquals(List.of(reminderFor(REPORT, AMY, "1 Jan 2030, 10:00 AM"),
+                reminderFor(REPORT, AMY, "1 Jan 2030, 10:00 AM")), notifications);
+    }
+
+    @Test
+    public void start_reminderDue_firedOnBackgroundThread() throws Exception {
+        BlockingQueue<String> fired = new ArrayBlockingQueue<>(1);
+        clock.set(START.plusHours(1));
+        ReminderScheduler started = new ReminderScheduler(persons, clock, LEAD_TIME, fired::add);
+
+        started.start();
+        try {
+            assertEquals(reminderFor(REPORT, AMY, "1 Jan 2030, 10:00 AM"), fired.poll(10, TimeUnit.SECONDS));
+        } finally {
+            started.stop();
+        }
+    }
+
+    private static String reminderFor(Task task, Person person, String dueDate) {
+        return String.format(ReminderScheduler.MESSAGE_REMINDER, task.getDescription(), person.getName(), dueDate);
+    }
+
+    /**
+     * A clock that stays at the time it was last set to.
+     */
+    private static class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(LocalDateTime time) {
+            set(time);
+        }
+
+        void set(LocalDateTime time) {
+            instant = time.toInstant(ZoneOffset.UTC);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
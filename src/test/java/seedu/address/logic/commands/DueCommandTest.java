@@ -0,0 +1,100 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.task.Task;
+import seedu.address.model.task.TaskStatus;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for DueCommand.
+ */
+public class DueCommandTest {
+
+    private static final LocalDateTime LONG_AGO = LocalDateTime.of(2000, 1, 1, 9, 0);
+    private static final LocalDateTime FAR_AHEAD = LocalDateTime.of(2999, 1, 1, 9, 0);
+
+    private static final Task OLD_REPORT = new Task("Write report", TaskStatus.IN_PROGRESS, LONG_AGO);
+    private static final Task OLD_REVIEW = new Task("Review", TaskStatus.COMPLETED, LONG_AGO);
+    private static final Task DEPLOY = new Task("Deploy", TaskStatus.YET_TO_START, FAR_AHEAD);
+
+    private static final Person AMY = new PersonBuilder().withName("Amy").build()
+            .addTask(OLD_REPORT).addTask(OLD_REVIEW);
+    private static final Person BOB = new PersonBuilder().withName("Bob").build().addTask(DEPLOY);
+    private static final Person CAT = new PersonBuilder().withName("Cat").build();
+
+    private final Model model = createModel();
+
+    @Test
+    public void execute_overdue_onlyUnfinishedPastTasksListed() {
+        CommandResult result = DueCommand.overdue().execute(model);
+
+        assertEquals(String.format(DueCommand.MESSAGE_OVERDUE, 1) + "\n"
+                + String.format(DueCommand.MESSAGE_TASK, 1, AMY.getName(), OLD_REPORT), result.getFeedbackToUser());
+        assertEquals(List.of(AMY), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_beforeDate_tasksEarliestFirst() {
+        CommandResult result = new DueCommand(FAR_AHEAD.plusDays(1)).execute(model);
+
+        assertTrue(result.getFeedbackToUser().startsWith(String.format(DueCommand.MESSAGE_DUE_BEFORE, 2, "")));
+        assertTrue(result.getFeedbackToUser().endsWith("\n"
+                + String.format(DueCommand.MESSAGE_TASK, 1, AMY.getName(), OLD_REPORT) + "\n"
+                + String.format(DueCommand.MESSAGE_TASK, 2, BOB.getName(), DEPLOY)));
+        assertEquals(List.of(AMY, BOB), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_afterTaskUpdated_indexUpdated() {
+        model.setPerson(AMY, AMY.setTask(0, OLD_REPORT.withStatus(TaskStatus.COMPLETED)));
+        model.setPerson(BOB, BOB.setTask(0, DEPLOY.withDueDate(LONG_AGO.minusDays(1))));
+
+        DueCommand.overdue().execute(model);
+
+        assertEquals(List.of(BOB.setTask(0, DEPLOY.withDueDate(LONG_AGO.minusDays(1)))),
+                model.getFilteredPersonList());
+        assertTrue(model.getTasksDueBefore(FAR_AHEAD.plusDays(1)).stream()
+                .allMatch(entry -> entry.getPerson().getName().equals(BOB.getName())));
+    }
+
+    @Test
+    public void execute_noDueTasks_emptyList() {
+        CommandResult result = new DueCommand(LONG_AGO).execute(model);
+
+        assertEquals(String.format(DueCommand.MESSAGE_DUE_BEFORE, 0, "1 Jan 2000, 9:00 AM"),
+                result.getFeedbackToUser());
+        assertTrue(model.getFilteredPersonList().isEmpty());
+    }
+
+    @Test
+    public void equals() {
+        DueCommand beforeFarAhead = new DueCommand(FAR_AHEAD);
+
+        assertTrue(beforeFarAhead.equals(beforeFarAhead));
+        assertTrue(beforeFarAhead.equals(new DueCommand(FAR_AHEAD)));
+        assertTrue(DueCommand.overdue().equals(DueCommand.overdue()));
+        assertFalse(beforeFarAhead.equals(new DueCommand(LONG_AGO)));
+        assertFalse(beforeFarAhead.equals(DueCommand.overdue()));
+        assertFalse(beforeFarAhead.equals(null));
+        assertFalse(beforeFarAhead.equals(1));
+    }
+
+    private static Model createModel() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(List.of(AMY, BOB, CAT));
+        return new ModelManager(addressBook, new UserPrefs());
+    }
+}
@@ -0,0 +1,76 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.parser.PersonCsvParser;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class ExportCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_typicalAddressBook_onePersonPerLine() throws Exception {
+        Path file = testFolder.resolve("export").resolve("roster.csv");
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        int personCount = model.getAddressBook().getPersonList().size();
+
+        assertCommandSuccess(new ExportCommand(file), model,
+                String.format(ExportCommand.MESSAGE_SUCCESS, personCount, file), expectedModel);
+
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(personCount + 1, lines.size());
+        assertEquals(String.join(",", PersonCsvParser.HEADER), lines.get(0));
+    }
+
+    @Test
+    public void execute_exportedThenImported_samePersons() throws Exception {
+        Person withTasks = new PersonBuilder().withName("Task Owner").withTags("lead").withSkills("java")
+                .withOthers("likes tea, and coffee").withTasks("Plan, completed", "Book venue").build();
+        model.addPerson(withTasks);
+        Path file = testFolder.resolve("roster.csv");
+        new ExportCommand(file).execute(model);
+
+        Model importedModel = new ModelManager();
+        new ImportCommand(file).execute(importedModel);
+
+        List<Person> exported = model.getAddressBook().getPersonList();
+        List<Person> imported = importedModel.getAddressBook().getPersonList();
+        assertEquals(exported, imported);
+        for (int i = 0; i < exported.size(); i++) {
+            assertEquals(exported.get(i).getTelegram(), imported.get(i).getTelegram());
+            assertEquals(exported.get(i).getSkills(), imported.get(i).getSkills());
+            assertEquals(exported.get(i).getOthers(), imported.get(i).getOthers());
+            assertEquals(exported.get(i).getTasks(), imported.get(i).getTasks());
+        }
+    }
+
+    @Test
+    public void equals() {
+        ExportCommand exportCommand = new ExportCommand(Paths.get("roster.csv"));
+
+        assertTrue(exportCommand.equals(exportCommand));
+        assertTrue(exportCommand.equals(new ExportCommand(Paths.get("roster.csv"))));
+        assertFalse(exportCommand.equals(null));
+        assertFalse(exportCommand.equals(new ExportCommand(Paths.get("other.csv"))));
+    }
+}
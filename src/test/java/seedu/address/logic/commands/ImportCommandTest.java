@@ -0,0 +1,138 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.PersonCsvParser;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.testutil.PersonBuilder;
+
+public class ImportCommandTest {
+
+    private static final String HEADER = String.join(",", PersonCsvParser.HEADER);
+    private static final String ROW_AMY = "Amy Bee,85355255,amy@gmail.com,@amyBee,Boss,\"123, Jurong\",friends,,,Plan";
+    private static final String ROW_BOB = "Bob Choo,22222222,bob@example.com,@bob,ui,Block 123,,,,";
+
+    @TempDir
+    public Path testFolder;
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_validRoster_personsAdded() throws Exception {
+        Path file = writeRoster(HEADER, ROW_AMY, "", ROW_BOB);
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.addPersons(List.of(
+                new PersonBuilder().withAddress("123, Jurong").withTags("friends").withTasks("Plan").build(),
+                new PersonBuilder().withName("Bob Choo").withPhone("22222222").withEmail("bob@example.com")
+                        .withAddress("Block 123").withTags().build()));
+
+        assertCommandSuccess(new ImportCommand(file), model, String.format(ImportCommand.MESSAGE_SUCCESS, 2, file),
+                expectedModel);
+    }
+
+    @Test
+    public void execute_invalidRows_nothingImported() throws Exception {
+        String rowWithBadPhone = ROW_BOB.replace("22222222", "22a");
+        Path file = writeRoster(HEADER, ROW_AMY, rowWithBadPhone, ROW_AMY);
+
+        String expectedMessage = String.format(ImportCommand.MESSAGE_LINE_ERROR, 3,
+                Phone.MESSAGE_CONSTRAINTS) + "\n"
+                + String.format(ImportCommand.MESSAGE_LINE_ERROR, 4,
+                        String.format(ImportCommand.MESSAGE_DUPLICATE_PERSON, new Name("Amy Bee"))) + "\n"
+                + ImportCommand.MESSAGE_NOTHING_IMPORTED;
+        assertCommandFailure(new ImportCommand(file), model, expectedMessage);
+    }
+
+    @Test
+    public void execute_personAlreadyInAddressBook_nothingImported() throws Exception {
+        Person alice = model.getAddressBook().getPersonList().get(0);
+        Path file = writeRoster(HEADER, ROW_AMY,
+                ROW_BOB.replace("Bob Choo", alice.getName().fullName));
+
+        String expectedMessage = String.format(ImportCommand.MESSAGE_LINE_ERROR, 3,
+                String.format(ImportCommand.MESSAGE_DUPLICATE_PERSON, alice.getName())) + "\n"
+                + ImportCommand.MESSAGE_NOTHING_IMPORTED;
+        assertCommandFailure(new ImportCommand(file), model, expectedMessage);
+    }
+
+    @Test
+    public void execute_manyInvalidRows_errorsCapped() throws Exception {
+        List<String> lines = new ArrayList<>(List.of(HEADER));
+        for (int i = 0; i < ImportCommand.MAX_REPORTED_ERRORS + 5; i++) {
+            lines.add("bad row");
+        }
+        Path file = writeRoster(lines.toArray(String[]::new));
+
+        String message = assertThrowsCommandException(new ImportCommand(file));
+        assertEquals(ImportCommand.MAX_REPORTED_ERRORS + 2, message.split("\n").length);
+        assertTrue(message.contains(String.format(ImportCommand.MESSAGE_MORE_ERRORS,
+                ImportCommand.MAX_REPORTED_ERRORS + 2)));
+    }
+
+    @Test
+    public void execute_missingHeader_throwsCommandException() throws Exception {
+        Path file = writeRoster(ROW_AMY);
+        assertCommandFailure(new ImportCommand(file), model, String.format(ImportCommand.MESSAGE_LINE_ERROR, 1,
+                PersonCsvParser.MESSAGE_INVALID_HEADER));
+    }
+
+    @Test
+    public void execute_emptyFile_throwsCommandException() throws Exception {
+        Path file = writeRoster();
+        assertCommandFailure(new ImportCommand(file), model, String.format(ImportCommand.MESSAGE_EMPTY_FILE, file));
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        String message = assertThrowsCommandException(new ImportCommand(testFolder.resolve("missing.csv")));
+        assertTrue(message.startsWith(String.format(ImportCommand.MESSAGE_FILE_ERROR,
+                testFolder.resolve("missing.csv"), "")));
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importCommand = new ImportCommand(Paths.get("roster.csv"));
+
+        assertTrue(importCommand.equals(importCommand));
+        assertTrue(importCommand.equals(new ImportCommand(Paths.get("roster.csv"))));
+        assertFalse(importCommand.equals(null));
+        assertFalse(importCommand.equals(new ExportCommand(Paths.get("roster.csv"))));
+        assertFalse(importCommand.equals(new ImportCommand(Paths.get("other.csv"))));
+    }
+
+    private Path writeRoster(String... lines) throws Exception {
+        Path file = testFolder.resolve("roster.csv");
+        Files.write(file, List.of(lines));
+        return file;
+    }
+
+    private String assertThrowsCommandException(ImportCommand command) {
+        try {
+            command.execute(model);
+        } catch (CommandException e) {
+            return e.getMessage();
+        }
+        throw new AssertionError("Expected a CommandException");
+    }
+}
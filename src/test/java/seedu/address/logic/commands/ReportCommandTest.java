@@ -0,0 +1,93 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for ReportCommand.
+ */
+public class ReportCommandTest {
+
+    private static final Person AMY = new PersonBuilder().withName("Amy")
+            .withTasks("Write report, completed", "Plan, in progress").build();
+    private static final Person BOB = new PersonBuilder().withName("Bob").withTasks("Deploy, in progress").build();
+    private static final Person CAT = new PersonBuilder().withName("Cat").withTasks("Budget").build();
+
+    @Test
+    public void execute_emptyAddressBook_emptyReport() throws Exception {
+        CommandResult result = new ReportCommand().execute(new ModelManager());
+
+        assertEquals(ReportCommand.MESSAGE_SUCCESS, result.getFeedbackToUser());
+        assertTrue(result.getCompletedTasks().isEmpty());
+        assertTrue(result.getInProgressTasks().isEmpty());
+        assertTrue(result.getYetToStartTasks().isEmpty());
+    }
+
+    @Test
+    public void execute_personsWithTasks_groupedByStatus() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(List.of(AMY, BOB, CAT));
+        Model model = new ModelManager(addressBook, new UserPrefs());
+
+        CommandResult result = new ReportCommand().execute(model);
+
+        assertEquals(List.of(AMY), result.getCompletedTasks());
+        assertEquals(List.of(AMY, BOB), result.getInProgressTasks());
+        assertEquals(List.of(CAT), result.getYetToStartTasks());
+    }
+
+    @Test
+    public void execute_afterPersonEdited_reportUpdated() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(List.of(AMY, BOB));
+        Model model = new ModelManager(addressBook, new UserPrefs());
+        CommandResult before = new ReportCommand().execute(model);
+
+        Person editedBob = new PersonBuilder(BOB).withTasks("Deploy, completed").build();
+        model.setPerson(BOB, editedBob);
+        CommandResult after = new ReportCommand().execute(model);
+
+        assertEquals(List.of(AMY), before.getCompletedTasks());
+        assertEquals(List.of(AMY, editedBob), after.getCompletedTasks());
+        assertEquals(List.of(AMY), after.getInProgressTasks());
+    }
+
+    @Test
+    public void execute_statusGainedByEdit_listedInPersonListOrder() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(List.of(AMY, BOB));
+        Model model = new ModelManager(addressBook, new UserPrefs());
+        Person amyCompleted = new PersonBuilder(AMY).withTasks("Write report, completed").build();
+        Person amyInProgress = new PersonBuilder(AMY).withTasks("Write report, completed", "Plan, in progress")
+                .build();
+        model.setPerson(AMY, amyCompleted);
+        model.setPerson(amyCompleted, amyInProgress);
+
+        CommandResult result = new ReportCommand().execute(model);
+
+        assertEquals(List.of(amyInProgress, BOB), result.getInProgressTasks());
+    }
+
+    @Test
+    public void execute_filteredList_showsAllPersons() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(List.of(AMY, BOB, CAT));
+        Model model = new ModelManager(addressBook, new UserPrefs());
+        model.updateFilteredPersonList(person -> person.equals(CAT));
+
+        new ReportCommand().execute(model);
+
+        assertEquals(List.of(AMY, BOB, CAT), model.getFilteredPersonList());
+    }
+}
@@ -0,0 +1,92 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class RunCommandTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void constructor_missingLineNumber_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new RunCommand(List.of(new DeleteCommand(INDEX_FIRST_PERSON)), List.of()));
+    }
+
+    @Test
+    public void execute_allCommandsSucceed_allApplied() {
+        RunCommand runCommand = new RunCommand(
+                List.of(new DeleteCommand(INDEX_FIRST_PERSON), new DeleteCommand(INDEX_FIRST_PERSON)), List.of(1, 3));
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.deletePerson(ALICE);
+        expectedModel.deletePerson(BENSON);
+
+        assertCommandSuccess(runCommand, model, String.format(RunCommand.MESSAGE_SUCCESS, 2), expectedModel);
+    }
+
+    @Test
+    public void execute_laterCommandFails_earlierCommandsRolledBack() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPersonList().size() + 1);
+        RunCommand runCommand = new RunCommand(
+                List.of(new DeleteCommand(INDEX_FIRST_PERSON), new DeleteCommand(outOfBoundIndex)), List.of(1, 4));
+
+        String expectedMessage = String.format(RunCommand.MESSAGE_LINE_ERROR, 4,
+                Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX) + "\n" + RunCommand.MESSAGE_ROLLED_BACK;
+        assertCommandFailure(runCommand, model, expectedMessage);
+    }
+
+    @Test
+    public void execute_noCommands_nothingChanged() {
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        assertCommandSuccess(new RunCommand(List.of(), List.of()), model,
+                String.format(RunCommand.MESSAGE_SUCCESS, 0), expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        RunCommand runCommand = new RunCommand(List.of(new DeleteCommand(INDEX_FIRST_PERSON)), List.of(1));
+
+        // same values -> returns true
+        assertTrue(runCommand.equals(new RunCommand(List.of(new DeleteCommand(INDEX_FIRST_PERSON)), List.of(1))));
+
+        // same object -> returns true
+        assertTrue(runCommand.equals(runCommand));
+
+        // null -> returns false
+        assertFalse(runCommand.equals(null));
+
+        // different commands -> returns false
+        assertFalse(runCommand.equals(new RunCommand(List.of(new DeleteCommand(INDEX_SECOND_PERSON)), List.of(1))));
+
+        // different line numbers -> returns false
+        assertFalse(runCommand.equals(new RunCommand(List.of(new DeleteCommand(INDEX_FIRST_PERSON)), List.of(2))));
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<Command> commands = List.of(new DeleteCommand(INDEX_FIRST_PERSON));
+        RunCommand runCommand = new RunCommand(commands, List.of(1));
+        String expected = RunCommand.class.getCanonicalName() + "{commands=" + commands + ", lineNumbers=[1]}";
+        assertEquals(expected, runCommand.toString());
+    }
+}
@@ -10,6 +10,7 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_TASK;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -44,9 +45,9 @@ class SetDueDateCommandTest {
         Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
 
         Person personToEdit = SampleDataUtil.getSamplePersons()[1];
-        List<Task> updatedTasks = personToEdit.getTasks();
+        List<Task> updatedTasks = new ArrayList<>(personToEdit.getTasks());
         Task taskToUpdate = updatedTasks.get(INDEX_FIRST_TASK.getZeroBased());
-        taskToUpdate.setDueDate(newDueDate);
+        updatedTasks.set(INDEX_FIRST_TASK.getZeroBased(), taskToUpdate.withDueDate(newDueDate));
         Person editedPerson = new Person(
                 personToEdit.getName(),
                 personToEdit.getPhone(),
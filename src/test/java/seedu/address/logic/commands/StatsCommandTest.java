@@ -0,0 +1,42 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.CommandMetrics;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+public class StatsCommandTest {
+
+    @Test
+    public void execute_noCommandsRun_showsNoCommandsMessage() {
+        Model model = new ModelManager();
+        assertCommandSuccess(new StatsCommand(new CommandMetrics()), model, CommandMetrics.MESSAGE_NO_COMMANDS,
+                new ModelManager());
+    }
+
+    @Test
+    public void equals() {
+        CommandMetrics metrics = new CommandMetrics();
+        StatsCommand statsCommand = new StatsCommand(metrics);
+
+        // same object -> returns true
+        assertTrue(statsCommand.equals(statsCommand));
+
+        // same metrics -> returns true
+        assertTrue(statsCommand.equals(new StatsCommand(metrics)));
+
+        // different types -> returns false
+        assertFalse(statsCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(statsCommand.equals(null));
+
+        // different metrics -> returns false
+        assertFalse(statsCommand.equals(new StatsCommand(new CommandMetrics())));
+    }
+}
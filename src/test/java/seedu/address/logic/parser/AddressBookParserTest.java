@@ -7,22 +7,31 @@ import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.CommandMetrics;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.DueCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
@@ -78,6 +87,21 @@ public class AddressBookParserTest {
         assertEquals(new FindCommand(new NameContainsKeywordsPredicate(keywords)), command);
     }
 
+    @Test
+    public void parseCommand_importAndExport() throws Exception {
+        assertEquals(new ImportCommand(Paths.get("roster.csv")),
+                parser.parseCommand(ImportCommand.COMMAND_WORD + " roster.csv"));
+        assertEquals(new ExportCommand(Paths.get("roster.csv")),
+                parser.parseCommand(ExportCommand.COMMAND_WORD + " roster.csv"));
+    }
+
+    @Test
+    public void parseCommand_due() throws Exception {
+        assertEquals(DueCommand.overdue(), parser.parseCommand(DueCommand.COMMAND_WORD + " overdue"));
+        assertEquals(new DueCommand(LocalDateTime.of(2030, 12, 31, 0, 0)),
+                parser.parseCommand(DueCommand.COMMAND_WORD + " before/2030-12-31"));
+    }
+
     @Test
     public void parseCommand_help() throws Exception {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD) instanceof HelpCommand);
@@ -90,6 +114,38 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD + " 3") instanceof ListCommand);
     }
 
+    @Test
+    public void parseCommand_stats() throws Exception {
+        CommandMetrics metrics = new CommandMetrics();
+        assertEquals(new StatsCommand(metrics),
+                new AddressBookParser(metrics).parseCommand(StatsCommand.COMMAND_WORD));
+        assertEquals(new StatsCommand(metrics),
+                new AddressBookParser(metrics).parseCommand(StatsCommand.COMMAND_WORD + " 3"));
+    }
+
+    @Test
+    public void parseScript_validLines_returnsRunCommand() throws Exception {
+        RunCommand command = parser.parseScript(List.of(
+                "# comment", "delete 1", "   ", "  delete 2  "));
+        assertEquals(new RunCommand(List.of(new DeleteCommand(INDEX_FIRST_PERSON),
+                new DeleteCommand(INDEX_SECOND_PERSON)), List.of(2, 4)), command);
+    }
+
+    @Test
+    public void parseScript_invalidLines_throwsParseExceptionWithEveryLine() {
+        String expectedMessage = String.format(RunCommand.MESSAGE_LINE_ERROR, 2, MESSAGE_UNKNOWN_COMMAND) + "\n"
+                + String.format(RunCommand.MESSAGE_LINE_ERROR, 4,
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteCommand.MESSAGE_USAGE)) + "\n"
+                + RunCommand.MESSAGE_ROLLED_BACK;
+        assertThrows(ParseException.class, expectedMessage, () -> parser.parseScript(List.of(
+                "delete 1", "unknownCommand", "list", "delete x")));
+    }
+
+    @Test
+    public void parseScript_nestedRun_throwsParseException() {
+        assertThrows(ParseException.class, () -> parser.parseScript(List.of(RunCommand.COMMAND_WORD + " other.txt")));
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
         assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
@@ -0,0 +1,54 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INCORRECT_DATE_FORMAT;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.DueCommand;
+
+public class DueCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, DueCommand.MESSAGE_USAGE);
+
+    private final DueCommandParser parser = new DueCommandParser();
+
+    @Test
+    public void parse_overdue_returnsOverdueCommand() {
+        assertParseSuccess(parser, " overdue", DueCommand.overdue());
+        assertParseSuccess(parser, "  OVERDUE  ", DueCommand.overdue());
+    }
+
+    @Test
+    public void parse_beforeDate_startOfDay() {
+        assertParseSuccess(parser, " before/2030-12-31",
+                new DueCommand(LocalDateTime.of(2030, 12, 31, 0, 0)));
+    }
+
+    @Test
+    public void parse_beforeDateTime_success() {
+        assertParseSuccess(parser, " before/2030-12-31 18:30",
+                new DueCommand(LocalDateTime.of(2030, 12, 31, 18, 30)));
+    }
+
+    @Test
+    public void parse_pastDate_success() {
+        assertParseSuccess(parser, " before/2000-01-01", new DueCommand(LocalDateTime.of(2000, 1, 1, 0, 0)));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " soon", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " overdue before/2030-12-31", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " before/31-12-2030", MESSAGE_INCORRECT_DATE_FORMAT);
+        assertParseFailure(parser, " before/2030-12-31 before/2030-11-30",
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_BEFORE));
+    }
+}
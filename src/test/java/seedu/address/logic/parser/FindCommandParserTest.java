@@ -1,16 +1,29 @@
 package seedu.address.logic.parser;
 
+import static seedu.address.logic.Messages.MESSAGE_INCORRECT_DATE_FORMAT;
+import static seedu.address.logic.Messages.MESSAGE_INCORRECT_TASK_STATUS;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TASK_STATUS;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.DueBeforeClause;
+import seedu.address.model.person.KeywordClause;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.PersonQuery;
+import seedu.address.model.person.SkillsInKeywordsPredicate;
+import seedu.address.model.person.TagsInKeywordsPredicate;
+import seedu.address.model.person.TaskStatusClause;
+import seedu.address.model.task.TaskStatus;
 
 public class FindCommandParserTest {
 
@@ -21,6 +34,15 @@ public class FindCommandParserTest {
         assertParseFailure(parser, "     ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
     }
 
+    @Test
+    public void parse_emptyKeywords_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " t/ ", expectedMessage);
+        assertParseFailure(parser, " s/", expectedMessage);
+        assertParseFailure(parser, " task/  ", expectedMessage);
+        assertParseFailure(parser, " n/alice t/", expectedMessage);
+    }
+
     @Test
     public void parse_validArgs_returnsFindCommand() throws ParseException {
         // no leading and trailing whitespaces
@@ -31,4 +53,53 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " n/ Alice Bob", expectedFindCommand);
     }
 
+    @Test
+    public void parse_skillArgs_returnsFindCommand() {
+        FindCommand expectedFindCommand =
+                new FindCommand(new SkillsInKeywordsPredicate(Arrays.asList("java", "python")));
+        assertParseSuccess(parser, " s/ java  python", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_severalPrefixes_returnsFindCommandMatchingAll() {
+        FindCommand expectedFindCommand = new FindCommand(new PersonQuery(List.of(
+                new KeywordClause(new NameContainsKeywordsPredicate(List.of("alice"))),
+                new KeywordClause(new TagsInKeywordsPredicate(List.of("backend"))),
+                new TaskStatusClause(TaskStatus.IN_PROGRESS),
+                new DueBeforeClause(LocalDateTime.of(2030, 6, 1, 0, 0)))));
+
+        assertParseSuccess(parser, " n/alice t/backend tstatus/in-progress due/<2030-06-01", expectedFindCommand);
+        // order of prefixes does not matter
+        assertParseSuccess(parser, " due/ < 2030-06-01 tstatus/ In Progress t/ backend n/ alice", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_dueDateWithTime_returnsFindCommand() {
+        FindCommand expectedFindCommand = new FindCommand(new PersonQuery(List.of(
+                new DueBeforeClause(LocalDateTime.of(2030, 6, 1, 14, 30)))));
+        assertParseSuccess(parser, " due/<2030-06-01 14:30", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_invalidStatus_throwsParseException() {
+        assertParseFailure(parser, " n/ alice tstatus/ started", MESSAGE_INCORRECT_TASK_STATUS);
+    }
+
+    @Test
+    public void parse_dueDateWithoutOperator_throwsParseException() {
+        assertParseFailure(parser, " due/ 2030-06-01",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidDueDate_throwsParseException() {
+        assertParseFailure(parser, " due/ <01-06-2030", MESSAGE_INCORRECT_DATE_FORMAT);
+    }
+
+    @Test
+    public void parse_duplicateStatus_throwsParseException() {
+        assertParseFailure(parser, " tstatus/ completed tstatus/ in progress",
+                Messages.getErrorMessageForDuplicatePrefixes(PREFIX_TASK_STATUS));
+    }
+
 }
@@ -6,6 +6,7 @@ import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
@@ -39,6 +40,17 @@ public class ParserUtilTest {
 
     private static final String WHITESPACE = " \t\r\n";
 
+    @Test
+    public void parsePath_invalidInput_throwsParseException() {
+        assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_PATH, () -> ParserUtil.parsePath(WHITESPACE));
+        assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_PATH, () -> ParserUtil.parsePath("a\0b"));
+    }
+
+    @Test
+    public void parsePath_validInput_success() throws Exception {
+        assertEquals(Paths.get("data", "roster.csv"), ParserUtil.parsePath(WHITESPACE + "data/roster.csv"));
+    }
+
     @Test
     public void parseIndex_invalidInput_throwsParseException() {
         assertThrows(ParseException.class, () -> ParserUtil.parseIndex("10 a"));
@@ -0,0 +1,114 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_INCORRECT_DATE_FORMAT;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.other.Other;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.task.Task;
+import seedu.address.model.task.TaskStatus;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonCsvParserTest {
+
+    private static final List<String> VALID_RECORD = List.of("Amy Bee", "85355255", "amy@gmail.com", "@amyBee",
+            "Boss", "123, Jurong West Ave 6", "friends;colleagues", "java", "",
+            "Plan trip, 2020-01-31 09:00, completed; Book venue");
+
+    private final PersonCsvParser parser = new PersonCsvParser();
+
+    @Test
+    public void isHeader() {
+        assertTrue(PersonCsvParser.isHeader(PersonCsvParser.HEADER));
+        List<String> upperCaseHeader = new ArrayList<>();
+        PersonCsvParser.HEADER.forEach(column -> upperCaseHeader.add(" " + column.toUpperCase()));
+        assertTrue(PersonCsvParser.isHeader(upperCaseHeader));
+        List<String> headerWithByteOrderMark = new ArrayList<>(PersonCsvParser.HEADER);
+        headerWithByteOrderMark.set(0, "\uFEFF" + headerWithByteOrderMark.get(0));
+        assertTrue(PersonCsvParser.isHeader(headerWithByteOrderMark));
+
+        assertFalse(PersonCsvParser.isHeader(VALID_RECORD));
+        assertFalse(PersonCsvParser.isHeader(PersonCsvParser.HEADER.subList(0, 3)));
+    }
+
+    @Test
+    public void parse_validRecord_returnsPerson() throws Exception {
+        Person person = parser.parse(VALID_RECORD);
+
+        Person expectedPerson = new PersonBuilder().withAddress("123, Jurong West Ave 6")
+                .withTags("friends", "colleagues").build();
+        assertEquals(expectedPerson, person);
+        assertEquals(1, person.getSkills().size());
+        assertTrue(person.getOthers().isEmpty());
+        assertEquals(List.of(new Task("Plan trip", TaskStatus.COMPLETED, LocalDateTime.of(2020, 1, 31, 9, 0)),
+                new Task("Book venue", TaskStatus.YET_TO_START, null)), person.getTasks());
+    }
+
+    @Test
+    public void parse_wrongFieldCount_throwsParseException() {
+        assertThrows(ParseException.class, String.format(PersonCsvParser.MESSAGE_WRONG_FIELD_COUNT, 10, 9), () ->
+                parser.parse(VALID_RECORD.subList(0, 9)));
+    }
+
+    @Test
+    public void parse_invalidField_throwsParseException() {
+        List<String> invalidName = new ArrayList<>(VALID_RECORD);
+        invalidName.set(0, "R@chel");
+        assertThrows(ParseException.class, Name.MESSAGE_CONSTRAINTS, () -> parser.parse(invalidName));
+
+        List<String> invalidPhone = new ArrayList<>(VALID_RECORD);
+        invalidPhone.set(1, "+651234");
+        assertThrows(ParseException.class, Phone.MESSAGE_CONSTRAINTS, () -> parser.parse(invalidPhone));
+
+        List<String> invalidTask = new ArrayList<>(VALID_RECORD);
+        invalidTask.set(9, "Plan trip, tomorrow");
+        assertThrows(ParseException.class, MESSAGE_INCORRECT_DATE_FORMAT, () -> parser.parse(invalidTask));
+    }
+
+    @Test
+    public void toRecord_parsedBack_samePerson() throws Exception {
+        Person person = parser.parse(VALID_RECORD);
+        Person parsedPerson = parser.parse(PersonCsvParser.toRecord(person));
+
+        assertEquals(person, parsedPerson);
+        assertEquals(person.getTelegram(), parsedPerson.getTelegram());
+        assertEquals(person.getPosition(), parsedPerson.getPosition());
+        assertEquals(person.getSkills(), parsedPerson.getSkills());
+        assertEquals(person.getTasks(), parsedPerson.getTasks());
+    }
+
+    @Test
+    public void toRecord_separatorsInValues_parsedBack() throws Exception {
+        Person person = new PersonBuilder().withOthers("likes tea; coffee", "C:\\data").build()
+                .addTask(new Task("draft; review", TaskStatus.IN_PROGRESS, null))
+                .addTask(new Task("call Amy, then Bob", TaskStatus.YET_TO_START, LocalDateTime.of(2030, 1, 31, 9, 0)));
+        Person parsedPerson = parser.parse(PersonCsvParser.toRecord(person));
+
+        assertEquals(person.getOthers(), parsedPerson.getOthers());
+        assertEquals(person.getTasks(), parsedPerson.getTasks());
+    }
+
+    @Test
+    public void parse_escapedSeparators_keptInValues() throws Exception {
+        List<String> record = new ArrayList<>(VALID_RECORD);
+        record.set(8, "likes tea\\; coffee;trailing\\");
+        record.set(9, "draft\\; review\\, v2, completed");
+        Person person = parser.parse(record);
+
+        assertEquals(Set.of(new Other("likes tea; coffee"), new Other("trailing\\")), person.getOthers());
+        assertEquals(List.of(new Task("draft; review, v2", TaskStatus.COMPLETED, null)), person.getTasks());
+    }
+}
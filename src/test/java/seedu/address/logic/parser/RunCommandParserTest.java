@@ -0,0 +1,69 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.CommandMetrics;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+public class RunCommandParserTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final RunCommandParser parser = new RunCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_missingFile_throwsParseException() {
+        Path file = testFolder.resolve("missing.txt");
+        assertParseFailure(parser, " " + file, String.format(RunCommandParser.MESSAGE_FILE_NOT_READABLE, file));
+    }
+
+    @Test
+    public void parse_validFile_returnsRunCommand() throws Exception {
+        Path file = testFolder.resolve("script.txt");
+        Files.write(file, List.of("# remove the first two persons", "delete 1", "", "delete 2"));
+
+        RunCommand expectedCommand = new RunCommand(
+                List.of(new DeleteCommand(INDEX_FIRST_PERSON), new DeleteCommand(INDEX_SECOND_PERSON)), List.of(2, 4));
+        assertParseSuccess(parser, " " + file + " ", expectedCommand);
+    }
+
+    @Test
+    public void parse_scriptRunsItself_throwsParseException() throws Exception {
+        Path file = testFolder.resolve("script.txt");
+        Files.write(file, List.of("delete 1", "RUN " + file));
+
+        assertThrows(ParseException.class, () -> parser.parse(" " + file));
+    }
+
+    @Test
+    public void parse_statsInScript_usesOwningParserMetrics() throws Exception {
+        Path file = testFolder.resolve("script.txt");
+        Files.write(file, List.of("stats"));
+        CommandMetrics metrics = new CommandMetrics();
+
+        RunCommand expectedCommand = new RunCommand(List.of(new StatsCommand(metrics)), List.of(1));
+        assertEquals(expectedCommand, new AddressBookParser(metrics).parseCommand("run " + file));
+    }
+}
@@ -20,6 +20,7 @@ import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.task.TaskStatus;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddressBookTest {
@@ -54,6 +55,17 @@ public class AddressBookTest {
         assertThrows(DuplicatePersonException.class, () -> addressBook.resetData(newData));
     }
 
+    @Test
+    public void addPersons_newPersons_searchableAndCounted() {
+        addressBook.addPerson(ALICE);
+        Person bob = new PersonBuilder().withName("Bob").withTasks("Deploy, in progress").build();
+        addressBook.addPersons(List.of(bob));
+
+        assertEquals(List.of(ALICE, bob), addressBook.getPersonList());
+        assertTrue(addressBook.hasPerson(bob));
+        assertEquals(List.of(bob), addressBook.getPersonsWithTaskStatus(TaskStatus.IN_PROGRESS));
+    }
+
     @Test
     public void hasPerson_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> addressBook.hasPerson(null));
@@ -83,6 +95,24 @@ public class AddressBookTest {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
     }
 
+    @Test
+    public void getTaskCount_personsChanged_countsKeptUpToDate() {
+        Person person = new PersonBuilder().withName("Dana").withTasks("Write report, completed", "Review").build();
+        addressBook.addPerson(person);
+        assertEquals(1, addressBook.getTaskCount(TaskStatus.COMPLETED));
+        assertEquals(List.of(person), addressBook.getPersonsWithTaskStatus(TaskStatus.YET_TO_START));
+
+        Person editedPerson = new PersonBuilder(person).withTasks("Review, in progress").build();
+        addressBook.setPerson(person, editedPerson);
+        assertEquals(0, addressBook.getTaskCount(TaskStatus.COMPLETED));
+        assertEquals(List.of(editedPerson), addressBook.getPersonsWithTaskStatus(TaskStatus.IN_PROGRESS));
+        assertTrue(addressBook.getPersonsWithTaskStatus(TaskStatus.YET_TO_START).isEmpty());
+
+        addressBook.removePerson(editedPerson);
+        assertEquals(0, addressBook.getTaskCount(TaskStatus.IN_PROGRESS));
+        assertTrue(addressBook.getPersonsWithTaskStatus(TaskStatus.IN_PROGRESS).isEmpty());
+    }
+
     @Test
     public void toStringMethod() {
         String expected = AddressBook.class.getCanonicalName() + "{persons=" + addressBook.getPersonList() + "}";
@@ -1,9 +1,14 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.Locale;
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
 public class NameTest {
@@ -38,6 +43,18 @@ public class NameTest {
         assertTrue(Name.isValidName("David Roger Jackson Ray Jr 2nd")); // long names
     }
 
+    @Test
+    public void hasWordIn() {
+        Name name = new Name("Alice  Pauline 2nd");
+
+        assertArrayEquals(new String[] {"alice", "pauline", "2nd"}, name.getWords());
+        assertTrue(name.hasWordIn(Set.of("bob", "pauline")));
+        assertTrue(name.hasWordIn(Set.of("2nd")));
+        assertFalse(name.hasWordIn(Set.of("Alice"))); // only lower-case words match
+        assertFalse(name.hasWordIn(Set.of("ali", "alice pauline"))); // not a full word match
+        assertFalse(name.hasWordIn(Set.of()));
+    }
+
     @Test
     public void equals() {
         Name name = new Name("Valid Name");
@@ -57,4 +74,19 @@ public class NameTest {
         // different values -> returns false
         assertFalse(name.equals(new Name("Other Valid Name")));
     }
+
+    @Test
+    public void hashCode_turkishLocale_consistentWithEquals() {
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(Locale.forLanguageTag("tr"));
+        try {
+            Name upper = new Name("IDA");
+            Name lower = new Name("ida");
+            assertTrue(upper.equals(lower));
+            assertEquals(upper.hashCode(), lower.hashCode());
+            assertArrayEquals(lower.getWords(), upper.getWords());
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
 }
@@ -0,0 +1,103 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.PersonKeywordIndex.Field;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonKeywordIndexTest {
+
+    private final PersonKeywordIndex index = new PersonKeywordIndex();
+
+    @Test
+    public void add_nullPerson_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.add(null));
+    }
+
+    @Test
+    public void find_emptyIndex_returnsEmptySet() {
+        assertTrue(index.find(Field.NAME, Collections.singletonList("Alice")).isEmpty());
+    }
+
+    @Test
+    public void find_nameKeywords_returnsUnionIgnoringCase() {
+        index.reset(Arrays.asList(ALICE, BENSON, CARL));
+        assertEquals(Set.of(ALICE, CARL), index.find(Field.NAME, Arrays.asList("aLiCe", "KURZ")));
+    }
+
+    @Test
+    public void find_partialWord_returnsEmptySet() {
+        index.add(ALICE);
+        assertTrue(index.find(Field.NAME, Collections.singletonList("Ali")).isEmpty());
+    }
+
+    @Test
+    public void find_blankKeyword_returnsEmptySet() {
+        index.add(ALICE);
+        assertTrue(index.find(Field.NAME, Arrays.asList("", " ")).isEmpty());
+    }
+
+    @Test
+    public void find_tagSkillAndTaskKeywords_searchesOnlyThatField() {
+        Person person = new PersonBuilder().withName("Dana").withTags("backend")
+                .withSkills("Spring Boot").withTasks("Write report").build();
+        index.add(person);
+
+        assertEquals(Set.of(person), index.find(Field.TAG, Collections.singletonList("Backend")));
+        assertEquals(Set.of(person), index.find(Field.SKILL, Collections.singletonList("boot")));
+        assertEquals(Set.of(person), index.find(Field.TASK, Collections.singletonList("report")));
+        assertTrue(index.find(Field.NAME, Collections.singletonList("backend")).isEmpty());
+    }
+
+    @Test
+    public void count_keywords_boundsFindResult() {
+        index.reset(Arrays.asList(ALICE, BENSON, CARL));
+        assertEquals(0, index.count(Field.NAME, Collections.singletonList("Ali")));
+        assertEquals(2, index.count(Field.NAME, Arrays.asList("aLiCe", "KURZ")));
+        // a person matching several keywords is counted once per keyword
+        assertEquals(2, index.count(Field.NAME, Arrays.asList("alice", "pauline")));
+    }
+
+    @Test
+    public void filter_keywords_matchesPersonsFound() {
+        index.reset(Arrays.asList(ALICE, BENSON, CARL));
+        Predicate<Person> filter = index.filter(Field.NAME, Arrays.asList("aLiCe", "KURZ", "nobody"));
+
+        assertTrue(filter.test(ALICE));
+        assertTrue(filter.test(CARL));
+        assertFalse(filter.test(BENSON));
+        // not indexed
+        assertFalse(filter.test(DANIEL));
+    }
+
+    @Test
+    public void remove_indexedPerson_noLongerFound() {
+        index.add(ALICE);
+        index.add(BENSON);
+        index.remove(ALICE);
+        assertTrue(index.find(Field.NAME, Collections.singletonList("Alice")).isEmpty());
+        assertEquals(Set.of(BENSON), index.find(Field.TAG, Collections.singletonList("friends")));
+    }
+
+    @Test
+    public void reset_replacesPreviousEntries() {
+        index.add(ALICE);
+        index.reset(Collections.singletonList(CARL));
+        assertTrue(index.find(Field.NAME, Collections.singletonList("Alice")).isEmpty());
+        assertEquals(Set.of(CARL), index.find(Field.NAME, Collections.singletonList("Carl")));
+    }
+}
@@ -0,0 +1,175 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.task.Task;
+import seedu.address.model.task.TaskStatus;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonQueryTest {
+
+    private static final LocalDateTime JAN = LocalDateTime.of(2030, 1, 15, 9, 0);
+    private static final LocalDateTime FEB = LocalDateTime.of(2030, 2, 15, 9, 0);
+    private static final LocalDateTime MAR = LocalDateTime.of(2030, 3, 15, 9, 0);
+
+    private static final Person AMY = new PersonBuilder().withName("Amy Lee").withTags("backend").build()
+            .addTask(new Task("Write report", TaskStatus.IN_PROGRESS, JAN));
+    private static final Person BOB = new PersonBuilder().withName("Bob Lee").withTags("backend").build()
+            .addTask(new Task("Deploy", TaskStatus.IN_PROGRESS, MAR));
+    private static final Person CAT = new PersonBuilder().withName("Cat Tan").withTags("frontend").build()
+            .addTask(new Task("Plan", TaskStatus.YET_TO_START, JAN));
+    private static final Person DAN = new PersonBuilder().withName("Dan Lee").withTags("backend").build()
+            .addTask(new Task("Review", TaskStatus.COMPLETED, JAN))
+            .addTask(new Task("Budget", TaskStatus.IN_PROGRESS, null));
+
+    private final RecordingIndexes indexes = new RecordingIndexes(List.of(AMY, BOB, CAT, DAN));
+
+    @Test
+    public void constructor_noClauses_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new PersonQuery(List.of()));
+    }
+
+    @Test
+    public void test_everyClauseMustMatch() {
+        PersonQuery query = new PersonQuery(List.of(nameClause("lee"), tagClause("backend"),
+                new TaskStatusClause(TaskStatus.IN_PROGRESS), new DueBeforeClause(FEB)));
+
+        assertTrue(query.test(AMY));
+        // task due too late
+        assertFalse(query.test(BOB));
+        // wrong name and tag
+        assertFalse(query.test(CAT));
+        // only task due in time is completed
+        assertFalse(query.test(DAN));
+    }
+
+    @Test
+    public void findMatches_sameAsTestingEveryPerson() {
+        List<PersonQuery> queries = List.of(
+                new PersonQuery(List.of(nameClause("lee"), tagClause("backend"),
+                        new TaskStatusClause(TaskStatus.IN_PROGRESS), new DueBeforeClause(FEB))),
+                new PersonQuery(List.of(tagClause("backend"), new TaskStatusClause(TaskStatus.IN_PROGRESS))),
+                new PersonQuery(List.of(new DueBeforeClause(FEB))),
+                new PersonQuery(List.of(nameClause("tan"), new TaskStatusClause(TaskStatus.COMPLETED))));
+
+        for (PersonQuery query : queries) {
+            Set<Person> expected = List.of(AMY, BOB, CAT, DAN).stream().filter(query).collect(Collectors.toSet());
+            assertEquals(expected, query.findMatches(indexes));
+        }
+    }
+
+    @Test
+    public void findMatches_looksUpMostSelectiveClauseOnly() {
+        PersonQuery query = new PersonQuery(List.of(tagClause("backend"),
+                new TaskStatusClause(TaskStatus.IN_PROGRESS), nameClause("amy")));
+
+        assertEquals(Set.of(AMY), query.findMatches(indexes));
+        assertEquals(List.of("NAME"), indexes.lookups);
+    }
+
+    @Test
+    public void findMatches_clauseMatchingNobody_noLookup() {
+        PersonQuery query = new PersonQuery(List.of(tagClause("backend"), new DueBeforeClause(JAN)));
+
+        assertTrue(query.findMatches(indexes).isEmpty());
+        assertTrue(indexes.lookups.isEmpty());
+    }
+
+    @Test
+    public void equals() {
+        PersonQuery query = new PersonQuery(List.of(nameClause("amy"), new TaskStatusClause(TaskStatus.COMPLETED)));
+
+        // same values -> returns true
+        assertTrue(query.equals(new PersonQuery(
+                List.of(nameClause("amy"), new TaskStatusClause(TaskStatus.COMPLETED)))));
+
+        // same object -> returns true
+        assertTrue(query.equals(query));
+
+        // null -> returns false
+        assertFalse(query.equals(null));
+
+        // different clause -> returns false
+        assertFalse(query.equals(new PersonQuery(
+                List.of(nameClause("amy"), new TaskStatusClause(TaskStatus.IN_PROGRESS)))));
+
+        // equal clauses -> same hash code
+        assertEquals(nameClause("amy").hashCode(), nameClause("amy").hashCode());
+
+        // same keywords in a different field -> returns false
+        assertFalse(query.equals(new PersonQuery(
+                List.of(tagClause("amy"), new TaskStatusClause(TaskStatus.COMPLETED)))));
+    }
+
+    private static KeywordClause nameClause(String keyword) {
+        return new KeywordClause(new NameContainsKeywordsPredicate(List.of(keyword)));
+    }
+
+    private static KeywordClause tagClause(String keyword) {
+        return new KeywordClause(new TagsInKeywordsPredicate(List.of(keyword)));
+    }
+
+    /**
+     * The indexes of an address book, which records the lookups made through it.
+     */
+    private static class RecordingIndexes implements PersonIndexes {
+        private final AddressBook addressBook = new AddressBook();
+        private final List<String> lookups = new ArrayList<>();
+
+        RecordingIndexes(List<Person> persons) {
+            addressBook.setPersons(persons);
+        }
+
+        @Override
+        public Set<Person> findPersons(PersonKeywordIndex.Field field, Collection<String> keywords) {
+            lookups.add(field.name());
+            return addressBook.findPersons(field, keywords);
+        }
+
+        @Override
+        public int countPersons(PersonKeywordIndex.Field field, Collection<String> keywords) {
+            return addressBook.countPersons(field, keywords);
+        }
+
+        @Override
+        public Predicate<Person> getKeywordFilter(PersonKeywordIndex.Field field, Collection<String> keywords) {
+            return addressBook.getKeywordFilter(field, keywords);
+        }
+
+        @Override
+        public List<Person> getPersonsWithTaskStatus(TaskStatus status) {
+            lookups.add(status.name());
+            return addressBook.getPersonsWithTaskStatus(status);
+        }
+
+        @Override
+        public int countPersonsWithTaskStatus(TaskStatus status) {
+            return addressBook.countPersonsWithTaskStatus(status);
+        }
+
+        @Override
+        public List<TaskDueDateIndex.Entry> getTasksDueBefore(LocalDateTime time) {
+            lookups.add("DUE");
+            return addressBook.getTasksDueBefore(time);
+        }
+
+        @Override
+        public int countTasksDueBefore(LocalDateTime time) {
+            return addressBook.countTasksDueBefore(time);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
@@ -12,8 +13,13 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.task.Task;
+import seedu.address.model.task.TaskStatus;
 import seedu.address.testutil.PersonBuilder;
 
 public class PersonTest {
@@ -81,6 +87,30 @@ public class PersonTest {
         assertFalse(ALICE.equals(editedAlice));
     }
 
+    @Test
+    public void taskMethods_sharedFieldsAndOriginalUnchanged() {
+        Person person = new PersonBuilder().withTags(VALID_TAG_HUSBAND)
+                .withTasks("Write report", "Plan").build();
+        Task replacement = new Task("Deploy", TaskStatus.YET_TO_START, null);
+
+        Person added = person.addTask(replacement);
+        Person updated = person.setTask(1, replacement);
+        Person removed = person.removeTask(0);
+
+        assertEquals(List.of("Write report", "Plan", "Deploy"), descriptionsOf(added));
+        assertEquals(List.of("Write report", "Deploy"), descriptionsOf(updated));
+        assertEquals(List.of("Plan"), descriptionsOf(removed));
+        assertEquals(List.of("Write report", "Plan"), descriptionsOf(person));
+        assertSame(person.getTags(), updated.getTags());
+        assertSame(person.getSkills(), updated.getSkills());
+        assertSame(person.getOthers(), updated.getOthers());
+        assertSame(person.getTasks().get(0), updated.getTasks().get(0));
+    }
+
+    private static List<String> descriptionsOf(Person person) {
+        return person.getTasks().stream().map(Task::getDescription).collect(Collectors.toList());
+    }
+
     @Test
     public void toStringMethod() {
         Person alice = new PersonBuilder().withName("Alice Pauline")
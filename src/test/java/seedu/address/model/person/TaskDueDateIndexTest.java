@@ -0,0 +1,121 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.TaskDueDateIndex.Entry;
+import seedu.address.model.task.Task;
+import seedu.address.model.task.TaskStatus;
+import seedu.address.testutil.PersonBuilder;
+
+public class TaskDueDateIndexTest {
+
+    private static final LocalDateTime JAN = LocalDateTime.of(2030, 1, 15, 9, 0);
+    private static final LocalDateTime FEB = LocalDateTime.of(2030, 2, 15, 9, 0);
+    private static final LocalDateTime MAR = LocalDateTime.of(2030, 3, 15, 9, 0);
+
+    private static final Task REPORT = new Task("Write report", TaskStatus.IN_PROGRESS, FEB);
+    private static final Task PLAN = new Task("Plan", TaskStatus.YET_TO_START, JAN);
+    private static final Task REVIEW = new Task("Review", TaskStatus.COMPLETED, JAN);
+    private static final Task DEPLOY = new Task("Deploy", TaskStatus.YET_TO_START, MAR);
+    private static final Task BUDGET = new Task("Budget", TaskStatus.YET_TO_START, null);
+
+    private static final Person AMY = new PersonBuilder().withName("Amy").build()
+            .addTask(REPORT).addTask(PLAN).addTask(REVIEW);
+    private static final Person BOB = new PersonBuilder().withName("Bob").build()
+            .addTask(DEPLOY).addTask(BUDGET);
+
+    private final TaskDueDateIndex index = new TaskDueDateIndex();
+
+    @Test
+    public void add_nullPerson_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.add(null));
+    }
+
+    @Test
+    public void getTasksDueBefore_emptyIndex_returnsEmptyList() {
+        assertTrue(index.getTasksDueBefore(MAR).isEmpty());
+    }
+
+    @Test
+    public void getTasksDueBefore_unfinishedTasksEarliestFirst() {
+        index.reset(Arrays.asList(AMY, BOB));
+
+        assertEquals(List.of(new Entry(AMY, PLAN), new Entry(AMY, REPORT), new Entry(BOB, DEPLOY)),
+                index.getTasksDueBefore(MAR.plusDays(1)));
+        // strictly before
+        assertEquals(List.of(new Entry(AMY, PLAN)), index.getTasksDueBefore(FEB));
+    }
+
+    @Test
+    public void countTasksDueBefore_matchesTasksListed() {
+        index.reset(Arrays.asList(AMY, BOB));
+
+        assertEquals(0, index.countTasksDueBefore(JAN));
+        assertEquals(1, index.countTasksDueBefore(FEB));
+        assertEquals(3, index.countTasksDueBefore(MAR.plusDays(1)));
+    }
+
+    @Test
+    public void countTasksDueBefore_manyDueDates_returnsUpperBound() {
+        Person person = new PersonBuilder().withName("Cat").build();
+        for (int i = 0; i <= TaskDueDateIndex.MAX_COUNTED_DUE_DATES; i++) {
+            person = person.addTask(new Task("Task " + i, TaskStatus.YET_TO_START, JAN.plusDays(i)));
+        }
+        index.reset(Arrays.asList(AMY, BOB, person));
+        int dueDateCount = TaskDueDateIndex.MAX_COUNTED_DUE_DATES + 1;
+
+        // tasks due on few dates are counted exactly
+        assertEquals(2, index.countTasksDueBefore(JAN.plusDays(1)));
+        // otherwise every indexed task is counted
+        assertEquals(dueDateCount + 3, index.countTasksDueBefore(JAN.plusDays(dueDateCount)));
+
+        index.remove(person);
+        assertEquals(3, index.countTasksDueBefore(MAR.plusDays(1)));
+    }
+
+    @Test
+    public void remove_person_tasksNoLongerListed() {
+        index.reset(Arrays.asList(AMY, BOB));
+        index.remove(AMY);
+
+        assertEquals(List.of(new Entry(BOB, DEPLOY)), index.getTasksDueBefore(MAR.plusDays(1)));
+    }
+
+    @Test
+    public void remove_personSharingDueDate_otherTasksKeptInOrder() {
+        Task otherPlan = new Task("Other plan", TaskStatus.YET_TO_START, JAN);
+        Person cat = new PersonBuilder().withName("Cat").build().addTask(otherPlan);
+        Person dan = new PersonBuilder().withName("Dan").build().addTask(otherPlan);
+        index.reset(Arrays.asList(cat, AMY, dan));
+        index.remove(AMY);
+
+        assertEquals(List.of(new Entry(cat, otherPlan), new Entry(dan, otherPlan)), index.getTasksDueBefore(FEB));
+        assertEquals(2, index.countTasksDueBefore(MAR.plusDays(1)));
+    }
+
+    @Test
+    public void remove_equalCopyOfPerson_tasksNoLongerListed() {
+        index.add(AMY);
+        index.remove(new PersonBuilder(AMY).build());
+
+        assertTrue(index.getTasksDueBefore(MAR).isEmpty());
+    }
+
+    @Test
+    public void getTasksDueBefore_laterChanges_returnedListUnchanged() {
+        index.add(BOB);
+        List<Entry> dueTasks = index.getTasksDueBefore(MAR.plusDays(1));
+        index.remove(BOB);
+
+        assertEquals(List.of(new Entry(BOB, DEPLOY)), dueTasks);
+        assertThrows(UnsupportedOperationException.class, () -> dueTasks.add(new Entry(AMY, PLAN)));
+    }
+}
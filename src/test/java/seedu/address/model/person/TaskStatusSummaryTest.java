@@ -0,0 +1,120 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.task.TaskStatus;
+import seedu.address.testutil.PersonBuilder;
+
+public class TaskStatusSummaryTest {
+
+    private static final Person AMY = new PersonBuilder().withName("Amy")
+            .withTasks("Write report, completed", "Review, completed", "Plan, in progress").build();
+    private static final Person BOB = new PersonBuilder().withName("Bob").withTasks("Deploy, in progress").build();
+    private static final Person CAT = new PersonBuilder().withName("Cat").withTasks("Budget").build();
+
+    private final TaskStatusSummary summary = new TaskStatusSummary();
+
+    @Test
+    public void add_nullPerson_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> summary.add(null));
+    }
+
+    @Test
+    public void getPersonsWith_emptySummary_returnsEmptyList() {
+        for (TaskStatus status : TaskStatus.values()) {
+            assertEquals(0, summary.getTaskCount(status));
+            assertTrue(summary.getPersonsWith(status).isEmpty());
+            assertEquals(0, summary.getPersonCount(status));
+        }
+    }
+
+    @Test
+    public void add_personsWithTasks_countsEachStatus() {
+        summary.add(AMY);
+        summary.add(BOB);
+        summary.add(CAT);
+
+        assertEquals(2, summary.getTaskCount(TaskStatus.COMPLETED));
+        assertEquals(2, summary.getTaskCount(TaskStatus.IN_PROGRESS));
+        assertEquals(1, summary.getTaskCount(TaskStatus.YET_TO_START));
+        assertEquals(List.of(AMY), summary.getPersonsWith(TaskStatus.COMPLETED));
+        assertEquals(List.of(AMY, BOB), summary.getPersonsWith(TaskStatus.IN_PROGRESS));
+        assertEquals(List.of(CAT), summary.getPersonsWith(TaskStatus.YET_TO_START));
+        assertEquals(1, summary.getPersonCount(TaskStatus.COMPLETED));
+        assertEquals(2, summary.getPersonCount(TaskStatus.IN_PROGRESS));
+    }
+
+    @Test
+    public void remove_person_tasksNoLongerCounted() {
+        summary.reset(Arrays.asList(AMY, BOB));
+        summary.remove(AMY);
+
+        assertEquals(0, summary.getTaskCount(TaskStatus.COMPLETED));
+        assertEquals(1, summary.getTaskCount(TaskStatus.IN_PROGRESS));
+        assertTrue(summary.getPersonsWith(TaskStatus.COMPLETED).isEmpty());
+        assertEquals(List.of(BOB), summary.getPersonsWith(TaskStatus.IN_PROGRESS));
+    }
+
+    @Test
+    public void set_sameName_keepsPlaceAndUpdatesCounts() {
+        summary.reset(Arrays.asList(AMY, BOB));
+        Person editedAmy = new PersonBuilder(AMY).withTasks("Plan, in progress", "Budget").build();
+        summary.set(AMY, editedAmy);
+
+        assertEquals(0, summary.getTaskCount(TaskStatus.COMPLETED));
+        assertEquals(2, summary.getTaskCount(TaskStatus.IN_PROGRESS));
+        assertEquals(1, summary.getTaskCount(TaskStatus.YET_TO_START));
+        assertTrue(summary.getPersonsWith(TaskStatus.COMPLETED).isEmpty());
+        assertEquals(List.of(editedAmy, BOB), summary.getPersonsWith(TaskStatus.IN_PROGRESS));
+        assertEquals(List.of(editedAmy), summary.getPersonsWith(TaskStatus.YET_TO_START));
+    }
+
+    @Test
+    public void set_renamedPerson_oldNameRemoved() {
+        summary.reset(Arrays.asList(BOB, CAT));
+        Person renamedBob = new PersonBuilder(BOB).withName("Robert").build();
+        summary.set(BOB, renamedBob);
+
+        assertEquals(1, summary.getTaskCount(TaskStatus.IN_PROGRESS));
+        assertEquals(List.of(renamedBob), summary.getPersonsWith(TaskStatus.IN_PROGRESS));
+    }
+
+    @Test
+    public void getPersonsWith_laterChanges_returnedListUnchanged() {
+        summary.add(BOB);
+        List<Person> inProgress = summary.getPersonsWith(TaskStatus.IN_PROGRESS);
+        summary.add(AMY);
+
+        assertEquals(List.of(BOB), inProgress);
+        assertEquals(List.of(BOB, AMY), summary.getPersonsWith(TaskStatus.IN_PROGRESS));
+        assertThrows(UnsupportedOperationException.class, () -> inProgress.add(CAT));
+    }
+
+    @Test
+    public void getPersonsWith_personOrderGiven_sortedByOrder() {
+        List<Person> personList = List.of(AMY, BOB);
+        TaskStatusSummary orderedSummary = new TaskStatusSummary(Comparator.comparingInt(personList::indexOf));
+        orderedSummary.add(BOB);
+        orderedSummary.add(AMY);
+
+        assertEquals(List.of(AMY, BOB), orderedSummary.getPersonsWith(TaskStatus.IN_PROGRESS));
+    }
+
+    @Test
+    public void reset_replacesContents() {
+        summary.reset(Arrays.asList(AMY, BOB));
+        summary.reset(List.of(CAT));
+
+        assertEquals(0, summary.getTaskCount(TaskStatus.COMPLETED));
+        assertEquals(0, summary.getTaskCount(TaskStatus.IN_PROGRESS));
+        assertEquals(List.of(CAT), summary.getPersonsWith(TaskStatus.YET_TO_START));
+    }
+}
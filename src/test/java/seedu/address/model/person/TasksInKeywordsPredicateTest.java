@@ -0,0 +1,85 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class TasksInKeywordsPredicateTest {
+
+    @Test
+    public void equals() {
+        List<String> firstPredicateKeywordList = Collections.singletonList("first");
+        List<String> secondPredicateKeywordList = Arrays.asList("first", "second");
+
+        TasksInKeywordsPredicate firstPredicate = new TasksInKeywordsPredicate(firstPredicateKeywordList);
+        TasksInKeywordsPredicate secondPredicate = new TasksInKeywordsPredicate(secondPredicateKeywordList);
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        TasksInKeywordsPredicate firstPredicateCopy = new TasksInKeywordsPredicate(firstPredicateKeywordList);
+        assertTrue(firstPredicate.equals(firstPredicateCopy));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_tasksContainKeywords_returnsTrue() {
+        // One keyword
+        TasksInKeywordsPredicate predicate = new TasksInKeywordsPredicate(Collections.singletonList("report"));
+        assertTrue(predicate.test(new PersonBuilder().withTasks("Write report").build()));
+
+        // Only one matching keyword, in the last task
+        predicate = new TasksInKeywordsPredicate(Arrays.asList("venue", "budget"));
+        assertTrue(predicate.test(new PersonBuilder().withTasks("Write report", "Plan budget").build()));
+
+        // Mixed-case keywords and description
+        predicate = new TasksInKeywordsPredicate(Arrays.asList("wRITE", "Milk"));
+        assertTrue(predicate.test(new PersonBuilder().withTasks("WRITE report").build()));
+    }
+
+    @Test
+    public void test_tasksDoNotContainKeywords_returnsFalse() {
+        // Zero keywords
+        TasksInKeywordsPredicate predicate = new TasksInKeywordsPredicate(Collections.emptyList());
+        assertFalse(predicate.test(new PersonBuilder().withTasks("Write report").build()));
+
+        // No tasks
+        predicate = new TasksInKeywordsPredicate(Arrays.asList("report"));
+        assertFalse(predicate.test(new PersonBuilder().withTasks().build()));
+
+        // Partial word only
+        predicate = new TasksInKeywordsPredicate(Arrays.asList("rep", "reports"));
+        assertFalse(predicate.test(new PersonBuilder().withTasks("Write report").build()));
+
+        // Keywords match name and tag, but not tasks
+        predicate = new TasksInKeywordsPredicate(Arrays.asList("Alice", "friends"));
+        assertFalse(predicate.test(new PersonBuilder().withName("Alice").withTags("friends")
+                .withTasks("Write report").build()));
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<String> keywords = List.of("keyword1", "keyword2");
+        TasksInKeywordsPredicate predicate = new TasksInKeywordsPredicate(keywords);
+
+        String expected = TasksInKeywordsPredicate.class.getCanonicalName() + "{keywords=" + keywords + "}";
+        assertEquals(expected, predicate.toString());
+    }
+}
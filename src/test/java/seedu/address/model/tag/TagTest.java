@@ -1,7 +1,15 @@
 package seedu.address.model.tag;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
 public class TagTest {
@@ -17,6 +25,29 @@ public class TagTest {
         assertThrows(IllegalArgumentException.class, () -> new Tag(invalidTagName));
     }
 
+    @Test
+    public void of_equalTagNames_sameInstance() {
+        Tag tag = Tag.of("friends");
+        assertSame(tag, Tag.of(new String("friends")));
+        assertEquals(new Tag("friends"), tag);
+        assertNotSame(tag, Tag.of("colleagues"));
+    }
+
+    @Test
+    public void of_invalidTagName_throwsIllegalArgumentException() {
+        assertThrows(NullPointerException.class, () -> Tag.of(null));
+        assertThrows(IllegalArgumentException.class, () -> Tag.of(""));
+    }
+
+    @Test
+    public void hasWordIn() {
+        Tag tag = new Tag("BackEnd");
+
+        assertArrayEquals(new String[] {"backend"}, tag.getWords());
+        assertTrue(tag.hasWordIn(Set.of("frontend", "backend")));
+        assertFalse(tag.hasWordIn(Set.of("back", "BackEnd")));
+    }
+
     @Test
     public void isValidTagName() {
         // null tag name
@@ -0,0 +1,201 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.AtomicFileWriter;
+import seedu.address.commons.util.FsyncPolicy;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.task.Task;
+import seedu.address.model.task.TaskStatus;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    private static final Path TYPICAL_PERSONS_FILE = Paths.get("src", "test", "data",
+            "JsonSerializableAddressBookTest", "typicalPersonsAddressBook.json");
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private AtomicFileWriter fileWriter;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("addressbook.bin");
+        fileWriter = new AtomicFileWriter(FsyncPolicy.NEVER, 0);
+    }
+
+    private BinaryAddressBookStorage createStorage(AddressBookStorage fallbackStorage) {
+        return new BinaryAddressBookStorage(filePath, fileWriter, fallbackStorage);
+    }
+
+    @Test
+    public void getBinaryFilePath() {
+        assertEquals(Paths.get("data", "addressbook.bin"),
+                BinaryAddressBookStorage.getBinaryFilePath(Paths.get("data", "addressbook.json")));
+        assertEquals(Paths.get("addressbook.bin"),
+                BinaryAddressBookStorage.getBinaryFilePath(Paths.get("addressbook")));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(createStorage(null).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAddressBook_missingFileWithFallback_fallbackRead() throws Exception {
+        BinaryAddressBookStorage storage = createStorage(new JsonAddressBookStorage(TYPICAL_PERSONS_FILE));
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readBackupAddressBook_fallbackCorruptWithGoodBackup_fallbackBackupRead() throws Exception {
+        Path jsonFilePath = testFolder.resolve("addressbook.json");
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(jsonFilePath);
+        jsonStorage.saveAddressBook(getTypicalAddressBook());
+        Files.copy(jsonFilePath, AtomicFileWriter.getBackupPath(jsonFilePath));
+        Files.writeString(jsonFilePath, "{ corrupt");
+        BinaryAddressBookStorage storage = createStorage(jsonStorage);
+
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+        assertEquals(AtomicFileWriter.getBackupPath(jsonFilePath), storage.getBackupFilePath());
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readBackupAddressBook().get()));
+
+        // once the binary file is saved, its own backup is read
+        storage.saveAddressBook(new AddressBook());
+        assertEquals(AtomicFileWriter.getBackupPath(filePath), storage.getBackupFilePath());
+        assertFalse(storage.readBackupAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        BinaryAddressBookStorage storage = createStorage(null);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_tasks_preservedExactly() throws Exception {
+        Person person = new PersonBuilder().withName("Dana").withTags("backend", "friends").withSkills("Java")
+                .withOthers("Likes ☕").build();
+        List<Task> tasks = List.of(
+                new Task("Write report", TaskStatus.IN_PROGRESS, LocalDateTime.of(1999, 12, 31, 23, 59, 58, 123)),
+                new Task("Review", TaskStatus.YET_TO_START, null));
+        person = new Person(person.getName(), person.getPhone(), person.getEmail(), person.getTelegram(),
+                person.getPosition(), person.getAddress(), person.getTags(), person.getSkills(), person.getOthers(),
+                person.getTaskStatus(), tasks);
+        AddressBook original = new AddressBook();
+        original.addPerson(person);
+
+        BinaryAddressBookStorage storage = createStorage(null);
+        storage.saveAddressBook(original);
+        Person readBack = storage.readAddressBook().get().getPersonList().get(0);
+
+        assertEquals(person, readBack);
+        assertEquals(person.getTelegram(), readBack.getTelegram());
+        assertEquals(person.getPosition(), readBack.getPosition());
+        assertEquals(person.getSkills(), readBack.getSkills());
+        assertEquals(person.getOthers(), readBack.getOthers());
+        assertEquals(tasks.size(), readBack.getTasks().size());
+        for (int i = 0; i < tasks.size(); i++) {
+            assertEquals(tasks.get(i).getDescription(), readBack.getTasks().get(i).getDescription());
+            assertEquals(tasks.get(i).getStatus(), readBack.getTasks().get(i).getStatus());
+            assertEquals(tasks.get(i).getDueDate(), readBack.getTasks().get(i).getDueDate());
+        }
+    }
+
+    @Test
+    public void convertJsonToBinaryAndBack_sameJson() throws Exception {
+        BinaryAddressBookStorage storage = createStorage(new JsonAddressBookStorage(TYPICAL_PERSONS_FILE));
+        storage.saveAddressBook(storage.readAddressBook().get());
+
+        Path jsonFilePath = testFolder.resolve("addressbook.json");
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(jsonFilePath);
+        jsonStorage.saveAddressBook(new JsonAddressBookStorage(TYPICAL_PERSONS_FILE).readAddressBook().get());
+        String expectedJson = Files.readString(jsonFilePath);
+
+        jsonStorage.saveAddressBook(storage.readAddressBook(filePath).get());
+        assertEquals(expectedJson, Files.readString(jsonFilePath));
+    }
+
+    @Test
+    public void readAddressBook_jsonFile_throwsDataLoadingException() {
+        BinaryAddressBookStorage storage = createStorage(null);
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook(TYPICAL_PERSONS_FILE));
+    }
+
+    @Test
+    public void readAddressBook_unsupportedVersion_throwsDataLoadingException() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(BinaryAddressBookStorage.MAGIC);
+        out.writeInt(BinaryAddressBookStorage.FORMAT_VERSION + 1);
+        Files.write(filePath, bytes.toByteArray());
+
+        assertThrows(DataLoadingException.class, () -> createStorage(null).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataLoadingException() throws Exception {
+        BinaryAddressBookStorage storage = createStorage(null);
+        storage.saveAddressBook(getTypicalAddressBook());
+        byte[] content = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(content, content.length - 5));
+
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_countLargerThanFile_throwsDataLoadingException() throws Exception {
+        // a dictionary of more strings than the file could hold
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(BinaryAddressBookStorage.MAGIC);
+        out.writeInt(BinaryAddressBookStorage.FORMAT_VERSION);
+        out.writeInt(Integer.MAX_VALUE);
+        Files.write(filePath, bytes.toByteArray());
+        assertThrows(DataLoadingException.class, () -> createStorage(null).readAddressBook());
+
+        // a string longer than the file
+        bytes.reset();
+        out.writeInt(BinaryAddressBookStorage.MAGIC);
+        out.writeInt(BinaryAddressBookStorage.FORMAT_VERSION);
+        out.writeInt(1);
+        out.writeInt(Integer.MAX_VALUE - 8);
+        Files.write(filePath, bytes.toByteArray());
+        assertThrows(DataLoadingException.class, () -> createStorage(null).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> createStorage(null).saveAddressBook(null));
+    }
+
+}
@@ -0,0 +1,193 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    private static final int COMPACTION_THRESHOLD = 5;
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path journalFilePath;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("addressbook.json");
+        journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+    }
+
+    private JournaledAddressBookStorage createStorage() {
+        return new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath), COMPACTION_THRESHOLD);
+    }
+
+    private ReadOnlyAddressBook readFromNewStorage() throws Exception {
+        return createStorage().readAddressBook().get();
+    }
+
+    @Test
+    public void constructor_nonPositiveThreshold_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath), 0));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(createStorage().readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_mutations_replayedOnRead() throws Exception {
+        JournaledAddressBookStorage storage = createStorage();
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        String snapshot = Files.readString(filePath);
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        Person editedAlice = new PersonBuilder(ALICE).withTasks("Write report").build();
+        original.setPerson(ALICE, editedAlice);
+        storage.saveAddressBook(original);
+        original.removePerson(BENSON);
+        storage.saveAddressBook(original);
+
+        // the changes only went to the journal
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(4, Files.readAllLines(journalFilePath).size());
+
+        ReadOnlyAddressBook replayed = readFromNewStorage();
+        assertEquals(original, new AddressBook(replayed));
+        assertEquals(editedAlice.getTasks(), replayed.getPersonList().get(0).getTasks());
+    }
+
+    @Test
+    public void saveAddressBook_unchangedAddressBook_journalNotWritten() throws Exception {
+        JournaledAddressBookStorage storage = createStorage();
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        List<String> journal = Files.readAllLines(journalFilePath);
+
+        storage.saveAddressBook(original);
+        assertEquals(journal, Files.readAllLines(journalFilePath));
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_appendsToExistingJournal() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        createStorage().saveAddressBook(original);
+
+        JournaledAddressBookStorage storage = createStorage();
+        AddressBook reloaded = new AddressBook(storage.readAddressBook().get());
+        reloaded.addPerson(IDA);
+        storage.saveAddressBook(reloaded);
+
+        assertEquals(2, Files.readAllLines(journalFilePath).size());
+        assertEquals(reloaded, new AddressBook(readFromNewStorage()));
+    }
+
+    @Test
+    public void saveAddressBook_thresholdReached_journalCompacted() throws Exception {
+        JournaledAddressBookStorage storage = createStorage();
+        AddressBook original = new AddressBook();
+        storage.saveAddressBook(original);
+
+        for (int i = 0; i < COMPACTION_THRESHOLD; i++) {
+            original.addPerson(new PersonBuilder().withName("Person " + (char) ('A' + i)).build());
+            storage.saveAddressBook(original);
+        }
+
+        // only the base entry remains once the snapshot has been rewritten
+        assertEquals(1, Files.readAllLines(journalFilePath).size());
+        assertEquals(original, new AddressBook(readFromNewStorage()));
+    }
+
+    @Test
+    public void readAddressBook_journalOfOlderSnapshot_journalIgnored() throws Exception {
+        JournaledAddressBookStorage storage = createStorage();
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        // a compaction that wrote the snapshot but was interrupted before restarting the journal
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        assertEquals(original, new AddressBook(readFromNewStorage()));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastEntry_entryDropped() throws Exception {
+        JournaledAddressBookStorage storage = createStorage();
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        AddressBook expected = new AddressBook(original);
+
+        Files.write(journalFilePath, "{\"op\":\"insert\",\"ind".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        JournaledAddressBookStorage reopened = createStorage();
+        AddressBook reloaded = new AddressBook(reopened.readAddressBook().get());
+        assertEquals(expected, reloaded);
+
+        // later entries must not be appended to the incomplete line
+        reloaded.addPerson(IDA);
+        reopened.saveAddressBook(reloaded);
+        assertEquals(reloaded, new AddressBook(readFromNewStorage()));
+    }
+
+    @Test
+    public void saveAddressBook_afterReadWithoutJournal_snapshotRewritten() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        JournaledAddressBookStorage storage = createStorage();
+        AddressBook reloaded = new AddressBook(storage.readAddressBook().get());
+        reloaded.addPerson(IDA);
+        storage.saveAddressBook(reloaded);
+
+        assertEquals(1, Files.readAllLines(journalFilePath).size());
+        assertEquals(reloaded, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_entryOutOfRange_throwsDataLoadingException() throws Exception {
+        JournaledAddressBookStorage storage = createStorage();
+        storage.saveAddressBook(new AddressBook());
+        Files.write(journalFilePath, "{\"op\":\"remove\",\"index\":3}\n".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        assertThrows(DataLoadingException.class, () -> createStorage().readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> createStorage().saveAddressBook(null));
+    }
+
+}
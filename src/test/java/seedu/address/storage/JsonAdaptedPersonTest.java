@@ -1,5 +1,6 @@
 package seedu.address.storage;
 
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.BENSON;
 
@@ -13,6 +14,7 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.Position;
 import seedu.address.model.person.Telegram;
@@ -44,6 +46,19 @@ public class JsonAdaptedPersonTest {
             .map(JsonAdaptedTask::new)
             .collect(Collectors.toList());
 
+    @Test
+    public void toModelType_equalValues_sharedInstances() throws Exception {
+        Person first = new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_TELEGRAM,
+                new String(VALID_POSITION), VALID_ADDRESS, List.of(new JsonAdaptedTag(new String("friends"))),
+                VALID_SKILLS, VALID_OTHERS, VALID_TASKS).toModelType();
+        Person second = new JsonAdaptedPerson("Other Name", VALID_PHONE, VALID_EMAIL, VALID_TELEGRAM,
+                new String(VALID_POSITION), VALID_ADDRESS, List.of(new JsonAdaptedTag(new String("friends"))),
+                VALID_SKILLS, VALID_OTHERS, VALID_TASKS).toModelType();
+
+        assertSame(first.getPosition(), second.getPosition());
+        assertSame(first.getTags().iterator().next(), second.getTags().iterator().next());
+    }
+
     @Test
     public void toModelType_invalidName_throwsIllegalValueException() {
         JsonAdaptedPerson person =
@@ -9,15 +9,23 @@ import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import jdk.jfr.consumer.RecordedEvent;
+import seedu.address.commons.events.FlightRecorderEvents;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.AtomicFileWriter;
+import seedu.address.commons.util.FsyncPolicy;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.testutil.FlightRecording;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -86,6 +94,77 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void readAndSaveAddressBook_flightRecorderEventsEnabled_eventsRecorded() throws Throwable {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        int personCount = getTypicalAddressBook().getPersonList().size();
+
+        FlightRecorderEvents.setEnabled(true);
+        List<RecordedEvent> events;
+        try {
+            events = FlightRecording.record(testFolder, () -> {
+                jsonAddressBookStorage.saveAddressBook(getTypicalAddressBook());
+                jsonAddressBookStorage.readAddressBook();
+                assertThrows(DataLoadingException.class, () -> readAddressBook("notJsonFormatAddressBook.json"));
+            });
+        } finally {
+            FlightRecorderEvents.setEnabled(false);
+        }
+
+        long fileSize = Files.size(filePath);
+        List<RecordedEvent> saves = FlightRecording.named(events, "AddressBookSaved");
+        assertEquals(1, saves.size());
+        assertEquals(personCount, saves.get(0).getInt("persons"));
+        assertEquals(fileSize, saves.get(0).getLong("bytes"));
+        List<RecordedEvent> reads = FlightRecording.named(events, "AddressBookRead");
+        assertEquals(2, reads.size());
+        assertEquals(personCount, reads.get(0).getInt("persons"));
+        assertEquals(fileSize, reads.get(0).getLong("bytes"));
+        assertEquals(-1, reads.get(1).getInt("persons"));
+    }
+
+    @Test
+    public void saveAddressBook_defaultFormat_sameAsJsonUtil() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(original)), Files.readString(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_compactFormat_singleLineReadBack() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath, true,
+                new AtomicFileWriter(FsyncPolicy.NEVER, 0));
+        jsonAddressBookStorage.saveAddressBook(original);
+
+        assertEquals(1, Files.readAllLines(filePath).size());
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+
+        // a shorter address book overwrites the whole of the longer file
+        original.removePerson(ALICE);
+        jsonAddressBookStorage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_existingFile_previousAddressBookReadableFromBackup() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(original);
+        AddressBook previous = new AddressBook(original);
+        original.addPerson(HOON);
+        jsonAddressBookStorage.saveAddressBook(original);
+
+        ReadOnlyAddressBook backup = jsonAddressBookStorage
+                .readAddressBook(AtomicFileWriter.getBackupPath(filePath)).get();
+        assertEquals(previous, new AddressBook(backup));
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
@@ -3,10 +3,14 @@ package seedu.address.storage;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.core.JsonParser;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
@@ -20,6 +24,9 @@ public class JsonSerializableAddressBookTest {
     private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
     private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void toModelType_typicalPersonsFile_success() throws Exception {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(TYPICAL_PERSONS_FILE,
@@ -44,4 +51,42 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void readAddressBook_typicalPersonsFile_success() throws Exception {
+        assertEquals(TypicalPersons.getTypicalAddressBook(), readAddressBook(TYPICAL_PERSONS_FILE));
+    }
+
+    @Test
+    public void readAddressBook_invalidPersonFile_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> readAddressBook(INVALID_PERSON_FILE));
+    }
+
+    @Test
+    public void readAddressBook_duplicatePersons_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                readAddressBook(DUPLICATE_PERSON_FILE));
+    }
+
+    @Test
+    public void readAddressBook_unknownFields_skipped() throws Exception {
+        Path file = testFolder.resolve("unknownFields.json");
+        Files.writeString(file, "{ \"version\" : { \"major\" : [ 1, 2 ] }, "
+                + Files.readString(TYPICAL_PERSONS_FILE).trim().substring(1));
+        assertEquals(TypicalPersons.getTypicalAddressBook(), readAddressBook(file));
+    }
+
+    @Test
+    public void readAddressBook_personsNotArray_throwsIllegalValueException() throws Exception {
+        Path file = testFolder.resolve("personsNotArray.json");
+        Files.writeString(file, "{ \"persons\" : { } }");
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_INVALID_FORMAT, () ->
+                readAddressBook(file));
+    }
+
+    private static AddressBook readAddressBook(Path file) throws Exception {
+        try (JsonParser parser = JsonUtil.createParser(file)) {
+            return JsonSerializableAddressBook.readAddressBook(parser);
+        }
+    }
+
 }
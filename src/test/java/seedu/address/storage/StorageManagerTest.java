@@ -1,9 +1,14 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.io.IOException;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -65,4 +70,121 @@ public class StorageManagerTest {
         assertNotNull(storageManager.getAddressBookFilePath());
     }
 
+    @Test
+    public void constructor_negativeWriteDelay_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new StorageManager(
+                new JsonAddressBookStorage(getTempFilePath("ab")), new JsonUserPrefsStorage(getTempFilePath("prefs")),
+                -1));
+    }
+
+    @Test
+    public void saveAddressBook_writeBehind_savesCoalescedUntilFlush() throws Exception {
+        CountingAddressBookStorage addressBookStorage = new CountingAddressBookStorage(getTempFilePath("ab"));
+        StorageManager writeBehindStorage = createWriteBehindStorage(addressBookStorage);
+
+        AddressBook original = getTypicalAddressBook();
+        writeBehindStorage.saveAddressBook(original);
+        original.addPerson(HOON);
+        writeBehindStorage.saveAddressBook(original);
+        AddressBook expected = new AddressBook(original);
+        original.addPerson(IDA);
+
+        assertFalse(writeBehindStorage.readAddressBook().isPresent());
+
+        writeBehindStorage.flushAddressBook();
+        assertEquals(1, addressBookStorage.saveCount);
+        // the write holds the address book as it was when last saved, not as it is now
+        assertEquals(expected, new AddressBook(writeBehindStorage.readAddressBook().get()));
+
+        writeBehindStorage.flushAddressBook();
+        assertEquals(1, addressBookStorage.saveCount);
+    }
+
+    @Test
+    public void saveAddressBook_earlierWriteBehindFailed_throwsIoException() throws Exception {
+        CountingAddressBookStorage addressBookStorage = new CountingAddressBookStorage(getTempFilePath("ab"));
+        addressBookStorage.failure = new IOException("disk full");
+        StorageManager writeBehindStorage = createWriteBehindStorage(addressBookStorage);
+
+        writeBehindStorage.saveAddressBook(getTypicalAddressBook());
+        assertThrows(IOException.class, "disk full", writeBehindStorage::flushAddressBook);
+
+        // the failure is reported once, the failed save is retried, and later saves are still attempted
+        addressBookStorage.failure = null;
+        writeBehindStorage.checkAddressBookSaved();
+        writeBehindStorage.flushAddressBook();
+        assertEquals(2, addressBookStorage.saveCount);
+        assertEquals(getTypicalAddressBook(), new AddressBook(writeBehindStorage.readAddressBook().get()));
+        writeBehindStorage.saveAddressBook(getTypicalAddressBook());
+        writeBehindStorage.flushAddressBook();
+        assertEquals(3, addressBookStorage.saveCount);
+    }
+
+    @Test
+    public void checkAddressBookSaved_writeBehindFailed_throwsIoExceptionOnce() throws Exception {
+        CountingAddressBookStorage addressBookStorage = new CountingAddressBookStorage(getTempFilePath("ab"));
+        StorageManager writeBehindStorage = createWriteBehindStorage(addressBookStorage);
+        writeBehindStorage.checkAddressBookSaved();
+
+        addressBookStorage.failure = new IOException("disk full");
+        writeBehindStorage.saveAddressBook(getTypicalAddressBook());
+        // the failure of a background write only shows when the write happens
+        writeBehindStorage.checkAddressBookSaved();
+        assertThrows(IOException.class, "disk full", writeBehindStorage::flushAddressBook);
+        addressBookStorage.failure = null;
+        writeBehindStorage.checkAddressBookSaved();
+    }
+
+    @Test
+    public void checkAddressBookSaved_failedWriteNotFlushed_throwsIoExceptionAndRetries() throws Exception {
+        CountingAddressBookStorage addressBookStorage = new CountingAddressBookStorage(getTempFilePath("ab"));
+        addressBookStorage.failure = new IOException("disk full");
+        StorageManager writeBehindStorage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), 1);
+
+        writeBehindStorage.saveAddressBook(getTypicalAddressBook());
+        IOException reportedFailure = null;
+        while (reportedFailure == null) {
+            try {
+                writeBehindStorage.checkAddressBookSaved();
+                Thread.sleep(1);
+            } catch (IOException e) {
+                reportedFailure = e;
+            }
+        }
+        assertEquals("disk full", reportedFailure.getMessage());
+        addressBookStorage.failure = null;
+
+        // the retry scheduled by the check writes the failed save
+        writeBehindStorage.flushAddressBook();
+        assertEquals(getTypicalAddressBook(), new AddressBook(writeBehindStorage.readAddressBook().get()));
+    }
+
+    private StorageManager createWriteBehindStorage(AddressBookStorage addressBookStorage) {
+        // a delay long enough that only explicit flushes write during the test
+        return new StorageManager(addressBookStorage, new JsonUserPrefsStorage(getTempFilePath("prefs")),
+                Long.MAX_VALUE / 2);
+    }
+
+    /**
+     * A {@code JsonAddressBookStorage} that counts its saves and can be made to fail them.
+     */
+    private static class CountingAddressBookStorage extends JsonAddressBookStorage {
+        private volatile int saveCount;
+        private volatile IOException failure;
+
+        CountingAddressBookStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            saveCount++;
+            if (failure != null) {
+                throw failure;
+            }
+            super.saveAddressBook(addressBook, filePath);
+        }
+    }
+
 }
@@ -0,0 +1,49 @@
+package seedu.address.testutil;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.function.Executable;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Records the app's Flight Recorder events emitted while running some code, for tests.
+ */
+public class FlightRecording {
+
+    private static final String EVENT_NAME_PREFIX = "seedu.address.";
+
+    /**
+     * Runs {@code executable} while recording, and returns the app's events that were recorded, in the order
+     * they were committed. The recording is written to a file in {@code folder}.
+     */
+    public static List<RecordedEvent> record(Path folder, Executable executable) throws Throwable {
+        Path file = folder.resolve("recording.jfr");
+        try (Recording recording = new Recording()) {
+            for (String name : List.of("CommandExecuted", "AddressBookRead", "AddressBookSaved",
+                    "PersonFilterUpdated")) {
+                recording.enable(EVENT_NAME_PREFIX + name).withoutThreshold();
+            }
+            recording.start();
+            executable.execute();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().startsWith(EVENT_NAME_PREFIX))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the events among {@code events} with the given name, without the {@code seedu.address.} prefix.
+     */
+    public static List<RecordedEvent> named(List<RecordedEvent> events, String name) {
+        return events.stream()
+                .filter(event -> event.getEventType().getName().equals(EVENT_NAME_PREFIX + name))
+                .collect(Collectors.toList());
+    }
+}